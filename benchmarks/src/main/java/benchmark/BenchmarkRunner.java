@@ -0,0 +1,34 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs the benchmarks with the GC profiler, so every result also has the allocation
+// rate per operation and the GC time, and the peak heap profiler. The results are
+// written as JSON to compare against later runs.
+// Any JMH command line options can be given, such as a pattern of benchmarks to run
+// or -p cards=1000 to only run one board shape.
+public class BenchmarkRunner {
+    private static final String RESULT_FILE = "target/jmh-result.json";
+
+    // EFFECTS: runs the benchmarks selected by the command line options, or all of them
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .addProfiler(PeakHeapProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(commandLineOptions.getResult().orElse(RESULT_FILE))
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import model.Card;
+import model.Column;
+import model.EventLog;
+import model.KanbanBoard;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tools.WorkspaceGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// This class holds a kanban board of a given shape, generated from the same seed for
+// every run so that results can be compared across releases. The board is generated
+// again before every iteration, so benchmarks which add cards do not grow it forever.
+@State(Scope.Benchmark)
+public class BoardState {
+    private static final long SEED = 42;
+
+    @Param({"4", "16"})
+    public int columns;
+
+    @Param({"1000", "100000"})
+    public int cards;
+
+    @Param({"2", "8"})
+    public int tagsPerCard;
+
+    public WorkspaceGenerator generator;
+    public KanbanBoard board;
+    public List<Card> boardCards;
+
+    // The tag searched for by the query benchmarks, which is on some but not all cards
+    public Set<String> queryKeywords;
+
+    // MODIFIES: this
+    // EFFECTS: generates the board, with most of its cards in the first columns
+    @Setup(Level.Iteration)
+    public void buildBoard() {
+        generator = new WorkspaceGenerator(SEED, columns, cards, tagsPerCard);
+        board = generator.generateBoard();
+        boardCards = new ArrayList<>(cards);
+        queryKeywords = Set.of("tag7");
+
+        for (Column column : board.getColumns()) {
+            boardCards.addAll(column.getCards());
+        }
+
+        EventLog.getInstance().clear();
+    }
+
+    // MODIFIES: EventLog
+    // EFFECTS: drops the events logged by the iteration, which would otherwise fill the heap
+    @TearDown(Level.Iteration)
+    public void clearEventLog() {
+        EventLog.getInstance().clear();
+    }
+}
@@ -0,0 +1,104 @@
+package benchmark;
+
+import model.Card;
+import model.Column;
+import model.KanbanBoard;
+import model.exceptions.NegativeStoryPointsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Benchmarks for the operations which change the cards of a board and the
+// story point aggregates read after every change.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ColumnBenchmark {
+    private int nextCard;
+
+    // MODIFIES: this
+    // EFFECTS: restarts the sequence of cards used by the benchmarks
+    @Setup(Level.Iteration)
+    public void setup() {
+        nextCard = 0;
+    }
+
+    // EFFECTS: returns the next card of the board, going through them in order
+    private Card nextCard(BoardState state) {
+        Card card = state.boardCards.get(nextCard);
+        nextCard = (nextCard + 1) % state.boardCards.size();
+        return card;
+    }
+
+    @Benchmark
+    public Card addCard(BoardState state) {
+        Card card = state.generator.generateCard();
+        state.board.getColumn(0).addCard(card);
+        return card;
+    }
+
+    @Benchmark
+    public Card moveCard(BoardState state) {
+        Card card = nextCard(state);
+        KanbanBoard board = state.board;
+        int nextColumn = (board.getColumns().indexOf(card.getContainingColumn()) + 1) % board.getColumnCount();
+
+        board.moveCard(card, board.getColumn(nextColumn));
+        return card;
+    }
+
+    @Benchmark
+    public int columnTotalStoryPoints(BoardState state) {
+        return state.board.getColumn(0).getTotalStoryPoints();
+    }
+
+    @Benchmark
+    public int boardTotalStoryPoints(BoardState state) {
+        return state.board.getTotalStoryPoints();
+    }
+
+    @Benchmark
+    public int boardCompletedStoryPoints(BoardState state) {
+        return state.board.getCompletedStoryPoints();
+    }
+
+    @Benchmark
+    public int boardCardCount(BoardState state) {
+        return state.board.getCardCount(false);
+    }
+
+    // Changing a card discards the cached aggregates, so this measures rebuilding them
+    @Benchmark
+    public int boardTotalStoryPointsAfterChange(BoardState state) throws NegativeStoryPointsException {
+        Card card = nextCard(state);
+
+        card.setStoryPoints(card.getStoryPoints() ^ 1);
+        return state.board.getTotalStoryPoints();
+    }
+
+    // EFFECTS: returns the column of the board holding the most cards
+    static Column getLargestColumn(KanbanBoard board) {
+        Column largest = board.getColumn(0);
+
+        for (Column column : board.getColumns()) {
+            if (column.getCards().size() > largest.getCards().size()) {
+                largest = column;
+            }
+        }
+
+        return largest;
+    }
+}
@@ -0,0 +1,168 @@
+package benchmark;
+
+import model.Card;
+import model.CardQuery;
+import model.CardSnapshot;
+import model.CardType;
+import model.EventLog;
+import model.KanbanBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.WorkspaceGenerator;
+import ui.graphical.ColumnsScrollPane;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Benchmarks for displaying a board, run without a screen. Each call is handed to the
+// event dispatch thread and waited for, like a user action would be, and the pane is
+// painted into an image at the size it has in the board menu. Sample time mode reports
+// percentiles of the time each call took, so that the occasional slow call shows up.
+// The pane is measured on its own since the board menu is a window, which needs a screen.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ColumnsScrollPaneBenchmark {
+    private static final long SEED = 42;
+    private static final int TAGS_PER_CARD = 3;
+    private static final Dimension PANE_DIMENSIONS = new Dimension(1000, 600);
+    private static final int SCROLL_STEP = 250;
+
+    @Param({"8", "64"})
+    public int columns;
+
+    @Param({"10000", "100000"})
+    public int cards;
+
+    private KanbanBoard board;
+    private ColumnsScrollPane pane;
+    private BufferedImage image;
+    private Set<Card> searchMatches;
+    private boolean searching;
+
+    // MODIFIES: this
+    // EFFECTS: generates the board and displays it in a laid out pane
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException, InvocationTargetException {
+        board = new WorkspaceGenerator(SEED, columns, cards, TAGS_PER_CARD).generateBoard();
+        image = new BufferedImage(PANE_DIMENSIONS.width, PANE_DIMENSIONS.height, BufferedImage.TYPE_INT_RGB);
+        searchMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (CardSnapshot match : new CardQuery("tag1").findMatches(board.snapshot())) {
+            searchMatches.add(match.getCard());
+        }
+
+        SwingUtilities.invokeAndWait(() -> pane = createPane());
+    }
+
+    // MODIFIES: EventLog
+    // EFFECTS: drops the events logged by the iteration
+    @TearDown(Level.Iteration)
+    public void clearEventLog() {
+        EventLog.getInstance().clear();
+    }
+
+    // EFFECTS: creates a pane for the board at the size it has in the board menu and lays it out
+    private ColumnsScrollPane createPane() {
+        ColumnsScrollPane newPane = new ColumnsScrollPane(board);
+
+        newPane.setSize(PANE_DIMENSIONS);
+        newPane.addNotify();
+        newPane.validate();
+
+        return newPane;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: paints the pane into the image
+    private void paint(JComponent component) {
+        Graphics2D graphics = image.createGraphics();
+
+        try {
+            component.paint(graphics);
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    // EFFECTS: runs the action on the event dispatch thread and waits for it to finish
+    private static void onEventDispatchThread(Runnable action)
+            throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(action);
+    }
+
+    @Benchmark
+    public void syncAll() throws InterruptedException, InvocationTargetException {
+        onEventDispatchThread(() -> pane.syncAll());
+    }
+
+    // Creating, laying out and painting a pane is what opening a board does
+    @Benchmark
+    public void firstPaint() throws InterruptedException, InvocationTargetException {
+        onEventDispatchThread(() -> {
+            ColumnsScrollPane newPane = createPane();
+
+            paint(newPane);
+            newPane.removeNotify();
+        });
+    }
+
+    @Benchmark
+    public void repaint() throws InterruptedException, InvocationTargetException {
+        onEventDispatchThread(() -> paint(pane));
+    }
+
+    // Scrolls by a column, wrapping around at the end, which binds and recycles column views
+    @Benchmark
+    public void scrollRepaint() throws InterruptedException, InvocationTargetException {
+        onEventDispatchThread(() -> {
+            JScrollBar scrollBar = pane.getHorizontalScrollBar();
+            int next = scrollBar.getValue() + SCROLL_STEP;
+
+            scrollBar.setValue(next > scrollBar.getMaximum() - scrollBar.getVisibleAmount() ? 0 : next);
+            pane.validate();
+            paint(pane);
+        });
+    }
+
+    // Alternates between showing the matches of a search and every card
+    @Benchmark
+    public void searchFilter() throws InterruptedException, InvocationTargetException {
+        onEventDispatchThread(() -> {
+            searching = !searching;
+            pane.setSearchMatches(searching ? searchMatches : null);
+            paint(pane);
+        });
+    }
+
+    // Alternates between filtering by type and not filtering, like the filter button
+    @Benchmark
+    public void typeFilter() throws InterruptedException, InvocationTargetException {
+        onEventDispatchThread(() -> {
+            searching = !searching;
+            pane.setFilteringGetter(searching ? column -> column.getCardsOfType(CardType.ISSUE) : null);
+            pane.syncAll();
+            paint(pane);
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package benchmark;
+
+import model.KanbanBoardList;
+import model.exceptions.CorruptedSaveDataException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.KanbanJsonReader;
+import persistence.KanbanJsonWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+// Benchmarks for loading and saving whole save files end to end. Every call reads or
+// writes a full file, so each one is timed on its own. Run with the GC and peak heap
+// profilers (as BenchmarkRunner does) for the allocations, GC time and heap needed.
+// The largest files need a heap several times their size to be read.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g"})
+public class PersistenceBenchmark {
+
+    @Benchmark
+    public KanbanBoardList readBoards(PersistenceState state) throws IOException, CorruptedSaveDataException {
+        return new KanbanJsonReader(state.saveFile.toString()).read();
+    }
+
+    // Only reads and parses the file, as a baseline for how much of reading is building the boards
+    @Benchmark
+    public JSONObject parseJsonOnly(PersistenceState state) throws IOException {
+        return new JSONObject(new String(Files.readAllBytes(state.saveFile), StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void writeBoards(PersistenceState state) throws IOException {
+        KanbanJsonWriter writer = new KanbanJsonWriter(state.outputFile.toString());
+
+        writer.open();
+        writer.writeBoards(state.boards);
+        writer.close();
+    }
+
+    // Writing a snapshot is what the app does when saving in the background
+    @Benchmark
+    public void writeBoardsSnapshot(PersistenceState state) throws IOException {
+        KanbanJsonWriter writer = new KanbanJsonWriter(state.outputFile.toString());
+
+        writer.open();
+        writer.writeBoards(state.boards.snapshot());
+        writer.close();
+    }
+}
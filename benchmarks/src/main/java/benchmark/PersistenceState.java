@@ -0,0 +1,63 @@
+package benchmark;
+
+import model.EventLog;
+import model.KanbanBoardList;
+import model.exceptions.CorruptedSaveDataException;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import persistence.KanbanJsonReader;
+import tools.WorkspaceGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// This class holds a generated save file of a given size and the boards read from it.
+// Save files are kept in target/saves and only generated again if they are missing,
+// so delete them after changing how they are generated.
+@State(Scope.Benchmark)
+public class PersistenceState {
+    private static final Path SAVES_DIRECTORY = Paths.get("target", "saves");
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final long SEED = 42;
+    private static final int COLUMNS_PER_BOARD = 6;
+    private static final int CARDS_PER_BOARD = 500;
+    private static final int TAGS_PER_CARD = 3;
+
+    @Param({"1", "16", "128", "1024"})
+    public int sizeMegabytes;
+
+    public Path saveFile;
+    public Path outputFile;
+    public KanbanBoardList boards;
+
+    // MODIFIES: this
+    // EFFECTS: generates the save file if needed and reads the boards the save benchmarks write
+    @Setup(Level.Trial)
+    public void setup() throws IOException, CorruptedSaveDataException {
+        Files.createDirectories(SAVES_DIRECTORY);
+
+        saveFile = SAVES_DIRECTORY.resolve("save-" + sizeMegabytes + "MB.json");
+        outputFile = SAVES_DIRECTORY.resolve("output-" + sizeMegabytes + "MB.json");
+
+        if (!Files.exists(saveFile)) {
+            WorkspaceGenerator generator = new WorkspaceGenerator(SEED, COLUMNS_PER_BOARD, CARDS_PER_BOARD, TAGS_PER_CARD);
+            generator.writeBoardsOfSize(saveFile, sizeMegabytes * BYTES_PER_MEGABYTE);
+        }
+
+        boards = new KanbanJsonReader(saveFile.toString()).read();
+        EventLog.getInstance().clear();
+    }
+
+    // MODIFIES: EventLog
+    // EFFECTS: drops the events logged by the iteration
+    @TearDown(Level.Iteration)
+    public void clearEventLog() {
+        EventLog.getInstance().clear();
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark;
+
+import model.Card;
+import model.CardQuery;
+import model.CardSnapshot;
+import model.CardType;
+import model.EventLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Benchmarks for searching the cards of a column or board. Keyword queries log an
+// event for every card they score, so the event log is cleared after every call
+// rather than after every iteration, which is fine at the cost of these calls.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class QueryBenchmark {
+    private final CardQuery liveQuery = new CardQuery("tag7 card");
+
+    // MODIFIES: EventLog
+    // EFFECTS: drops the events logged by the call
+    @TearDown(Level.Invocation)
+    public void clearEventLog() {
+        EventLog.getInstance().clear();
+    }
+
+    @Benchmark
+    public List<Card> getCardsWithQuery(BoardState state) {
+        return ColumnBenchmark.getLargestColumn(state.board).getCardsWithQuery(state.queryKeywords);
+    }
+
+    @Benchmark
+    public List<Card> getCardsOfType(BoardState state) {
+        return ColumnBenchmark.getLargestColumn(state.board).getCardsOfType(CardType.ISSUE);
+    }
+
+    // The search behind the search field of the board menu
+    @Benchmark
+    public List<CardSnapshot> findMatchesInBoard(BoardState state) {
+        return liveQuery.findMatches(state.board.snapshot());
+    }
+}
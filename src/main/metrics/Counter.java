@@ -0,0 +1,38 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// This class represents a count of how many times something has happened.
+// The count is striped across threads, so incrementing it from many threads
+// at once does not make them contend on a single value.
+public class Counter {
+    private final String name;
+    private final LongAdder count;
+
+    // EFFECTS: creates a counter with the name and a count of zero
+    public Counter(String name) {
+        this.name = name;
+        this.count = new LongAdder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds one to the count
+    public void increment() {
+        count.increment();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds amount to the count
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    // EFFECTS: returns the count, which may miss increments made while it is read
+    public long getCount() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,46 @@
+package metrics;
+
+import java.util.function.LongSupplier;
+
+// This class represents a value that is read whenever the metrics are, such as the
+// size of something or the duration of the last time something was done. A gauge
+// either holds the last value set or reads it from a supplier.
+public class Gauge {
+    private final String name;
+    private final LongSupplier supplier;
+
+    private volatile long value;
+
+    // EFFECTS: creates a gauge with the name holding a value of zero
+    public Gauge(String name) {
+        this.name = name;
+        this.supplier = null;
+        this.value = 0;
+    }
+
+    // EFFECTS: creates a gauge with the name whose value is read from the supplier
+    public Gauge(String name, LongSupplier supplier) {
+        this.name = name;
+        this.supplier = supplier;
+        this.value = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the value of this gauge, does nothing if it reads its value from a supplier
+    public void set(long value) {
+        if (supplier != null) {
+            return;
+        }
+
+        this.value = value;
+    }
+
+    // EFFECTS: returns the current value
+    public long getValue() {
+        return supplier == null ? value : supplier.getAsLong();
+    }
+}
@@ -0,0 +1,145 @@
+package metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// This class represents how long an operation took each time it was done. Durations
+// are counted in a fixed set of buckets which grow exponentially, with each power of
+// two split into SUB_BUCKETS buckets, so recording takes constant time and memory
+// however many durations are recorded, and percentiles are off by at most a
+// fraction 1 / SUB_BUCKETS of the real duration.
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final AtomicLong maxNanos;
+
+    // EFFECTS: creates a histogram with the name and no recorded durations
+    public LatencyHistogram(String name) {
+        this.name = name;
+        this.buckets = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new AtomicLong();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records a duration in nanoseconds, negative durations are recorded as zero
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+
+        buckets.incrementAndGet(getBucketIndex(duration));
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulateAndGet(duration, Math::max);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the time since startNanos, which was read from System.nanoTime()
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    // EFFECTS: returns the index of the bucket counting the duration
+    static int getBucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // EFFECTS: returns the largest duration counted by the bucket at the index
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    // EFFECTS: returns how many durations have been recorded
+    public long getCount() {
+        return count.sum();
+    }
+
+    // EFFECTS: returns the sum of every duration recorded in nanoseconds
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    // EFFECTS: returns the longest duration recorded in nanoseconds, or 0 if there are none
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    // EFFECTS: returns the mean duration in nanoseconds, or 0 if there are none
+    public double getMeanNanos() {
+        long currentCount = getCount();
+        return currentCount == 0 ? 0 : (double) totalNanos.sum() / currentCount;
+    }
+
+    // EFFECTS: returns the duration in nanoseconds which the fraction of recorded durations
+    //          are at most, rounded up to the end of its bucket, or 0 if there are none.
+    //          throws IllegalArgumentException if the fraction is not between 0 and 1
+    public long getPercentileNanos(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("A percentile has to be between 0 and 1");
+        }
+
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT && total > 0; i++) {
+            seen += counts[i];
+
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), getMaxNanos());
+            }
+        }
+
+        return 0;
+    }
+
+    // EFFECTS: returns a one line summary of the durations in milliseconds
+    public String getSummary() {
+        return String.format("count=%d mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms",
+                             getCount(),
+                             toMillis(getMeanNanos()),
+                             toMillis(getPercentileNanos(0.5)),
+                             toMillis(getPercentileNanos(0.9)),
+                             toMillis(getPercentileNanos(0.99)),
+                             toMillis(getMaxNanos()));
+    }
+
+    // EFFECTS: converts nanoseconds to milliseconds
+    private static double toMillis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
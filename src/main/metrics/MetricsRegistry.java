@@ -0,0 +1,108 @@
+package metrics;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+// Represents the counters, gauges and latency histograms of the app, found by name.
+// The app records into a single registry (Singleton Design Pattern), and code on
+// hot paths should look its metrics up once and keep them in a field.
+public class MetricsRegistry {
+    private static volatile MetricsRegistry theRegistry;
+
+    private final Map<String, Counter> counters;
+    private final Map<String, Gauge> gauges;
+    private final Map<String, LatencyHistogram> histograms;
+
+    // EFFECTS: creates a registry with no metrics, the app should use getInstance() instead
+    public MetricsRegistry() {
+        this.counters = new ConcurrentHashMap<>();
+        this.gauges = new ConcurrentHashMap<>();
+        this.histograms = new ConcurrentHashMap<>();
+    }
+
+    // EFFECTS: returns the registry of the app, creating it if it doesn't already exist
+    public static MetricsRegistry getInstance() {
+        if (theRegistry == null) {
+            synchronized (MetricsRegistry.class) {
+                if (theRegistry == null) {
+                    theRegistry = new MetricsRegistry();
+                }
+            }
+        }
+
+        return theRegistry;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the counter with the name, creating it if it doesn't already exist
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the gauge with the name holding the last value set,
+    //          creating it if it doesn't already exist
+    public Gauge gauge(String name) {
+        return gauges.computeIfAbsent(name, Gauge::new);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers a gauge with the name reading its value from the supplier and returns it,
+    //          replacing any gauge with the same name
+    public Gauge gauge(String name, LongSupplier supplier) {
+        Gauge gauge = new Gauge(name, supplier);
+        gauges.put(name, gauge);
+        return gauge;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the latency histogram with the name, creating it if it doesn't already exist
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    // EFFECTS: returns the counters sorted by name
+    public List<Counter> getCounters() {
+        return sortedByName(counters.values(), Counter::getName);
+    }
+
+    // EFFECTS: returns the gauges sorted by name
+    public List<Gauge> getGauges() {
+        return sortedByName(gauges.values(), Gauge::getName);
+    }
+
+    // EFFECTS: returns the latency histograms sorted by name
+    public List<LatencyHistogram> getHistograms() {
+        return sortedByName(histograms.values(), LatencyHistogram::getName);
+    }
+
+    // EFFECTS: returns the metrics sorted by the name given by getName
+    private static <T> List<T> sortedByName(Collection<T> metrics, Function<T, String> getName) {
+        return metrics.stream().sorted(Comparator.comparing(getName)).collect(Collectors.toList());
+    }
+
+    // EFFECTS: returns a report of the current value of every metric, one per line
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+
+        for (Counter counter : getCounters()) {
+            report.append(String.format("counter   %-32s %d%n", counter.getName(), counter.getCount()));
+        }
+
+        for (Gauge gauge : getGauges()) {
+            report.append(String.format("gauge     %-32s %d%n", gauge.getName(), gauge.getValue()));
+        }
+
+        for (LatencyHistogram histogram : getHistograms()) {
+            report.append(String.format("histogram %-32s %s%n", histogram.getName(), histogram.getSummary()));
+        }
+
+        return report.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// This class represents how long each source of stalls has blocked a thread, such as the
+// listeners which held up the event dispatch thread. Sources are ranked by the total time
+// they have stalled, so the ones costing users the most time come first.
+public class StallRanking {
+    private final Map<String, LatencyHistogram> sources;
+
+    // EFFECTS: creates a ranking with no stalls
+    public StallRanking() {
+        this.sources = new ConcurrentHashMap<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records a stall of the source lasting nanos nanoseconds
+    public void record(String source, long nanos) {
+        sources.computeIfAbsent(source, LatencyHistogram::new).record(nanos);
+    }
+
+    // EFFECTS: returns the stalls of every source, named after the source, from the
+    //          longest total stall time to the shortest
+    public List<LatencyHistogram> getRanking() {
+        List<LatencyHistogram> ranking = new ArrayList<>(sources.values());
+        ranking.sort(Comparator.comparingLong(LatencyHistogram::getTotalNanos).reversed()
+                             .thenComparing(LatencyHistogram::getName));
+        return ranking;
+    }
+
+    // EFFECTS: returns whether no stalls have been recorded
+    public boolean isEmpty() {
+        return sources.isEmpty();
+    }
+
+    // EFFECTS: returns a report of the ranking with the total time and durations of each source, one per line
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        int rank = 1;
+
+        for (LatencyHistogram source : getRanking()) {
+            report.append(String.format("%d. %s total=%.3fms %s%n",
+                                        rank++,
+                                        source.getName(),
+                                        source.getTotalNanos() / 1e6,
+                                        source.getSummary()));
+        }
+
+        return report.toString();
+    }
+}
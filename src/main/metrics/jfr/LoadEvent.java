@@ -0,0 +1,50 @@
+package metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+
+// This class represents a JDK Flight Recorder event for loading the boards of a save file.
+// Its fields are only filled in when the event is recorded, so it costs next to nothing
+// while no recording is running.
+@Name("janban.Load")
+@Label("Load Boards")
+@Category("Janban")
+@Description("Boards read from a save file")
+public class LoadEvent extends jdk.jfr.Event {
+    @Label("File")
+    private String file;
+
+    @Label("Board Count")
+    private int boardCount;
+
+    @Label("Card Count")
+    private int cardCount;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    private long bytes;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and records it for the boards read from the file if it is being recorded
+    public void record(String file, KanbanBoardList boards, long bytes) {
+        end();
+
+        if (shouldCommit()) {
+            this.file = file;
+            this.boardCount = boards.size();
+            this.cardCount = 0;
+            this.bytes = bytes;
+
+            for (KanbanBoard board : boards.getBoards()) {
+                this.cardCount += board.getCardCount(true);
+            }
+
+            commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import model.Card;
+import model.Column;
+import model.KanbanBoard;
+
+// This class represents a JDK Flight Recorder event for moving a card to another column,
+// including the time spent waiting for the locks of both columns. Only moves slower than
+// the threshold are recorded by default.
+@Name("janban.MoveCard")
+@Label("Move Card")
+@Category("Janban")
+@Description("Card moved to another column of its board")
+@Threshold("1 ms")
+public class MoveCardEvent extends jdk.jfr.Event {
+    @Label("Board")
+    private String boardName;
+
+    @Label("Card")
+    private String cardTitle;
+
+    @Label("Column")
+    private String columnName;
+
+    @Label("Card Count")
+    @Description("Cards in the column after the move")
+    private int cardCount;
+
+    @Label("Conflict")
+    @Description("Whether the card had changed, so it was not moved")
+    private boolean conflict;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and records it for the card moved to the column if it is being recorded
+    public void record(KanbanBoard board, Card card, Column newColumn, boolean conflict) {
+        end();
+
+        if (shouldCommit()) {
+            this.boardName = board.getName();
+            this.cardTitle = card.getTitle();
+            this.columnName = newColumn.getName();
+            this.cardCount = newColumn.getCards().size();
+            this.conflict = conflict;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import model.Column;
+import model.KanbanBoard;
+
+import java.util.Set;
+
+// This class represents a JDK Flight Recorder event for searching the cards of a column
+// by keywords. Only searches slower than the threshold are recorded by default.
+@Name("janban.Query")
+@Label("Query Column")
+@Category("Janban")
+@Description("Cards of a column searched by keywords")
+@Threshold("1 ms")
+public class QueryEvent extends jdk.jfr.Event {
+    @Label("Board")
+    private String boardName;
+
+    @Label("Column")
+    private String columnName;
+
+    @Label("Keywords")
+    private String keywords;
+
+    @Label("Card Count")
+    private int cardCount;
+
+    @Label("Result Count")
+    private int resultCount;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and records it for the search of the column if it is being recorded
+    public void record(Column column, Set<String> keywords, int resultCount) {
+        end();
+
+        if (shouldCommit()) {
+            KanbanBoard board = column.getBoard();
+
+            this.boardName = board == null ? null : board.getName();
+            this.columnName = column.getName();
+            this.keywords = String.join(" ", keywords);
+            this.cardCount = column.getCards().size();
+            this.resultCount = resultCount;
+            commit();
+        }
+    }
+}
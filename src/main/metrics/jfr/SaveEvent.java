@@ -0,0 +1,69 @@
+package metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+import model.KanbanBoardListSnapshot;
+import model.KanbanBoardSnapshot;
+
+// This class represents a JDK Flight Recorder event for saving boards to a save file.
+// The size is the number of characters written, so it is not marked as an amount of
+// bytes since it differs from the file size once the boards contain text outside of ASCII.
+@Name("janban.Save")
+@Label("Save Boards")
+@Category("Janban")
+@Description("Boards written to a save file")
+public class SaveEvent extends jdk.jfr.Event {
+    @Label("File")
+    private String file;
+
+    @Label("Board Count")
+    private int boardCount;
+
+    @Label("Card Count")
+    private int cardCount;
+
+    @Label("Characters")
+    private long characters;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and records it for the boards written to the file if it is being recorded
+    public void record(String file, KanbanBoardListSnapshot boards, long characters) {
+        end();
+
+        if (shouldCommit()) {
+            this.file = file;
+            this.boardCount = boards.size();
+            this.cardCount = 0;
+            this.characters = characters;
+
+            for (KanbanBoardSnapshot board : boards.getBoards()) {
+                this.cardCount += board.getCardCount(true);
+            }
+
+            commit();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and records it for the boards written to the file if it is being recorded
+    public void record(String file, KanbanBoardList boards, long characters) {
+        end();
+
+        if (shouldCommit()) {
+            this.file = file;
+            this.boardCount = boards.size();
+            this.cardCount = 0;
+            this.characters = characters;
+
+            for (KanbanBoard board : boards.getBoards()) {
+                this.cardCount += board.getCardCount(true);
+            }
+
+            commit();
+        }
+    }
+}
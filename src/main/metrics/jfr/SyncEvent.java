@@ -0,0 +1,41 @@
+package metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import model.KanbanBoard;
+
+// This class represents a JDK Flight Recorder event for reloading every displayed column of
+// the board view on the event dispatch thread. Only syncs slower than the threshold are
+// recorded by default, since anything longer is noticeable to the user.
+@Name("janban.Sync")
+@Label("Sync Board View")
+@Category("Janban")
+@Description("Displayed columns of a board reloaded on the event dispatch thread")
+@Threshold("5 ms")
+public class SyncEvent extends jdk.jfr.Event {
+    @Label("Board")
+    private String boardName;
+
+    @Label("Column Count")
+    @Description("Columns displayed when the view was synced")
+    private int columnCount;
+
+    @Label("Card Count")
+    private int cardCount;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and records it for the displayed columns of the board if it is being recorded
+    public void record(KanbanBoard board, int columnCount) {
+        end();
+
+        if (shouldCommit()) {
+            this.boardName = board.getName();
+            this.columnCount = columnCount;
+            this.cardCount = board.getCardCount(true);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package metrics.jmx;
+
+import model.Card;
+import model.Column;
+import model.KanbanBoard;
+import model.ModelChangeListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// This class keeps the card and story point totals of each column of a board, listening
+// to the changes of the board so only the columns changed since they were last read are
+// counted again. Reading the totals of an unchanged board takes no lock and reads no card,
+// and a change costs the thread making it no more than marking its column as changed.
+final class BoardCounters implements ModelChangeListener {
+    private final KanbanBoard board;
+    private final Map<Column, ColumnCounts> counts;
+
+    // EFFECTS: creates counters of the board, which have to be added as a listener of the board
+    BoardCounters(KanbanBoard board) {
+        this.board = board;
+        this.counts = new ConcurrentHashMap<>();
+    }
+
+    // EFFECTS: returns the statistics of the board, counting again only the columns changed since last read
+    BoardStatistics getStatistics() {
+        Column completedColumn = board.getCompletedColumn();
+        List<Column> columns = board.getColumns();
+        int cardCount = 0;
+        int storyPoints = 0;
+        int completedCardCount = 0;
+        int completedStoryPoints = 0;
+
+        for (Column column : columns) {
+            ColumnCounts columnCounts = counts.computeIfAbsent(column, ColumnCounts::new).refresh();
+            cardCount += columnCounts.cardCount;
+            storyPoints += columnCounts.storyPoints;
+
+            if (column == completedColumn) {
+                completedCardCount = columnCounts.cardCount;
+                completedStoryPoints = columnCounts.storyPoints;
+            }
+        }
+
+        return new BoardStatistics(board.getName(), columns.size(), cardCount, completedCardCount,
+                                   storyPoints, completedStoryPoints, board.getEstimatedHeapBytes());
+    }
+
+    @Override
+    public void cardInserted(Column column, Card card, int index) {
+        markChanged(column);
+    }
+
+    @Override
+    public void cardRemoved(Column column, Card card, int index) {
+        markChanged(column);
+    }
+
+    @Override
+    public void cardChanged(Card card) {
+        markChanged(card.getContainingColumn());
+    }
+
+    @Override
+    public void cardsReplaced(Column column) {
+        markChanged(column);
+    }
+
+    @Override
+    public void columnRemoved(KanbanBoard board, Column column, int index) {
+        counts.remove(column);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the column to be counted again when it is next read, a column
+    //          which has not been read yet is counted when it first is
+    private void markChanged(Column column) {
+        ColumnCounts columnCounts = column != null ? counts.get(column) : null;
+
+        if (columnCounts != null) {
+            columnCounts.changed = true;
+        }
+    }
+
+    // This class holds the totals of one column as they were when it was last counted.
+    private static class ColumnCounts {
+        private final Column column;
+        private volatile boolean changed;
+        private volatile int cardCount;
+        private volatile int storyPoints;
+
+        // EFFECTS: creates totals of the column which are counted when first read
+        private ColumnCounts(Column column) {
+            this.column = column;
+            this.changed = true;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: counts the column again if it has changed since it was last counted and returns
+        //          this, a change made while counting marks it as changed again for the next read
+        private synchronized ColumnCounts refresh() {
+            if (changed) {
+                changed = false;
+                cardCount = column.getCards().size();
+                storyPoints = column.getTotalStoryPoints();
+            }
+
+            return this;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package metrics.jmx;
+
+import java.beans.ConstructorProperties;
+
+// This class represents the card and story point totals and estimated heap size of a
+// board at one moment, the same totals shown by the statistics popup of the board. JMX
+// shows it as a composite value with one item per getter.
+public final class BoardStatistics {
+    private final String name;
+    private final int columnCount;
+    private final int cardCount;
+    private final int completedCardCount;
+    private final int totalStoryPoints;
+    private final int completedStoryPoints;
+    private final long estimatedHeapBytes;
+
+    // EFFECTS: creates statistics with the given values, also used by JMX clients to rebuild them
+    @ConstructorProperties({"name", "columnCount", "cardCount", "completedCardCount",
+                            "totalStoryPoints", "completedStoryPoints", "estimatedHeapBytes"})
+    public BoardStatistics(String name, int columnCount, int cardCount, int completedCardCount,
+                           int totalStoryPoints, int completedStoryPoints, long estimatedHeapBytes) {
+        this.name = name;
+        this.columnCount = columnCount;
+        this.cardCount = cardCount;
+        this.completedCardCount = completedCardCount;
+        this.totalStoryPoints = totalStoryPoints;
+        this.completedStoryPoints = completedStoryPoints;
+        this.estimatedHeapBytes = estimatedHeapBytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    public int getCompletedCardCount() {
+        return completedCardCount;
+    }
+
+    public int getInProgressCardCount() {
+        return cardCount - completedCardCount;
+    }
+
+    public int getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public int getCompletedStoryPoints() {
+        return completedStoryPoints;
+    }
+
+    public int getInProgressStoryPoints() {
+        return totalStoryPoints - completedStoryPoints;
+    }
+
+    public long getEstimatedHeapBytes() {
+        return estimatedHeapBytes;
+    }
+}
@@ -0,0 +1,57 @@
+package metrics.jmx;
+
+import metrics.MetricsRegistry;
+import model.Event;
+import model.EventLog;
+import model.KanbanBoardList;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+// This class registers the metrics and board statistics of the app with an MBean server,
+// so a running app can be watched with JConsole or VisualVM.
+public class JmxExporter {
+    public static final String METRICS_NAME = "janban:type=Metrics";
+    public static final String WORKSPACE_NAME = "janban:type=Workspace";
+    public static final String HEAP_GAUGE = "workspace.estimatedHeapBytes";
+
+    // EFFECTS: cannot construct JmxExporter since this class is static
+    private JmxExporter() {
+    }
+
+    // MODIFIES: the platform MBean server
+    // EFFECTS: registers the metrics of the app and the statistics of the boards with the
+    //          platform MBean server, replacing those of any boards registered before.
+    //          Failing to register is logged, since the app works the same without it.
+    public static void register(KanbanBoardList boards) {
+        try {
+            register(ManagementFactory.getPlatformMBeanServer(), MetricsRegistry.getInstance(), boards);
+        } catch (JMException e) {
+            EventLog.getInstance().logEvent(new Event("Could not register JMX beans: " + e.getMessage()));
+        }
+    }
+
+    // MODIFIES: server, registry
+    // EFFECTS: registers the metrics of the registry and the statistics of the boards with
+    //          the server, replacing any beans already registered under the same names, and
+    //          adds a gauge of the estimated heap size of the boards to the registry
+    //          throws JMException if the beans cannot be registered
+    public static void register(MBeanServer server, MetricsRegistry registry, KanbanBoardList boards)
+            throws JMException {
+        replace(server, new ObjectName(METRICS_NAME), new Metrics(registry));
+        replace(server, new ObjectName(WORKSPACE_NAME), new Workspace(boards));
+        registry.gauge(HEAP_GAUGE, boards::getEstimatedHeapBytes);
+    }
+
+    // MODIFIES: server
+    // EFFECTS: registers the bean under the name, unregistering the bean already there
+    private static void replace(MBeanServer server, ObjectName name, Object bean) throws JMException {
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+
+        server.registerMBean(bean, name);
+    }
+}
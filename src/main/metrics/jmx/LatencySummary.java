@@ -0,0 +1,69 @@
+package metrics.jmx;
+
+import metrics.LatencyHistogram;
+
+import java.beans.ConstructorProperties;
+
+// This class represents the durations recorded by a latency histogram at one moment,
+// in milliseconds. JMX shows it as a composite value with one item per getter.
+public final class LatencySummary {
+    private final String name;
+    private final long count;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    // EFFECTS: creates a summary of the durations currently recorded by the histogram
+    public LatencySummary(LatencyHistogram histogram) {
+        this(histogram.getName(),
+             histogram.getCount(),
+             Metrics.toMillis(histogram.getMeanNanos()),
+             Metrics.toMillis(histogram.getPercentileNanos(0.5)),
+             Metrics.toMillis(histogram.getPercentileNanos(0.9)),
+             Metrics.toMillis(histogram.getPercentileNanos(0.99)),
+             Metrics.toMillis(histogram.getMaxNanos()));
+    }
+
+    // EFFECTS: creates a summary with the given values, used by JMX clients to rebuild it
+    @ConstructorProperties({"name", "count", "meanMillis", "p50Millis", "p90Millis", "p99Millis", "maxMillis"})
+    public LatencySummary(String name, long count, double meanMillis,
+                          double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+        this.name = name;
+        this.count = count;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
@@ -0,0 +1,74 @@
+package metrics.jmx;
+
+import metrics.Counter;
+import metrics.Gauge;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// This class exposes the counters, gauges and latency histograms of a metrics registry
+// over JMX. Metrics are only read when an attribute is, and reading never blocks.
+public class Metrics implements MetricsMXBean {
+    public static final String LAST_LOAD_GAUGE = "persistence.read.lastNanos";
+    public static final String LAST_SAVE_GAUGE = "persistence.write.lastNanos";
+
+    private final MetricsRegistry registry;
+
+    // EFFECTS: creates the management interface of the registry
+    public Metrics(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+
+        for (Counter counter : registry.getCounters()) {
+            counts.put(counter.getName(), counter.getCount());
+        }
+
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> values = new LinkedHashMap<>();
+
+        for (Gauge gauge : registry.getGauges()) {
+            values.put(gauge.getName(), gauge.getValue());
+        }
+
+        return values;
+    }
+
+    @Override
+    public List<LatencySummary> getLatencies() {
+        List<LatencySummary> latencies = new ArrayList<>();
+
+        for (LatencyHistogram histogram : registry.getHistograms()) {
+            latencies.add(new LatencySummary(histogram));
+        }
+
+        return latencies;
+    }
+
+    @Override
+    public double getLastLoadMillis() {
+        return toMillis(registry.gauge(LAST_LOAD_GAUGE).getValue());
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return toMillis(registry.gauge(LAST_SAVE_GAUGE).getValue());
+    }
+
+    // EFFECTS: converts nanoseconds to milliseconds
+    static double toMillis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
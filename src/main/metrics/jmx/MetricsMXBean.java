@@ -0,0 +1,24 @@
+package metrics.jmx;
+
+import java.util.List;
+import java.util.Map;
+
+// The management interface of the metrics registry, shown in JConsole or VisualVM
+// under janban:type=Metrics. Every attribute is read straight from the registry.
+public interface MetricsMXBean {
+
+    // EFFECTS: returns the count of every counter by name
+    Map<String, Long> getCounters();
+
+    // EFFECTS: returns the value of every gauge by name
+    Map<String, Long> getGauges();
+
+    // EFFECTS: returns a summary of every latency histogram, sorted by name
+    List<LatencySummary> getLatencies();
+
+    // EFFECTS: returns how long the last load from a save file took in milliseconds
+    double getLastLoadMillis();
+
+    // EFFECTS: returns how long the last save to a save file took in milliseconds
+    double getLastSaveMillis();
+}
@@ -0,0 +1,83 @@
+package metrics.jmx;
+
+import model.EventLog;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+
+import javax.management.MBeanRegistration;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// This class exposes the statistics of a list of boards over JMX. Each board is read
+// through counters kept up to date by its change events, so polling never snapshots a
+// board and only counts again the columns changed since the last poll. The counters
+// stop listening to the boards once this bean is unregistered.
+public class Workspace implements WorkspaceMXBean, MBeanRegistration {
+    private final KanbanBoardList boards;
+    private final Map<KanbanBoard, BoardCounters> counters;
+
+    // EFFECTS: creates the management interface of the boards
+    public Workspace(KanbanBoardList boards) {
+        this.boards = boards;
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public int getBoardCount() {
+        return boards.size();
+    }
+
+    @Override
+    public List<BoardStatistics> getBoards() {
+        List<BoardStatistics> statistics = new ArrayList<>();
+
+        for (KanbanBoard board : boards.getBoards()) {
+            statistics.add(counters.computeIfAbsent(board, this::listenTo).getStatistics());
+        }
+
+        return statistics;
+    }
+
+    @Override
+    public long getEstimatedHeapBytes() {
+        return boards.getEstimatedHeapBytes();
+    }
+
+    @Override
+    public int getEventLogSize() {
+        return EventLog.getInstance().size();
+    }
+
+    // MODIFIES: board
+    // EFFECTS: returns new counters of the board which listen to its changes
+    private BoardCounters listenTo(KanbanBoard board) {
+        BoardCounters boardCounters = new BoardCounters(board);
+        board.addListener(boardCounters);
+        return boardCounters;
+    }
+
+    @Override
+    public ObjectName preRegister(MBeanServer server, ObjectName name) {
+        return name;
+    }
+
+    @Override
+    public void postRegister(Boolean registrationDone) {
+    }
+
+    @Override
+    public void preDeregister() {
+    }
+
+    // MODIFIES: this, boards
+    // EFFECTS: stops the counters of every board from listening to its changes
+    @Override
+    public void postDeregister() {
+        counters.forEach((board, boardCounters) -> board.removeListener(boardCounters));
+        counters.clear();
+    }
+}
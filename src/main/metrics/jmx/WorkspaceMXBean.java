@@ -0,0 +1,22 @@
+package metrics.jmx;
+
+import java.util.List;
+
+// The management interface of the open boards, shown in JConsole or VisualVM under
+// janban:type=Workspace. Statistics are read from counters kept up to date by the
+// changes of the boards, never from the event dispatch thread, so polling them does
+// not slow down the app.
+public interface WorkspaceMXBean {
+
+    // EFFECTS: returns how many boards are open
+    int getBoardCount();
+
+    // EFFECTS: returns the statistics of every open board, in board order
+    List<BoardStatistics> getBoards();
+
+    // EFFECTS: returns an estimate of the bytes every open board and their shared strings take on the heap
+    long getEstimatedHeapBytes();
+
+    // EFFECTS: returns how many events are in the event log
+    int getEventLogSize();
+}
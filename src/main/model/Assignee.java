@@ -0,0 +1,42 @@
+package model;
+
+// This class represents the person a card is assigned to. Assignees are
+// handed out by a StringPool so every card assigned to the same person
+// within a kanban board list shares one Assignee instance.
+public final class Assignee {
+    private final String name;
+
+    // EFFECTS: constructs an assignee with the given name
+    Assignee(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // EFFECTS: returns whether other is an assignee with the same name, assignees
+    //          from the same pool are canonical so this is usually an identity check
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other == null || other.getClass() != this.getClass()) {
+            return false;
+        }
+
+        return name.equals(((Assignee) other).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
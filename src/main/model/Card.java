@@ -4,26 +4,41 @@ import model.exceptions.NegativeStoryPointsException;
 import org.json.JSONObject;
 import persistence.JsonSerializable;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 // This class represents the most basic unit of organization
 // within a Kanban Board. It stores information relating to
-// a specific goal/task.
+// a specific goal/task. Fields are changed while holding the
+// monitor of the card, and the containing column is notified
+// only after it has been released. Every change increases the
+// version of the card, which lets an editor apply its changes
+// only if nobody else has changed the card since it was read.
 public class Card implements JsonSerializable {
     public static final String DEFAULT_CARD_TITLE = "Untitled card";
 
-    private String title;
-    private String description;
-    private String assignee;
+    private volatile String title;
+    private volatile String description;
+    private volatile Assignee assignee;
 
-    private CardType type;
-    private Set<String> tags;
-    private int storyPoints;
+    private volatile CardType type;
+    private volatile Set<String> tags;
+    private volatile int storyPoints;
 
     // Column which contains the current card,
     // this information is useful when moving
     // the card.
-    private Column containingColumn;
+    private volatile Column containingColumn;
+
+    // Reused until any field of this card changes
+    private volatile CardSnapshot snapshot;
+
+    // Increased every time a field or the containing column changes
+    private volatile long version;
+
+    // Only allocated once a listener is added since most cards have none
+    private volatile List<ModelChangeListener> listeners;
 
     // EFFECTS: constructs a new Card with a given title (or DEFAULT_CARD_TITLE if blank),
     //          description, assignee, type, tags, story points, and no containing column.
@@ -34,6 +49,18 @@ public class Card implements JsonSerializable {
                 CardType type,
                 Set<String> tags,
                 int storyPoints) throws NegativeStoryPointsException {
+        this(title, description, new Assignee(assignee), type, tags, storyPoints);
+    }
+
+    // EFFECTS: constructs a new Card with a given title (or DEFAULT_CARD_TITLE if blank),
+    //          description, assignee handle, type, tags, story points, and no containing column.
+    //          throws an NegativeStoryPointsException if the story point amount is negative.
+    public Card(String title,
+                String description,
+                Assignee assignee,
+                CardType type,
+                Set<String> tags,
+                int storyPoints) throws NegativeStoryPointsException {
         assertStoryPointsNotNegative(storyPoints);
 
         this.title = !title.isBlank() ? title : DEFAULT_CARD_TITLE;
@@ -43,6 +70,8 @@ public class Card implements JsonSerializable {
         this.tags = tags;
         this.storyPoints = storyPoints;
         this.containingColumn = null;
+        this.snapshot = null;
+        this.version = 0;
     }
 
     // EFFECTS: gets how relevant this card is to a query containing
@@ -87,39 +116,82 @@ public class Card implements JsonSerializable {
     // MODIFIES: this
     // EFFECTS: sets the title of the current card or DEFAULT_CARD_TITLE if blank
     public void setTitle(String title) {
-        this.title = !title.isBlank() ? title : DEFAULT_CARD_TITLE;
+        synchronized (this) {
+            this.title = !title.isBlank() ? title : DEFAULT_CARD_TITLE;
+            version++;
+        }
+
+        notifyChanged();
     }
 
     public String getDescription() {
         return description;
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the description of this card
     public void setDescription(String description) {
-        this.description = description;
+        synchronized (this) {
+            this.description = description;
+            version++;
+        }
+
+        notifyChanged();
     }
 
     public String getAssignee() {
+        return assignee.getName();
+    }
+
+    public Assignee getAssigneeHandle() {
         return assignee;
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the assignee of this card, using the canonical assignee
+    //          from the string pool of the containing board if there is one
     public void setAssignee(String assignee) {
-        this.assignee = assignee;
+        KanbanBoard board = getBoard();
+        Assignee handle = board != null ? board.getStringPool().getAssignee(assignee) : new Assignee(assignee);
+
+        synchronized (this) {
+            this.assignee = handle;
+            version++;
+        }
+
+        notifyChanged();
     }
 
     public CardType getType() {
         return type;
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the type of this card
     public void setType(CardType type) {
-        this.type = type;
+        synchronized (this) {
+            this.type = type;
+            version++;
+        }
+
+        notifyChanged();
     }
 
     public Set<String> getTags() {
         return tags;
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the tags of this card, encoding them with the tag
+    //          dictionary of the containing board if there is one
     public void setTags(Set<String> tags) {
-        this.tags = tags;
+        synchronized (this) {
+            this.tags = tags;
+            bindToBoard();
+            version++;
+        }
+
+        notifyChanged();
     }
 
     public int getStoryPoints() {
@@ -131,15 +203,183 @@ public class Card implements JsonSerializable {
     //          throws NegativeStoryPointsException if the story point amount is negative.
     public void setStoryPoints(int storyPoints) throws NegativeStoryPointsException {
         assertStoryPointsNotNegative(storyPoints);
-        this.storyPoints = storyPoints;
+
+        synchronized (this) {
+            this.storyPoints = storyPoints;
+            version++;
+        }
+
+        notifyChanged();
     }
 
     public Column getContainingColumn() {
         return containingColumn;
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the column containing this card and binds the tags
+    //          and assignee to its board if there is one
     public void setContainingColumn(Column containingColumn) {
-        this.containingColumn = containingColumn;
+        synchronized (this) {
+            this.containingColumn = containingColumn;
+            version++;
+        }
+
+        bindToBoard();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the column containing this card when it is materialized from the record
+    //          stored by that column, which is not a change so the version is kept
+    void restoreContainingColumn(Column containingColumn) {
+        synchronized (this) {
+            this.containingColumn = containingColumn;
+        }
+
+        bindToBoard();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // EFFECTS: returns an estimate of the bytes this card takes on the heap, including its title,
+    //          description and tags. Its assignee and the strings of a tag set are shared through
+    //          the string pool and tag dictionary, so they are counted there instead. The cached
+    //          snapshot is rebuilt on demand and not counted.
+    public long getEstimatedHeapBytes() {
+        Set<String> currentTags = tags;
+        List<ModelChangeListener> currentListeners = listeners;
+
+        long bytes = HeapLayout.objectBytes(8, Integer.BYTES + Long.BYTES)
+                     + HeapLayout.stringBytes(title)
+                     + HeapLayout.stringBytes(description);
+
+        if (currentTags instanceof TagSet) {
+            bytes += ((TagSet) currentTags).estimateHeapBytes();
+        } else {
+            bytes += HeapLayout.hashSetBytes(currentTags.size()) + HeapLayout.stringBytes(currentTags);
+        }
+
+        if (currentListeners != null) {
+            bytes += HeapLayout.copyOnWriteListBytes(currentListeners.size());
+        }
+
+        return bytes;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets every field of this card at once if its version is still expectedVersion
+    //          and returns APPLIED, otherwise leaves the card unchanged and returns CONFLICT.
+    //          throws NegativeStoryPointsException if the story point amount is negative.
+    public UpdateResult updateIfCurrent(long expectedVersion,
+                                        String title,
+                                        String description,
+                                        String assignee,
+                                        CardType type,
+                                        Set<String> tags,
+                                        int storyPoints) throws NegativeStoryPointsException {
+        assertStoryPointsNotNegative(storyPoints);
+
+        KanbanBoard board = getBoard();
+        Assignee handle = board != null ? board.getStringPool().getAssignee(assignee) : new Assignee(assignee);
+
+        synchronized (this) {
+            if (version != expectedVersion) {
+                return UpdateResult.CONFLICT;
+            }
+
+            this.title = !title.isBlank() ? title : DEFAULT_CARD_TITLE;
+            this.description = description;
+            this.assignee = handle;
+            this.type = type;
+            this.tags = tags;
+            this.storyPoints = storyPoints;
+            bindToBoard();
+            version++;
+        }
+
+        notifyChanged();
+        return UpdateResult.APPLIED;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: re-encodes the tags of this card with the tag dictionary of the board
+    //          which contains it and replaces the assignee with the canonical one from
+    //          the board's string pool, does nothing if the card is not within a board
+    synchronized void bindToBoard() {
+        KanbanBoard board = getBoard();
+
+        if (board == null) {
+            return;
+        }
+
+        TagDictionary dictionary = board.getTagDictionary();
+
+        if (!(tags instanceof TagSet) || ((TagSet) tags).getDictionary() != dictionary) {
+            tags = new TagSet(dictionary, tags);
+        }
+
+        assignee = board.getStringPool().getAssignee(assignee.getName());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns an immutable snapshot of the current values of this card,
+    //          the previous snapshot is returned if nothing has changed since
+    public synchronized CardSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new CardSnapshot(this);
+        }
+
+        return snapshot;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: discards the current snapshot and notifies the containing
+    //          column that a field of this card has changed
+    private void notifyChanged() {
+        synchronized (this) {
+            snapshot = null;
+        }
+
+        List<ModelChangeListener> currentListeners = listeners;
+
+        if (currentListeners != null) {
+            for (ModelChangeListener listener : currentListeners) {
+                listener.cardChanged(this);
+            }
+        }
+
+        Column column = containingColumn;
+
+        if (column != null) {
+            column.cardChanged(this);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers a listener for changes to the fields of this card
+    public synchronized void addListener(ModelChangeListener listener) {
+        if (listeners == null) {
+            listeners = new CopyOnWriteArrayList<>();
+        }
+
+        listeners.add(listener);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: unregisters a listener for changes to the fields of this card
+    public synchronized void removeListener(ModelChangeListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
+    // EFFECTS: returns the board which contains this card or null if there is none
+    private KanbanBoard getBoard() {
+        Column column = containingColumn;
+
+        return column != null ? column.getBoard() : null;
     }
 
     // EFFECTS: asserts if the story points is not negative
@@ -151,11 +391,11 @@ public class Card implements JsonSerializable {
 
     // EFFECTS: returns the JSON representation of this card
     @Override
-    public JSONObject toJson() {
+    public synchronized JSONObject toJson() {
         JSONObject json = new JSONObject();
         json.put("title", title);
         json.put("description", description);
-        json.put("assignee", assignee);
+        json.put("assignee", assignee.getName());
         json.put("type", type);
         json.put("tags", tags);
         json.put("storyPoints", storyPoints);
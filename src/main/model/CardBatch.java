@@ -0,0 +1,95 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// This class represents a list of card operations which are applied to a
+// kanban board as a single unit with KanbanBoard.applyBatch. Operations take
+// effect in the order they were added, as if each was applied on its own.
+public class CardBatch {
+    private final List<Operation> operations;
+
+    private int addCount;
+    private int moveCount;
+    private int removeCount;
+
+    // EFFECTS: constructs an empty batch
+    public CardBatch() {
+        this.operations = new ArrayList<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds an operation which adds a new card to the column,
+    //          which does nothing if the card is already in the column by then
+    public void add(Card card, Column column) {
+        operations.add(new Operation(card, column, Kind.ADD));
+        addCount++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds an operation which moves a card to the end of the column
+    public void move(Card card, Column column) {
+        operations.add(new Operation(card, column, Kind.MOVE));
+        moveCount++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds an operation which removes a card from its column
+    public void remove(Card card) {
+        operations.add(new Operation(card, null, Kind.REMOVE));
+        removeCount++;
+    }
+
+    // EFFECTS: returns the operations in the order they were added
+    List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    // EFFECTS: returns a short description of how many cards this batch adds, moves and removes
+    public String getSummary() {
+        return String.format("%d added, %d moved, %d removed", addCount, moveCount, removeCount);
+    }
+
+    // Represents the kinds of operations a batch is made of.
+    enum Kind {
+        ADD,
+        MOVE,
+        REMOVE
+    }
+
+    // This class represents a single operation which places a card at the
+    // end of a column, or takes it out of every column if the column is null.
+    static class Operation {
+        private final Card card;
+        private final Column column;
+        private final Kind kind;
+
+        // EFFECTS: constructs an operation of the kind placing the card in the column
+        private Operation(Card card, Column column, Kind kind) {
+            this.card = card;
+            this.column = column;
+            this.kind = kind;
+        }
+
+        Card getCard() {
+            return card;
+        }
+
+        Column getColumn() {
+            return column;
+        }
+
+        Kind getKind() {
+            return kind;
+        }
+    }
+}
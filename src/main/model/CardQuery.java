@@ -0,0 +1,118 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// This class represents a search typed by the user, made of terms separated by
+// whitespace or commas. A card matches when every term appears in its title,
+// description, assignee or tags, ignoring case. Queries are evaluated over
+// snapshots so they can run on any thread while the board keeps being edited.
+public final class CardQuery {
+    // How many cards are searched between checks for interruption
+    private static final int INTERRUPT_CHECK_INTERVAL = 1024;
+
+    private final String text;
+    private final List<String> terms;
+
+    // EFFECTS: constructs a query from the text typed by the user
+    public CardQuery(String text) {
+        this.text = text;
+        this.terms = Collections.unmodifiableList(parseTerms(text));
+    }
+
+    // EFFECTS: splits the text into lowercase terms, dropping blank ones
+    private static List<String> parseTerms(String text) {
+        List<String> terms = new ArrayList<>();
+
+        for (String term : text.toLowerCase().split("[\\s,]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+
+        return terms;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    // EFFECTS: returns whether this query has no terms, and so matches every card
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    // EFFECTS: returns whether every card matched by this query is also matched by
+    //          previous, which is the case when each term of previous is part of
+    //          a term of this query. Only the matches of previous then need searching.
+    public boolean narrows(CardQuery previous) {
+        for (String previousTerm : previous.terms) {
+            if (!containsTermWith(previousTerm)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // EFFECTS: returns whether any term of this query contains part
+    private boolean containsTermWith(String part) {
+        for (String term : terms) {
+            if (term.contains(part)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // EFFECTS: returns whether the card is matched by this query
+    public boolean matches(CardSnapshot card) {
+        String searchText = card.getSearchText();
+
+        for (String term : terms) {
+            if (!searchText.contains(term)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // EFFECTS: returns the cards of the board matched by this query in board order,
+    //          stops early with the matches so far if the thread is interrupted
+    public List<CardSnapshot> findMatches(KanbanBoardSnapshot board) {
+        List<CardSnapshot> cards = new ArrayList<>();
+
+        for (ColumnSnapshot column : board.getColumns()) {
+            cards.addAll(column.getCards());
+        }
+
+        return findMatches(cards);
+    }
+
+    // EFFECTS: returns the candidates matched by this query in the same order,
+    //          stops early with the matches so far if the thread is interrupted
+    public List<CardSnapshot> findMatches(List<CardSnapshot> candidates) {
+        List<CardSnapshot> matches = new ArrayList<>();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % INTERRUPT_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            CardSnapshot card = candidates.get(i);
+
+            if (matches(card)) {
+                matches.add(card);
+            }
+        }
+
+        return matches;
+    }
+}
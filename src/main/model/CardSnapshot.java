@@ -0,0 +1,130 @@
+package model;
+
+import org.json.JSONObject;
+import persistence.JsonSerializable;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// This class represents an immutable copy of a card at a single point in time.
+// It can be read from any thread while the card itself keeps being edited.
+// Snapshots of cards stored off the heap are decoded from their records, and
+// the live card is only materialized once it is asked for.
+public final class CardSnapshot implements JsonSerializable {
+    private volatile Card card;
+    private final Supplier<Card> cardSupplier;
+
+    private final String title;
+    private final String description;
+    private final Assignee assignee;
+    private final CardType type;
+    private final Set<String> tags;
+    private final int storyPoints;
+
+    // Lowercase text searched by card queries, only built once the snapshot is searched
+    private String searchText;
+
+    // EFFECTS: constructs a snapshot holding the current values of the card
+    public CardSnapshot(Card card) {
+        this.card = card;
+        this.cardSupplier = null;
+        this.title = card.getTitle();
+        this.description = card.getDescription();
+        this.assignee = card.getAssigneeHandle();
+        this.type = card.getType();
+        this.tags = Collections.unmodifiableSet(new LinkedHashSet<>(card.getTags()));
+        this.storyPoints = card.getStoryPoints();
+    }
+
+    // EFFECTS: constructs a snapshot holding the given values, whose live card is
+    //          given by cardSupplier once it is first asked for
+    CardSnapshot(String title,
+                 String description,
+                 Assignee assignee,
+                 CardType type,
+                 Set<String> tags,
+                 int storyPoints,
+                 Supplier<Card> cardSupplier) {
+        this.card = null;
+        this.cardSupplier = cardSupplier;
+        this.title = title;
+        this.description = description;
+        this.assignee = assignee;
+        this.type = type;
+        this.tags = Collections.unmodifiableSet(tags);
+        this.storyPoints = storyPoints;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the live card this snapshot was taken of, its values may have changed
+    //          since the snapshot was taken. Returns null if the card was stored off the heap
+    //          and has been removed from its column before it was first asked for.
+    public Card getCard() {
+        Card currentCard = card;
+
+        if (currentCard == null && cardSupplier != null) {
+            currentCard = cardSupplier.get();
+            card = currentCard;
+        }
+
+        return currentCard;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getAssignee() {
+        return assignee.getName();
+    }
+
+    public Assignee getAssigneeHandle() {
+        return assignee;
+    }
+
+    public CardType getType() {
+        return type;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public int getStoryPoints() {
+        return storyPoints;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the lowercase title, description, assignee and tags of this
+    //          snapshot on separate lines. Threads racing to build it may each build
+    //          it once, which is harmless since the snapshot never changes.
+    String getSearchText() {
+        String text = searchText;
+
+        if (text == null) {
+            text = String.join("\n", title, description, assignee.getName(), String.join("\n", tags)).toLowerCase();
+            searchText = text;
+        }
+
+        return text;
+    }
+
+    // EFFECTS: returns the JSON representation of this card snapshot
+    @Override
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        json.put("title", title);
+        json.put("description", description);
+        json.put("assignee", assignee.getName());
+        json.put("type", type);
+        json.put("tags", tags);
+        json.put("storyPoints", storyPoints);
+        return json;
+    }
+}
@@ -0,0 +1,11 @@
+package model;
+
+// Represents where the cards of a column are kept in memory.
+public enum CardStorage {
+    // Cards are kept as regular objects on the heap
+    HEAP,
+
+    // Cards are encoded outside the heap and only materialized as
+    // objects while something is holding on to them
+    OFF_HEAP
+}
@@ -0,0 +1,78 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Lock;
+
+// This class holds back the change events raised while a thread holds locks of the
+// model, and delivers them in order once that thread has released every one of them.
+// Listeners therefore never run while a column or board is locked, so a slow listener
+// cannot hold up other threads and a listener may read or change the model itself.
+// Every lock of a board or column which may be held while an event is raised has to
+// be acquired and released through this class.
+final class ChangeEvents {
+    private static final ThreadLocal<Pending> PENDING = ThreadLocal.withInitial(Pending::new);
+
+    // EFFECTS: cannot construct ChangeEvents since this class is static
+    private ChangeEvents() {
+    }
+
+    // MODIFIES: lock
+    // EFFECTS: acquires the lock, holding back events until it is released
+    static void lock(Lock lock) {
+        lock.lock();
+        PENDING.get().heldLocks++;
+    }
+
+    // MODIFIES: lock
+    // EFFECTS: releases the lock, delivering the events held back if it was the last lock held
+    static void unlock(Lock lock) {
+        lock.unlock();
+
+        Pending pending = PENDING.get();
+        pending.heldLocks--;
+
+        if (pending.heldLocks == 0) {
+            pending.deliver();
+        }
+    }
+
+    // EFFECTS: delivers the event right away if the current thread holds no lock of the
+    //          model, otherwise once it has released them all
+    static void fire(Runnable delivery) {
+        Pending pending = PENDING.get();
+
+        if (pending.heldLocks == 0) {
+            delivery.run();
+        } else {
+            pending.events.add(delivery);
+        }
+    }
+
+    // This class holds the locks held and the events held back by one thread.
+    private static class Pending {
+        private final Deque<Runnable> events = new ArrayDeque<>();
+        private int heldLocks;
+
+        // MODIFIES: this
+        // EFFECTS: delivers every event held back, including any raised by the listeners
+        //          themselves. If a listener throws, the other events are still delivered
+        //          and the first exception is rethrown afterwards.
+        private void deliver() {
+            RuntimeException failure = null;
+            Runnable delivery;
+
+            while ((delivery = events.poll()) != null) {
+                try {
+                    delivery.run();
+                } catch (RuntimeException e) {
+                    failure = failure == null ? e : failure;
+                }
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -1,58 +1,199 @@
 package model;
 
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.jfr.QueryEvent;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import persistence.JsonSerializable;
 
+import java.lang.ref.SoftReference;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 // This class represents a column within a Kanban Board.
 // It organizes and stores Cards that are under the same stage
-// of a workflow.
+// of a workflow. All changes to the cards of a column are made
+// while holding the lock of that column, so different columns
+// can be changed from different threads at the same time. The
+// version of a column increases whenever its name changes, so
+// a rename is only applied if nobody renamed it in the meantime.
 public class Column implements JsonSerializable {
     public static final String DEFAULT_COLUMN_NAME = "Unnamed column";
 
-    private String name;
+    private static final AtomicLong nextLockOrder = new AtomicLong();
+    private static final int NOT_SUMMED = -1;
+
+    private static final LatencyHistogram QUERY_LATENCY = MetricsRegistry.getInstance().histogram("column.query");
+
+    private volatile String name;
+    private final CardStorage storage;
     private final List<Card> cards;
 
-    // EFFECTS: constructs a new Column with a name (or DEFAULT_COLUMN_NAME if blank) and no cards
+    // Locks of several columns are always acquired in
+    // ascending lock order to prevent deadlocks.
+    private final ReentrantLock lock;
+    private final long lockOrder;
+
+    // Board which contains the current column,
+    // its tag dictionary and string pool are
+    // shared by all cards within the board.
+    private volatile KanbanBoard board;
+
+    // Reused until a card is added, removed or changed, and held softly
+    // since the snapshot of a column stored off the heap holds every
+    // decoded card, which the garbage collector can reclaim if needed
+    private volatile SoftReference<ColumnSnapshot> snapshot;
+
+    // Reused until a card is added, removed or changed, or NOT_SUMMED
+    private volatile int storyPointsTotal;
+
+    // Incremented whenever a card is added, removed or changed, so
+    // an estimate of the cards is only reused while it is current
+    private volatile long contentsVersion;
+    private volatile HeapEstimate cardsHeapEstimate;
+
+    private volatile long version;
+
+    private final List<ModelChangeListener> listeners;
+
+    // EFFECTS: constructs a new Column with a name (or DEFAULT_COLUMN_NAME if blank),
+    //          no cards, no containing board, and its cards stored on the heap
     public Column(String name) {
+        this(name, CardStorage.HEAP);
+    }
+
+    // EFFECTS: constructs a new Column with a name (or DEFAULT_COLUMN_NAME if blank),
+    //          no cards, no containing board, and its cards kept in the given storage
+    public Column(String name, CardStorage storage) {
         this.name = !name.isBlank() ? name : DEFAULT_COLUMN_NAME;
-        this.cards = new ArrayList<>();
+        this.storage = storage;
+        this.cards = storage == CardStorage.OFF_HEAP ? new OffHeapCardList(this) : new ArrayList<>();
+        this.lock = new ReentrantLock();
+        this.lockOrder = nextLockOrder.getAndIncrement();
+        this.board = null;
+        this.snapshot = null;
+        this.storyPointsTotal = NOT_SUMMED;
+        this.contentsVersion = 0;
+        this.cardsHeapEstimate = null;
+        this.version = 0;
+        this.listeners = new CopyOnWriteArrayList<>();
     }
 
     // MODIFIES: this, card
     // EFFECTS: adds a card to this column
     public void addCard(Card card) {
-        if (cards.contains(card)) {
-            return;
-        }
+        ChangeEvents.lock(lock);
 
-        {
-            String eventDescription = String.format("Adding card '%s' to column '%s'", card.getTitle(), name);
-            EventLog.getInstance().logEvent(new Event(eventDescription));
-        }
+        try {
+            if (cards.contains(card)) {
+                return;
+            }
+
+            {
+                String eventDescription = String.format("Adding card '%s' to column '%s'", card.getTitle(), name);
+                EventLog.getInstance().logEvent(new Event(eventDescription));
+            }
+
+            cards.add(card);
+            card.setContainingColumn(this);
+            notifyBoardChanged();
 
-        cards.add(card);
-        card.setContainingColumn(this);
+            int index = cards.size() - 1;
+            fireEvent(listener -> listener.cardInserted(this, card, index));
+        } finally {
+            ChangeEvents.unlock(lock);
+        }
     }
 
     // MODIFIES: this, card
     // EFFECTS: removes a card from this column
     public void removeCard(Card card) {
-        if (!cards.contains(card)) {
-            return;
+        ChangeEvents.lock(lock);
+
+        try {
+            if (detachCard(card)) {
+                card.setContainingColumn(null);
+            }
+        } finally {
+            ChangeEvents.unlock(lock);
         }
+    }
 
-        {
-            String eventDescription = String.format("Removing card '%s' from column '%s'", card.getTitle(), name);
-            EventLog.getInstance().logEvent(new Event(eventDescription));
+    // MODIFIES: this
+    // EFFECTS: removes a card from this column without clearing its containing column,
+    //          so a card being moved never appears to be outside of every column.
+    //          returns whether the card was in this column.
+    boolean detachCard(Card card) {
+        ChangeEvents.lock(lock);
+
+        try {
+            int index = cards.indexOf(card);
+
+            if (index < 0) {
+                return false;
+            }
+
+            {
+                String eventDescription = String.format("Removing card '%s' from column '%s'", card.getTitle(), name);
+                EventLog.getInstance().logEvent(new Event(eventDescription));
+            }
+
+            cards.remove(index);
+            notifyBoardChanged();
+            fireEvent(listener -> listener.cardRemoved(this, card, index));
+            return true;
+        } finally {
+            ChangeEvents.unlock(lock);
+        }
+    }
+
+    // MODIFIES: this, newCards
+    // EFFECTS: appends all the cards to this column at once, the cards
+    //          must not already be in this column
+    void attachCards(List<Card> newCards) {
+        ChangeEvents.lock(lock);
+
+        try {
+            cards.addAll(newCards);
+
+            for (Card card : newCards) {
+                card.setContainingColumn(this);
+            }
+
+            notifyBoardChanged();
+            fireEvent(listener -> listener.cardsReplaced(this));
+        } finally {
+            ChangeEvents.unlock(lock);
         }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all the cards in the set from this column at once
+    //          without clearing their containing column
+    void detachCards(Set<Card> removedCards) {
+        ChangeEvents.lock(lock);
+
+        try {
+            if (cards instanceof OffHeapCardList) {
+                ((OffHeapCardList) cards).removeCards(removedCards);
+            } else {
+                cards.removeIf(removedCards::contains);
+            }
 
-        cards.remove(card);
-        card.setContainingColumn(null);
+            notifyBoardChanged();
+            fireEvent(listener -> listener.cardsReplaced(this));
+        } finally {
+            ChangeEvents.unlock(lock);
+        }
     }
 
+    // EFFECTS: returns the live list of cards in this column, other threads
+    //          should read the column through snapshot() instead
     public List<Card> getCards() {
         return cards;
     }
@@ -66,6 +207,21 @@ public class Column implements JsonSerializable {
             return cards;
         }
 
+        QueryEvent event = new QueryEvent();
+        event.begin();
+
+        long startNanos = System.nanoTime();
+        List<Card> results = withLock(() -> findCardsWithQuery(keywords));
+
+        QUERY_LATENCY.recordSince(startNanos);
+        event.record(this, keywords, results.size());
+
+        return results;
+    }
+
+    // EFFECTS: gets all the cards within this column that matches at
+    //          least one of the keywords sorted by relevancy
+    private List<Card> findCardsWithQuery(Set<String> keywords) {
         ArrayList<Card> results = new ArrayList<>();
         HashMap<Card, Integer> relevancyMapping = new HashMap<>();
 
@@ -95,16 +251,54 @@ public class Column implements JsonSerializable {
         return results;
     }
 
+    // MODIFIES: filter
+    // EFFECTS: gets all the cards within this column
+    //          that are matched by the tag filter
+    public List<Card> getCardsWithTags(TagFilter filter) {
+        List<Card> results = withLock(() -> {
+            if (cards instanceof OffHeapCardList) {
+                return ((OffHeapCardList) cards).getCardsWithTags(filter);
+            }
+
+            List<Card> matches = new ArrayList<>();
+
+            for (Card card : cards) {
+                if (filter.matches(card)) {
+                    matches.add(card);
+                }
+            }
+
+            return matches;
+        });
+
+        {
+            String eventDescription = String.format("Querying cards by tags in column '%s' with %s results",
+                                                    name,
+                                                    results.size());
+            EventLog.getInstance().logEvent(new Event(eventDescription));
+        }
+
+        return results;
+    }
+
     // EFFECTS: get all cards within this column
     //          that is of the specified type
     public List<Card> getCardsOfType(CardType type) {
-        ArrayList<Card> results = new ArrayList<>();
+        List<Card> results = withLock(() -> {
+            if (cards instanceof OffHeapCardList) {
+                return ((OffHeapCardList) cards).getCardsOfType(type);
+            }
 
-        for (Card card : cards) {
-            if (card.getType() == type) {
-                results.add(card);
+            List<Card> matches = new ArrayList<>();
+
+            for (Card card : cards) {
+                if (card.getType() == type) {
+                    matches.add(card);
+                }
             }
-        }
+
+            return matches;
+        });
 
         {
             String eventDescription = String.format("Querying cards of type '%s' in column '%s'", type, name);
@@ -121,18 +315,234 @@ public class Column implements JsonSerializable {
     // MODIFIES: this
     // EFFECTS: sets the name of this column or DEFAULT_COLUMN_NAME if blank
     public void setName(String name) {
-        this.name = !name.isBlank() ? name : DEFAULT_COLUMN_NAME;
+        ChangeEvents.lock(lock);
+
+        try {
+            this.name = !name.isBlank() ? name : DEFAULT_COLUMN_NAME;
+            version++;
+            notifyBoardChanged();
+            fireEvent(listener -> listener.columnRenamed(this));
+        } finally {
+            ChangeEvents.unlock(lock);
+        }
+    }
+
+    public long getVersion() {
+        return version;
     }
 
-    // EFFECTS: gets the total story points of all cards within this column
+    public CardStorage getStorage() {
+        return storage;
+    }
+
+    // EFFECTS: returns an estimate of the bytes this column takes on the heap, including its cards.
+    //          Cards stored off the heap only count their index, which is all the heap holds of them.
+    //          The estimate of the cards is reused until a card is added, removed or changed.
+    public long getEstimatedHeapBytes() {
+        long bytes = HeapLayout.objectBytes(8, 3 * Long.BYTES + Integer.BYTES)
+                     + HeapLayout.stringBytes(name)
+                     + HeapLayout.reentrantLockBytes()
+                     + HeapLayout.copyOnWriteListBytes(listeners.size());
+
+        HeapEstimate estimate = cardsHeapEstimate;
+
+        if (estimate == null || !estimate.isAt(contentsVersion)) {
+            estimate = estimateCardsHeapBytes();
+            cardsHeapEstimate = estimate;
+        }
+
+        return bytes + estimate.getBytes();
+    }
+
+    // EFFECTS: returns an estimate of the bytes the cards take on the heap at the current contents
+    //          version. The cards are estimated from a copy of the list, so the column is only locked
+    //          briefly, and if one changes meanwhile the version no longer matches so it is not reused.
+    private HeapEstimate estimateCardsHeapBytes() {
+        if (cards instanceof OffHeapCardList) {
+            return withLock(() -> new HeapEstimate(contentsVersion, ((OffHeapCardList) cards).estimateHeapBytes()));
+        }
+
+        long[] version = new long[1];
+        List<Card> currentCards = withLock(() -> {
+            version[0] = contentsVersion;
+            return new ArrayList<>(cards);
+        });
+        long bytes = HeapLayout.arrayListBytes(currentCards.size());
+
+        for (Card card : currentCards) {
+            bytes += card.getEstimatedHeapBytes();
+        }
+
+        return new HeapEstimate(version[0], bytes);
+    }
+
+    public KanbanBoard getBoard() {
+        return board;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the board containing this column and binds
+    //          the tags and assignees of all its cards to that board
+    public void setBoard(KanbanBoard board) {
+        this.board = board;
+        bindCardsToBoard();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: binds the tags and assignees of all cards in this column
+    //          to the containing board
+    void bindCardsToBoard() {
+        ChangeEvents.lock(lock);
+
+        try {
+            if (cards instanceof OffHeapCardList) {
+                ((OffHeapCardList) cards).bindMaterializedCards();
+            } else {
+                for (Card card : cards) {
+                    card.bindToBoard();
+                }
+            }
+        } finally {
+            ChangeEvents.unlock(lock);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: notifies this column that a field of one of its cards has changed
+    void cardChanged(Card card) {
+        ChangeEvents.lock(lock);
+
+        try {
+            if (cards instanceof OffHeapCardList) {
+                ((OffHeapCardList) cards).update(card);
+            }
+
+            notifyBoardChanged();
+            fireEvent(listener -> listener.cardChanged(card));
+        } finally {
+            ChangeEvents.unlock(lock);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns an immutable snapshot of this column and its cards, the previous
+    //          snapshot is returned if nothing has changed since. Snapshots of off-heap
+    //          columns may be collected while nothing else holds them, and are then
+    //          decoded again from the records without materializing any card.
+    public ColumnSnapshot snapshot() {
+        ColumnSnapshot currentSnapshot = getCachedSnapshot();
+
+        if (currentSnapshot != null) {
+            return currentSnapshot;
+        }
+
+        return withLock(() -> {
+            ColumnSnapshot cachedSnapshot = getCachedSnapshot();
+
+            if (cachedSnapshot != null) {
+                return cachedSnapshot;
+            }
+
+            ColumnSnapshot newSnapshot = new ColumnSnapshot(this);
+            snapshot = new SoftReference<>(newSnapshot);
+            return newSnapshot;
+        });
+    }
+
+    // EFFECTS: returns the snapshot kept since nothing last changed, or null if there is none
+    private ColumnSnapshot getCachedSnapshot() {
+        SoftReference<ColumnSnapshot> reference = snapshot;
+
+        return reference != null ? reference.get() : null;
+    }
+
+    // EFFECTS: returns the lock guarding the cards of this column
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    // EFFECTS: returns the order in which the lock of this column
+    //          has to be acquired relative to other columns
+    long getLockOrder() {
+        return lockOrder;
+    }
+
+    // EFFECTS: runs the action while holding the lock of this column and returns its result
+    private <T> T withLock(Supplier<T> action) {
+        ChangeEvents.lock(lock);
+
+        try {
+            return action.get();
+        } finally {
+            ChangeEvents.unlock(lock);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: discards the current snapshot, story point total and heap estimate
+    //          and notifies the containing board that this column has changed
+    private void notifyBoardChanged() {
+        snapshot = null;
+        storyPointsTotal = NOT_SUMMED;
+        contentsVersion++;
+
+        if (board != null) {
+            board.contentsChanged();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers a listener for changes to this column and its cards
+    public void addListener(ModelChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: unregisters a listener for changes to this column and its cards
+    public void removeListener(ModelChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // EFFECTS: delivers an event to the listeners of this column and then to those of the board
+    //          containing it now, once the current thread no longer holds any lock of the model
+    private void fireEvent(Consumer<ModelChangeListener> event) {
+        KanbanBoard currentBoard = board;
+
+        ChangeEvents.fire(() -> {
+            for (ModelChangeListener listener : listeners) {
+                event.accept(listener);
+            }
+
+            if (currentBoard != null) {
+                currentBoard.deliverEvent(event);
+            }
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: gets the total story points of all cards within this column, the previous
+    //          total is returned if no card has been added, removed or changed since
     public int getTotalStoryPoints() {
-        int storyPoints = 0;
+        int currentTotal = storyPointsTotal;
 
-        for (Card card : cards) {
-            storyPoints += card.getStoryPoints();
+        if (currentTotal != NOT_SUMMED) {
+            return currentTotal;
         }
 
-        return storyPoints;
+        return withLock(() -> {
+            int storyPoints = 0;
+
+            if (cards instanceof OffHeapCardList) {
+                storyPoints = ((OffHeapCardList) cards).getTotalStoryPoints();
+            } else {
+                for (Card card : cards) {
+                    storyPoints += card.getStoryPoints();
+                }
+            }
+
+            storyPointsTotal = storyPoints;
+            return storyPoints;
+        });
     }
 
     // EFFECTS: returns the JSON representation of this column and its cards
@@ -140,7 +550,14 @@ public class Column implements JsonSerializable {
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
         json.put("name", name);
-        json.put("cards", cardsToJson());
+
+        // only written when needed so existing saves stay the same
+        if (storage != CardStorage.HEAP) {
+            json.put("storage", storage);
+        }
+
+        // cards stored off the heap are written from their records without materializing them
+        json.put("cards", storage == CardStorage.HEAP ? withLock(this::cardsToJson) : snapshot().toJson().get("cards"));
         return json;
     }
 
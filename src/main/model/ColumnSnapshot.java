@@ -0,0 +1,92 @@
+package model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import persistence.JsonSerializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// This class represents an immutable copy of a column and its cards at a single
+// point in time. Snapshots of cards which have not changed are shared with
+// earlier snapshots of the column.
+public final class ColumnSnapshot implements JsonSerializable {
+    private final String name;
+    private final CardStorage storage;
+    private final List<CardSnapshot> cards;
+    private final int totalStoryPoints;
+
+    // EFFECTS: constructs a snapshot of the column made of the snapshots of its cards, which
+    //          are decoded from their records for columns stored off the heap. Must be called
+    //          while holding the lock of the column.
+    public ColumnSnapshot(Column column) {
+        List<CardSnapshot> cardSnapshots = snapshotCards(column.getCards());
+        int storyPoints = 0;
+
+        for (CardSnapshot cardSnapshot : cardSnapshots) {
+            storyPoints += cardSnapshot.getStoryPoints();
+        }
+
+        this.name = column.getName();
+        this.storage = column.getStorage();
+        this.cards = Collections.unmodifiableList(cardSnapshots);
+        this.totalStoryPoints = storyPoints;
+    }
+
+    // EFFECTS: returns the snapshots of the cards, without materializing cards stored off the heap
+    private static List<CardSnapshot> snapshotCards(List<Card> cards) {
+        if (cards instanceof OffHeapCardList) {
+            return ((OffHeapCardList) cards).snapshotCards();
+        }
+
+        List<CardSnapshot> cardSnapshots = new ArrayList<>(cards.size());
+
+        for (Card card : cards) {
+            cardSnapshots.add(card.snapshot());
+        }
+
+        return cardSnapshots;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CardStorage getStorage() {
+        return storage;
+    }
+
+    public List<CardSnapshot> getCards() {
+        return cards;
+    }
+
+    public int getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    // EFFECTS: returns the JSON representation of this column snapshot and its cards
+    @Override
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        json.put("name", name);
+
+        if (storage != CardStorage.HEAP) {
+            json.put("storage", storage);
+        }
+
+        json.put("cards", cardsToJson());
+        return json;
+    }
+
+    // EFFECTS: returns the JSON representation of all cards in this column snapshot
+    private JSONArray cardsToJson() {
+        JSONArray jsonArray = new JSONArray();
+
+        for (CardSnapshot card : cards) {
+            jsonArray.put(card.toJson());
+        }
+
+        return jsonArray;
+    }
+}
@@ -0,0 +1,238 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// This class represents a read-only columnar copy of all the cards within a
+// kanban board. Each card field used by statistics is stored in its own
+// primitive array so aggregations run as tight loops over contiguous memory
+// instead of following references to every Card and its tags. Building it
+// reads every card of the board, so it is meant for breakdowns by type,
+// assignee or tag rather than totals which columns keep up to date. The
+// statistics views of both apps show their breakdowns from it.
+public class ColumnarCardStore {
+    private static final CardType[] CARD_TYPES = CardType.values();
+
+    private final int cardCount;
+    private final int columnCount;
+
+    private final int[] storyPoints;
+    private final byte[] typeOrdinals;
+    private final int[] columnIds;
+    private final int[] assigneeIds;
+
+    // Tag bitsets of all cards laid out one after another, each card
+    // uses tagWordsPerCard longs indexed by the board tag dictionary ids
+    private final long[] tagWords;
+    private final int tagWordsPerCard;
+
+    private final List<Assignee> assignees;
+    private final TagDictionary tagDictionary;
+
+    // EFFECTS: constructs a columnar store holding a copy of the cards within every column of the
+    //          board, sized from the column snapshots it copies so a card added meanwhile is
+    //          either copied or not counted. KanbanBoard.getColumnarStore() builds it while no
+    //          column can change, so the copy is consistent across columns.
+    //          throws ArithmeticException if the tags of every card do not fit in one array
+    ColumnarCardStore(KanbanBoard board) {
+        List<ColumnSnapshot> columns = new ArrayList<>();
+        int cards = 0;
+
+        for (Column column : board.getColumns()) {
+            ColumnSnapshot snapshot = column.snapshot();
+            columns.add(snapshot);
+            cards += snapshot.getCards().size();
+        }
+
+        this.cardCount = cards;
+        this.columnCount = columns.size();
+        this.tagDictionary = board.getTagDictionary();
+        this.tagWordsPerCard = (tagDictionary.size() + Long.SIZE - 1) / Long.SIZE;
+
+        this.storyPoints = new int[cardCount];
+        this.typeOrdinals = new byte[cardCount];
+        this.columnIds = new int[cardCount];
+        this.assigneeIds = new int[cardCount];
+        this.tagWords = new long[Math.multiplyExact(cardCount, tagWordsPerCard)];
+        this.assignees = new ArrayList<>();
+
+        fill(columns);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the fields of the cards in every column into the arrays, reading them
+    //          from column snapshots so cards stored off the heap are not materialized
+    private void fill(List<ColumnSnapshot> columns) {
+        Map<Assignee, Integer> assigneeIdMapping = new HashMap<>();
+        int index = 0;
+
+        for (int columnId = 0; columnId < columns.size(); columnId++) {
+            for (CardSnapshot card : columns.get(columnId).getCards()) {
+                storyPoints[index] = card.getStoryPoints();
+                typeOrdinals[index] = (byte) card.getType().ordinal();
+                columnIds[index] = columnId;
+                assigneeIds[index] = getAssigneeId(card.getAssigneeHandle(), assigneeIdMapping);
+                fillTags(index, card.getTags());
+                index++;
+            }
+        }
+    }
+
+    // MODIFIES: this, assigneeIdMapping
+    // EFFECTS: returns the id of the assignee, giving it the next id if it has not been seen
+    private int getAssigneeId(Assignee assignee, Map<Assignee, Integer> assigneeIdMapping) {
+        Integer id = assigneeIdMapping.get(assignee);
+
+        if (id == null) {
+            id = assignees.size();
+            assigneeIdMapping.put(assignee, id);
+            assignees.add(assignee);
+        }
+
+        return id;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the tag bits of the card at index, tags which
+    //          are not in the board tag dictionary are skipped
+    private void fillTags(int index, Set<String> tags) {
+        int offset = index * tagWordsPerCard;
+
+        for (String tag : tags) {
+            int id = tagDictionary.getId(tag);
+
+            if (id != TagDictionary.NO_ID && id < tagWordsPerCard * Long.SIZE) {
+                tagWords[offset + (id >>> 6)] |= 1L << id;
+            }
+        }
+    }
+
+    // EFFECTS: returns how many cards are in this store
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    // EFFECTS: returns the total story points of all cards
+    public int getTotalStoryPoints() {
+        int total = 0;
+
+        for (int i = 0; i < cardCount; i++) {
+            total += storyPoints[i];
+        }
+
+        return total;
+    }
+
+    // EFFECTS: returns the total story points of all cards in the
+    //          column at the given index of the board
+    public int getStoryPointsOfColumn(int columnId) {
+        int total = 0;
+
+        for (int i = 0; i < cardCount; i++) {
+            if (columnIds[i] == columnId) {
+                total += storyPoints[i];
+            }
+        }
+
+        return total;
+    }
+
+    // EFFECTS: returns the total story points of each column indexed
+    //          by the position of the column within the board
+    public int[] getStoryPointsByColumn() {
+        int[] totals = new int[columnCount];
+
+        for (int i = 0; i < cardCount; i++) {
+            totals[columnIds[i]] += storyPoints[i];
+        }
+
+        return totals;
+    }
+
+    // EFFECTS: returns the number of cards of each type
+    public Map<CardType, Integer> getCardCountByType() {
+        int[] counts = new int[CARD_TYPES.length];
+
+        for (int i = 0; i < cardCount; i++) {
+            counts[typeOrdinals[i]]++;
+        }
+
+        return toTypeMap(counts);
+    }
+
+    // EFFECTS: returns the total story points of the cards of each type
+    public Map<CardType, Integer> getStoryPointsByType() {
+        int[] totals = new int[CARD_TYPES.length];
+
+        for (int i = 0; i < cardCount; i++) {
+            totals[typeOrdinals[i]] += storyPoints[i];
+        }
+
+        return toTypeMap(totals);
+    }
+
+    // EFFECTS: returns the total story points of the cards of each assignee
+    public Map<Assignee, Integer> getStoryPointsByAssignee() {
+        int[] totals = new int[assignees.size()];
+
+        for (int i = 0; i < cardCount; i++) {
+            totals[assigneeIds[i]] += storyPoints[i];
+        }
+
+        Map<Assignee, Integer> result = new HashMap<>();
+
+        for (int id = 0; id < totals.length; id++) {
+            result.put(assignees.get(id), totals[id]);
+        }
+
+        return result;
+    }
+
+    // EFFECTS: returns at most limit assignees with the most story points and their totals, the
+    //          assignee with the most first and assignees with equal totals ordered by name
+    public List<Map.Entry<Assignee, Integer>> getTopAssigneesByStoryPoints(int limit) {
+        Comparator<Map.Entry<Assignee, Integer>> byStoryPoints = Map.Entry.comparingByValue(Comparator.reverseOrder());
+
+        return getStoryPointsByAssignee().entrySet().stream()
+                .sorted(byStoryPoints.thenComparing(entry -> entry.getKey().getName()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    // EFFECTS: returns how many cards have the given tag
+    public int getCardCountWithTag(String tag) {
+        int id = tagDictionary.getId(tag);
+
+        if (id == TagDictionary.NO_ID || id >= tagWordsPerCard * Long.SIZE) {
+            return 0;
+        }
+
+        int wordOffset = id >>> 6;
+        long mask = 1L << id;
+        int count = 0;
+
+        for (int i = 0; i < cardCount; i++) {
+            if ((tagWords[i * tagWordsPerCard + wordOffset] & mask) != 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    // EFFECTS: converts counts indexed by the ordinal of the card type into a map
+    private Map<CardType, Integer> toTypeMap(int[] countsByOrdinal) {
+        Map<CardType, Integer> result = new HashMap<>();
+
+        for (CardType type : CARD_TYPES) {
+            result.put(type, countsByOrdinal[type.ordinal()]);
+        }
+
+        return result;
+    }
+}
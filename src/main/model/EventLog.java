@@ -1,26 +1,32 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 // Represents a log of alarm system events.
 // We use the Singleton Design Pattern to ensure that there is only
 // one EventLog in the system and that the system has global access
-// to the single instance of the EventLog.
+// to the single instance of the EventLog. Events may be logged
+// from any thread.
 public class EventLog implements Iterable<Event> {
     /**
      * the only EventLog in the system (Singleton Design Pattern)
      */
-    private static EventLog theLog;
-    private final Collection<Event> events;
+    private static volatile EventLog theLog;
+    private final Queue<Event> events;
+
+    // Kept alongside the queue, whose own size() walks every event
+    private final AtomicInteger size;
 
     /**
      * Prevent external construction.
      * (Singleton Design Pattern).
      */
     private EventLog() {
-        events = new ArrayList<>();
+        events = new ConcurrentLinkedQueue<>();
+        size = new AtomicInteger();
     }
 
     /**
@@ -32,7 +38,11 @@ public class EventLog implements Iterable<Event> {
      */
     public static EventLog getInstance() {
         if (theLog == null) {
-            theLog = new EventLog();
+            synchronized (EventLog.class) {
+                if (theLog == null) {
+                    theLog = new EventLog();
+                }
+            }
         }
 
         return theLog;
@@ -45,16 +55,29 @@ public class EventLog implements Iterable<Event> {
      */
     public void logEvent(Event e) {
         events.add(e);
+        size.incrementAndGet();
     }
 
     /**
      * Clears the event log and logs the event.
      */
     public void clear() {
-        events.clear();
+        while (events.poll() != null) {
+            size.decrementAndGet();
+        }
+
         logEvent(new Event("Event log cleared."));
     }
 
+    /**
+     * Gets the number of events in the event log without walking them.
+     *
+     * @return the number of logged events
+     */
+    public int size() {
+        return size.get();
+    }
+
     @Override
     public Iterator<Event> iterator() {
         return events.iterator();
@@ -0,0 +1,23 @@
+package model;
+
+// This class represents an estimate of the heap bytes of a board or column at one
+// contents version, so it is only reused while the contents have not changed since.
+final class HeapEstimate {
+    private final long contentsVersion;
+    private final long bytes;
+
+    // EFFECTS: constructs an estimate of bytes at the contents version
+    HeapEstimate(long contentsVersion, long bytes) {
+        this.contentsVersion = contentsVersion;
+        this.bytes = bytes;
+    }
+
+    // EFFECTS: returns whether this estimate was made at the contents version
+    boolean isAt(long version) {
+        return contentsVersion == version;
+    }
+
+    long getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,130 @@
+package model;
+
+import java.util.Collection;
+
+// This class estimates how many bytes objects take on the heap of a 64-bit HotSpot JVM,
+// so the model can report its own footprint without walking the heap. Objects have a
+// 12 byte header and are padded to 8 bytes, references take 4 bytes when the heap is
+// small enough for compressed references and 8 bytes otherwise, and strings store one
+// byte per character unless they contain characters outside of Latin-1.
+final class HeapLayout {
+    static final int OBJECT_HEADER_BYTES = 12;
+    static final int ARRAY_HEADER_BYTES = 16;
+    static final int ALIGNMENT_BYTES = 8;
+    static final int REFERENCE_BYTES;
+
+    // Compressed references are used by default for heaps below 32 GB
+    private static final long MAX_COMPRESSED_HEAP_BYTES = 32L * 1024 * 1024 * 1024;
+    private static final float HASH_LOAD_FACTOR = 0.75f;
+    private static final int MIN_HASH_TABLE_LENGTH = 16;
+    private static final int CACHED_INTEGER_LIMIT = 127;
+
+    static {
+        REFERENCE_BYTES = Runtime.getRuntime().maxMemory() < MAX_COMPRESSED_HEAP_BYTES ? 4 : 8;
+    }
+
+    // EFFECTS: cannot construct HeapLayout since this class is static
+    private HeapLayout() {
+    }
+
+    // EFFECTS: returns bytes rounded up to the alignment of objects
+    static long align(long bytes) {
+        return (bytes + ALIGNMENT_BYTES - 1) / ALIGNMENT_BYTES * ALIGNMENT_BYTES;
+    }
+
+    // EFFECTS: returns the size of an object with the given number of reference fields
+    //          and the given bytes of primitive fields
+    static long objectBytes(int referenceFields, int primitiveBytes) {
+        return align(OBJECT_HEADER_BYTES + (long) referenceFields * REFERENCE_BYTES + primitiveBytes);
+    }
+
+    // EFFECTS: returns the size of an array of length primitives of elementBytes each
+    static long arrayBytes(long length, int elementBytes) {
+        return align(ARRAY_HEADER_BYTES + length * elementBytes);
+    }
+
+    // EFFECTS: returns the size of an array of length references
+    static long referenceArrayBytes(long length) {
+        return arrayBytes(length, REFERENCE_BYTES);
+    }
+
+    // EFFECTS: returns the size of the string and its characters, or 0 if it is null
+    static long stringBytes(String string) {
+        if (string == null) {
+            return 0;
+        }
+
+        // hash and coder fields, a flag for hashes of zero, and the array of characters
+        return objectBytes(1, Integer.BYTES + 2) + arrayBytes(string.length(), isLatin1(string) ? 1 : 2);
+    }
+
+    // EFFECTS: returns whether every character of the string fits in a single byte
+    private static boolean isLatin1(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // EFFECTS: returns the size of every string in the collection
+    static long stringBytes(Collection<String> strings) {
+        long bytes = 0;
+
+        for (String string : strings) {
+            bytes += stringBytes(string);
+        }
+
+        return bytes;
+    }
+
+    // EFFECTS: returns the size of a boxed integer, which is 0 for the values every JVM caches
+    static long integerBytes(int value) {
+        return value >= -CACHED_INTEGER_LIMIT - 1 && value <= CACHED_INTEGER_LIMIT ? 0 : objectBytes(0, Integer.BYTES);
+    }
+
+    // EFFECTS: returns the size of an array list of size elements with no spare capacity,
+    //          not counting the elements themselves
+    static long arrayListBytes(int size) {
+        return objectBytes(1, 2 * Integer.BYTES) + referenceArrayBytes(size);
+    }
+
+    // EFFECTS: returns the size of a copy on write list of size elements, including its lock
+    //          but not the elements themselves
+    static long copyOnWriteListBytes(int size) {
+        return objectBytes(2, 0) + objectBytes(0, 0) + referenceArrayBytes(size);
+    }
+
+    // EFFECTS: returns the size of a hash map of size entries, including its table
+    //          and entries but not the keys and values themselves
+    static long hashMapBytes(int size) {
+        int tableLength = MIN_HASH_TABLE_LENGTH;
+
+        while (tableLength * HASH_LOAD_FACTOR < size) {
+            tableLength *= 2;
+        }
+
+        long mapBytes = objectBytes(4, 3 * Integer.BYTES + Float.BYTES);
+        long entryBytes = objectBytes(3, Integer.BYTES);
+
+        return mapBytes + referenceArrayBytes(tableLength) + size * entryBytes;
+    }
+
+    // EFFECTS: returns the size of a hash set of size elements, not counting the elements themselves
+    static long hashSetBytes(int size) {
+        return objectBytes(1, 0) + hashMapBytes(size);
+    }
+
+    // EFFECTS: returns the size of a reentrant lock and its queue of waiting threads
+    static long reentrantLockBytes() {
+        return objectBytes(1, 0) + objectBytes(3, Integer.BYTES);
+    }
+
+    // EFFECTS: returns the size of a reentrant read write lock, its read and write
+    //          views, and its queue of waiting threads with their hold counts
+    static long readWriteLockBytes() {
+        return objectBytes(3, 0) + 2 * objectBytes(1, 0) + objectBytes(6, 2 * Integer.BYTES) + objectBytes(0, 0);
+    }
+}
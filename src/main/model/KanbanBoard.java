@@ -1,37 +1,96 @@
 package model;
 
+import metrics.Counter;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.jfr.MoveCardEvent;
 import model.exceptions.*;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import persistence.JsonSerializable;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 // This class represents a kanban board with a name and description that contains
 // columns that each represent a stage within a workflow.
+// Adding, removing and renaming columns excludes every other operation on
+// the board, while cards are moved holding only the locks of the two columns
+// involved so that moves between unrelated columns can run concurrently.
 public class KanbanBoard implements JsonSerializable {
     public static final String DEFAULT_BACKLOG_COLUMN_NAME = "Backlog";
     public static final String DEFAULT_WIP_COLUMN_NAME = "In Progress";
 
+    // Passed instead of a version to apply an update whatever the current version is
+    public static final long ANY_VERSION = -1;
+
+    private static final LatencyHistogram MOVE_LATENCY = MetricsRegistry.getInstance().histogram("board.moveCard");
+    private static final Counter MOVE_CONFLICTS = MetricsRegistry.getInstance().counter("board.moveCard.conflicts");
+
     private final String name;
     private final String description;
 
     private final List<Column> columns;
     private final String completedColumnName;
 
+    // Shared by all cards within this board to store their tags
+    private final TagDictionary tagDictionary;
+
+    // Shared with the other boards in the same list
+    private volatile StringPool stringPool;
+
+    // Built on demand for breakdowns and snapshots, these should
+    // be discarded every time a column or card changes
+    private volatile ColumnarCardStore columnarStore;
+
+    // Held softly like the column snapshots it is made of
+    private volatile SoftReference<KanbanBoardSnapshot> snapshot;
+
     // This should be updated every time a column is added or removed
-    private Column completedColumn;
+    private volatile Column completedColumn;
 
-    // EFFECTS: constructs a KanbanBoard with a name, description, no columns,
-    //          and sets the name of the completed column to completedColumnName.
+    // Held for writing while the columns of this board change
+    private final ReadWriteLock structureLock;
+
+    // Notified of changes to this board and all of its columns and cards
+    private final List<ModelChangeListener> listeners;
+
+    // Increased whenever a column or card of this board changes, so the
+    // heap estimate is only recomputed once the contents have changed
+    private final AtomicLong contentsVersion;
+    private volatile HeapEstimate heapEstimate;
+
+    // EFFECTS: constructs a KanbanBoard with a name, description, no columns, an empty tag
+    //          dictionary and string pool, and sets the name of the completed column to completedColumnName.
     public KanbanBoard(String name, String description, String completedColumnName) {
         this.name = name;
         this.description = description;
 
-        this.columns = new ArrayList<>();
+        this.columns = new CopyOnWriteArrayList<>();
         this.completedColumnName = completedColumnName;
         this.completedColumn = null;
+
+        this.tagDictionary = new TagDictionary();
+        this.stringPool = new StringPool();
+        this.columnarStore = null;
+        this.snapshot = null;
+        this.structureLock = new ReentrantReadWriteLock();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.contentsVersion = new AtomicLong();
+        this.heapEstimate = null;
     }
 
     // MODIFIES: this
@@ -56,10 +115,23 @@ public class KanbanBoard implements JsonSerializable {
         addColumn(completed);
     }
 
-    // MODIFIES: this
+    // MODIFIES: this, column
     // EFFECTS: adds a new column to this board.
     //          throws an DuplicateColumnException if there is already a column with the same name.
     public void addColumn(Column column) throws DuplicateColumnException {
+        ChangeEvents.lock(structureLock.writeLock());
+
+        try {
+            addColumnLocked(column);
+        } finally {
+            ChangeEvents.unlock(structureLock.writeLock());
+        }
+    }
+
+    // MODIFIES: this, column
+    // EFFECTS: adds a new column to this board while holding the structure lock.
+    //          throws an DuplicateColumnException if there is already a column with the same name.
+    private void addColumnLocked(Column column) throws DuplicateColumnException {
         if (hasColumnWithName(column.getName())) {
             throw new DuplicateColumnException(column.getName());
         }
@@ -74,11 +146,28 @@ public class KanbanBoard implements JsonSerializable {
         }
 
         columns.add(column);
+        column.setBoard(this);
+        contentsChanged();
+
+        int index = columns.size() - 1;
+        fireEvent(listener -> listener.columnAdded(this, column, index));
     }
 
-    // MODIFIES: this
+    // MODIFIES: this, column
     // EFFECTS: removes a column from this board
     public void removeColumn(Column column) {
+        ChangeEvents.lock(structureLock.writeLock());
+
+        try {
+            removeColumnLocked(column);
+        } finally {
+            ChangeEvents.unlock(structureLock.writeLock());
+        }
+    }
+
+    // MODIFIES: this, column
+    // EFFECTS: removes a column from this board while holding the structure lock
+    private void removeColumnLocked(Column column) {
         if (!columns.contains(column)) {
             return;
         }
@@ -94,13 +183,51 @@ public class KanbanBoard implements JsonSerializable {
             EventLog.getInstance().logEvent(new Event(eventDescription));
         }
 
-        columns.remove(column);
+        int index = columns.indexOf(column);
+
+        columns.remove(index);
+        column.setBoard(null);
+        contentsChanged();
+        fireEvent(listener -> listener.columnRemoved(this, column, index));
     }
 
     // MODIFIES: this, column
     // EFFECTS: edits the name of an existing column.
     //          throws an DuplicateColumnException if there is already a column with the same name.
     public void editColumnName(Column column, String newName) throws DuplicateColumnException {
+        ChangeEvents.lock(structureLock.writeLock());
+
+        try {
+            editColumnNameLocked(column, newName);
+        } finally {
+            ChangeEvents.unlock(structureLock.writeLock());
+        }
+    }
+
+    // MODIFIES: this, column
+    // EFFECTS: edits the name of an existing column if its version is still expectedVersion
+    //          and returns APPLIED, otherwise leaves the name unchanged and returns CONFLICT.
+    //          throws an DuplicateColumnException if there is already a column with the same name.
+    public UpdateResult editColumnNameIfCurrent(Column column, long expectedVersion, String newName)
+            throws DuplicateColumnException {
+        ChangeEvents.lock(structureLock.writeLock());
+
+        try {
+            if (column.getVersion() != expectedVersion) {
+                return UpdateResult.CONFLICT;
+            }
+
+            editColumnNameLocked(column, newName);
+            return UpdateResult.APPLIED;
+        } finally {
+            ChangeEvents.unlock(structureLock.writeLock());
+        }
+    }
+
+    // MODIFIES: this, column
+    // EFFECTS: edits the name of an existing column while holding the structure lock.
+    //          throws an DuplicateColumnException if there is already a column with the same name.
+    private void editColumnNameLocked(Column column, String newName) throws DuplicateColumnException {
         if (!columns.contains(column)) {
             return;
         }
@@ -154,14 +281,78 @@ public class KanbanBoard implements JsonSerializable {
     // EFFECTS: moves a card to a different column
     //          and removes it from its old column if it has one
     public void moveCard(Card card, Column newColumn) {
-        if (!columns.contains(newColumn)) {
-            return;
+        moveCardIfCurrent(card, ANY_VERSION, newColumn);
+    }
+
+    // MODIFIES: this, newColumn
+    // EFFECTS: moves a card to a different column if its version is still expectedVersion (or
+    //          expectedVersion is ANY_VERSION) and returns APPLIED, otherwise returns CONFLICT.
+    //          Nothing happens if the new column is not in this board.
+    public UpdateResult moveCardIfCurrent(Card card, long expectedVersion, Column newColumn) {
+        MoveCardEvent event = new MoveCardEvent();
+        event.begin();
+
+        long startNanos = System.nanoTime();
+        UpdateResult result = UpdateResult.APPLIED;
+
+        ChangeEvents.lock(structureLock.readLock());
+
+        try {
+            if (columns.contains(newColumn)) {
+                result = moveCardLocked(card, expectedVersion, newColumn);
+            }
+        } finally {
+            ChangeEvents.unlock(structureLock.readLock());
+        }
+
+        MOVE_LATENCY.recordSince(startNanos);
+        event.record(this, card, newColumn, result == UpdateResult.CONFLICT);
+
+        if (result == UpdateResult.CONFLICT) {
+            MOVE_CONFLICTS.increment();
         }
 
-        Column containingColumn = card.getContainingColumn();
+        return result;
+    }
+
+    // MODIFIES: this, newColumn
+    // EFFECTS: moves the card while holding the locks of its old and new column, retrying
+    //          if the card changes columns before both locks have been acquired
+    private UpdateResult moveCardLocked(Card card, long expectedVersion, Column newColumn) {
+        while (true) {
+            Column containingColumn = card.getContainingColumn();
+            List<Column> lockedColumns = new ArrayList<>();
+
+            lockedColumns.add(newColumn);
 
+            if (containingColumn != null && containingColumn != newColumn) {
+                lockedColumns.add(containingColumn);
+            }
+
+            lockColumns(lockedColumns);
+
+            try {
+                if (card.getContainingColumn() != containingColumn) {
+                    continue;
+                }
+
+                if (expectedVersion != ANY_VERSION && card.getVersion() != expectedVersion) {
+                    return UpdateResult.CONFLICT;
+                }
+
+                transferCard(card, containingColumn, newColumn);
+                return UpdateResult.APPLIED;
+            } finally {
+                unlockColumns(lockedColumns);
+            }
+        }
+    }
+
+    // MODIFIES: this, containingColumn, newColumn
+    // EFFECTS: removes the card from its containing column if it has one and adds it to the new column
+    private void transferCard(Card card, Column containingColumn, Column newColumn) {
         if (containingColumn != null) {
-            containingColumn.removeCard(card);
+            containingColumn.detachCard(card);
         }
 
         {
@@ -175,6 +366,146 @@ public class KanbanBoard implements JsonSerializable {
         newColumn.addCard(card);
     }
 
+    // MODIFIES: this, batch columns and cards
+    // EFFECTS: applies every operation of the batch as a single unit while no column of
+    //          this board can change, cards are moved to their final column at once instead
+    //          of passing through every column of the intermediate operations.
+    //          throws ColumnNotInBoardException if an operation refers to a column that
+    //          is not in this board, in which case nothing is changed.
+    public void applyBatch(CardBatch batch) throws ColumnNotInBoardException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        ChangeEvents.lock(structureLock.readLock());
+
+        List<Column> lockedColumns = new ArrayList<>(columns);
+
+        try {
+            lockColumns(lockedColumns);
+
+            try {
+                Map<Card, Column> placements = getBatchPlacements(batch);
+
+                applyPlacements(placements);
+            } finally {
+                unlockColumns(lockedColumns);
+            }
+        } finally {
+            ChangeEvents.unlock(structureLock.readLock());
+        }
+
+        {
+            String eventDescription = String.format("Applying batch of %d operations to kanban board '%s' (%s)",
+                                                    batch.size(),
+                                                    name,
+                                                    batch.getSummary());
+            EventLog.getInstance().logEvent(new Event(eventDescription));
+        }
+    }
+
+    // EFFECTS: returns the column each card of the batch ends up in (or null if it is removed),
+    //          ordered by the last operation on each card.
+    //          throws ColumnNotInBoardException if an operation refers to a column outside this board
+    private Map<Card, Column> getBatchPlacements(CardBatch batch) throws ColumnNotInBoardException {
+        Set<Column> boardColumns = new HashSet<>(columns);
+        Map<Card, Column> placements = new LinkedHashMap<>();
+
+        for (CardBatch.Operation operation : batch.getOperations()) {
+            Card card = operation.getCard();
+            Column column = operation.getColumn();
+
+            assertInBoard(column, boardColumns);
+            assertInBoard(card.getContainingColumn(), boardColumns);
+
+            // Like Column.addCard, adding a card to the column it is in by then does nothing
+            if (operation.getKind() == CardBatch.Kind.ADD && getPlacement(placements, card) == column) {
+                continue;
+            }
+
+            // Re-inserting keeps the cards in the order of their last operation
+            placements.remove(card);
+            placements.put(card, column);
+        }
+
+        return placements;
+    }
+
+    // EFFECTS: returns the column the card is in after the operations placed so far,
+    //          or null if it is in no column
+    private static Column getPlacement(Map<Card, Column> placements, Card card) {
+        return placements.containsKey(card) ? placements.get(card) : card.getContainingColumn();
+    }
+
+    // EFFECTS: throws ColumnNotInBoardException if the column is not null and not one of the board columns
+    private void assertInBoard(Column column, Set<Column> boardColumns) throws ColumnNotInBoardException {
+        if (column != null && !boardColumns.contains(column)) {
+            throw new ColumnNotInBoardException(column.getName(), name);
+        }
+    }
+
+    // MODIFIES: this, placed cards and their columns
+    // EFFECTS: takes every placed card out of its current column and appends it to
+    //          its new column, with one bulk update per affected column
+    private void applyPlacements(Map<Card, Column> placements) {
+        Map<Column, Set<Card>> removals = new HashMap<>();
+        Map<Column, List<Card>> additions = new LinkedHashMap<>();
+
+        for (Map.Entry<Card, Column> placement : placements.entrySet()) {
+            Card card = placement.getKey();
+            Column oldColumn = card.getContainingColumn();
+
+            if (oldColumn != null) {
+                removals.computeIfAbsent(oldColumn, column -> new HashSet<>()).add(card);
+            }
+
+            if (placement.getValue() != null) {
+                additions.computeIfAbsent(placement.getValue(), column -> new ArrayList<>()).add(card);
+            } else if (oldColumn != null) {
+                card.setContainingColumn(null);
+            }
+        }
+
+        removals.forEach(Column::detachCards);
+        additions.forEach(Column::attachCards);
+    }
+
+    // MODIFIES: lockedColumns
+    // EFFECTS: acquires the locks of the columns in ascending lock order
+    private static void lockColumns(List<Column> lockedColumns) {
+        lockedColumns.sort(Comparator.comparingLong(Column::getLockOrder));
+
+        for (Column column : lockedColumns) {
+            ChangeEvents.lock(column.getLock());
+        }
+    }
+
+    // EFFECTS: releases the locks of the columns in the reverse order they were acquired
+    private static void unlockColumns(List<Column> lockedColumns) {
+        for (int i = lockedColumns.size() - 1; i >= 0; i--) {
+            ChangeEvents.unlock(lockedColumns.get(i).getLock());
+        }
+    }
+
+    // EFFECTS: runs the action while no column of this board can change and returns its result
+    private <T> T withAllColumnsLocked(Supplier<T> action) {
+        ChangeEvents.lock(structureLock.readLock());
+
+        List<Column> lockedColumns = new ArrayList<>(columns);
+
+        try {
+            lockColumns(lockedColumns);
+
+            try {
+                return action.get();
+            } finally {
+                unlockColumns(lockedColumns);
+            }
+        } finally {
+            ChangeEvents.unlock(structureLock.readLock());
+        }
+    }
+
     // EFFECTS: returns whether a column with the given
     //          name already exists in this kanban board
     private boolean hasColumnWithName(String name) {
@@ -187,26 +518,113 @@ public class KanbanBoard implements JsonSerializable {
         return false;
     }
 
-    // EFFECTS: gets the total story points of
-    //          all cards within this board
+    // MODIFIES: this
+    // EFFECTS: gets the columnar copy of the cards within this board used
+    //          for statistics, building it if the cards have changed since
+    public ColumnarCardStore getColumnarStore() {
+        ColumnarCardStore currentStore = columnarStore;
+
+        if (currentStore != null) {
+            return currentStore;
+        }
+
+        return withAllColumnsLocked(() -> {
+            if (columnarStore == null) {
+                columnarStore = new ColumnarCardStore(this);
+            }
+
+            return columnarStore;
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns an immutable snapshot of this board, its columns and cards. The
+    //          previous snapshot is returned if nothing has changed since, otherwise only
+    //          the columns and cards which changed are copied again. Cards stored off the
+    //          heap are decoded from their records without being materialized.
+    public KanbanBoardSnapshot snapshot() {
+        KanbanBoardSnapshot currentSnapshot = getCachedSnapshot();
+
+        if (currentSnapshot != null) {
+            return currentSnapshot;
+        }
+
+        return withAllColumnsLocked(() -> {
+            KanbanBoardSnapshot cachedSnapshot = getCachedSnapshot();
+
+            if (cachedSnapshot != null) {
+                return cachedSnapshot;
+            }
+
+            KanbanBoardSnapshot newSnapshot = new KanbanBoardSnapshot(this);
+            snapshot = new SoftReference<>(newSnapshot);
+            return newSnapshot;
+        });
+    }
+
+    // EFFECTS: returns the snapshot kept since nothing last changed, or null if there is none
+    private KanbanBoardSnapshot getCachedSnapshot() {
+        SoftReference<KanbanBoardSnapshot> reference = snapshot;
+
+        return reference != null ? reference.get() : null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers a listener for changes to this board and all its columns and cards
+    public void addListener(ModelChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: unregisters a listener for changes to this board and all its columns and cards
+    public void removeListener(ModelChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // EFFECTS: delivers an event to the listeners of this board once the
+    //          current thread no longer holds any lock of the model
+    private void fireEvent(Consumer<ModelChangeListener> event) {
+        ChangeEvents.fire(() -> deliverEvent(event));
+    }
+
+    // EFFECTS: delivers an event to the listeners of this board right away
+    void deliverEvent(Consumer<ModelChangeListener> event) {
+        for (ModelChangeListener listener : listeners) {
+            event.accept(listener);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: discards anything derived from the columns and cards
+    //          of this board since one of them has changed, this is
+    //          only called while holding the lock of a changed column
+    //          or the structure lock of this board
+    void contentsChanged() {
+        columnarStore = null;
+        snapshot = null;
+        contentsVersion.incrementAndGet();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: gets the total story points of all cards within this board, only the
+    //          columns changed since the last call are summed again
     public int getTotalStoryPoints() {
-        int totalStoryPoints = 0;
+        int storyPoints = 0;
 
         for (Column column : columns) {
-            totalStoryPoints += column.getTotalStoryPoints();
+            storyPoints += column.getTotalStoryPoints();
         }
 
-        return totalStoryPoints;
+        return storyPoints;
     }
 
+    // MODIFIES: this
     // EFFECTS: gets the total story points of
     //          all completed cards within this board
     public int getCompletedStoryPoints() {
-        if (completedColumn == null) {
-            return 0;
-        }
+        Column currentCompletedColumn = completedColumn;
 
-        return completedColumn.getTotalStoryPoints();
+        return currentCompletedColumn != null ? currentCompletedColumn.getTotalStoryPoints() : 0;
     }
 
     // EFFECTS: gets the number of cards within the board
@@ -225,6 +643,40 @@ public class KanbanBoard implements JsonSerializable {
         return cardCount;
     }
 
+    // MODIFIES: this
+    // EFFECTS: returns an estimate of the bytes this board takes on the heap, including its
+    //          columns, cards and tag dictionary but not the string pool shared with other
+    //          boards. The estimate is reused until a column or card of this board changes,
+    //          and then only the cards of the columns changed since are estimated again.
+    //          Cached snapshots and columnar stores are rebuilt on demand so not counted.
+    public long getEstimatedHeapBytes() {
+        long version = contentsVersion.get();
+        HeapEstimate estimate = heapEstimate;
+
+        if (estimate != null && estimate.isAt(version)) {
+            return estimate.getBytes();
+        }
+
+        long bytes = HeapLayout.objectBytes(13, 0)
+                     + HeapLayout.stringBytes(name)
+                     + HeapLayout.stringBytes(description)
+                     + HeapLayout.stringBytes(completedColumnName)
+                     + HeapLayout.copyOnWriteListBytes(columns.size())
+                     + HeapLayout.copyOnWriteListBytes(listeners.size())
+                     + HeapLayout.readWriteLockBytes()
+                     + HeapLayout.objectBytes(0, Long.BYTES)
+                     + tagDictionary.estimateHeapBytes();
+
+        for (Column column : columns) {
+            bytes += column.getEstimatedHeapBytes();
+        }
+
+        // if the contents changed meanwhile the version no longer matches, so this is never reused
+        heapEstimate = new HeapEstimate(version, bytes);
+
+        return bytes;
+    }
+
     public String getName() {
         return name;
     }
@@ -233,6 +685,39 @@ public class KanbanBoard implements JsonSerializable {
         return description;
     }
 
+    public String getCompletedColumnName() {
+        return completedColumnName;
+    }
+
+    public TagDictionary getTagDictionary() {
+        return tagDictionary;
+    }
+
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the string pool used by this board and canonicalizes
+    //          the assignees of all its cards if the pool has changed
+    public void setStringPool(StringPool stringPool) {
+        if (this.stringPool == stringPool) {
+            return;
+        }
+
+        ChangeEvents.lock(structureLock.readLock());
+
+        try {
+            this.stringPool = stringPool;
+
+            for (Column column : columns) {
+                column.bindCardsToBoard();
+            }
+        } finally {
+            ChangeEvents.unlock(structureLock.readLock());
+        }
+    }
+
     // EFFECTS: returns the JSON representation of this kanban board and its columns
     @Override
     public JSONObject toJson() {
@@ -4,19 +4,23 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import persistence.JsonSerializable;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class KanbanBoardList implements JsonSerializable {
     private final List<KanbanBoard> boards;
 
-    // EFFECTS: constructs a new empty list of kanban boards
+    // Shared by all boards so equal strings are only stored once
+    private final StringPool stringPool;
+
+    // EFFECTS: constructs a new empty list of kanban boards with an empty string pool
     public KanbanBoardList() {
-        boards = new ArrayList<>();
+        boards = new CopyOnWriteArrayList<>();
+        stringPool = new StringPool();
     }
 
-    // MODIFIES: this
-    // EFFECTS: adds a new kanban board
+    // MODIFIES: this, board
+    // EFFECTS: adds a new kanban board which will share the string pool of this list
     public void addBoard(KanbanBoard board) {
         {
             String eventDescription = String.format("Adding kanban board '%s' to list", board.getName());
@@ -24,6 +28,7 @@ public class KanbanBoardList implements JsonSerializable {
         }
 
         this.boards.add(board);
+        board.setStringPool(stringPool);
     }
 
     public List<KanbanBoard> getBoards() {
@@ -35,6 +40,29 @@ public class KanbanBoardList implements JsonSerializable {
         return boards.get(index);
     }
 
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
+    // EFFECTS: returns an immutable snapshot of all the boards, boards
+    //          which have not changed reuse their previous snapshot
+    public KanbanBoardListSnapshot snapshot() {
+        return new KanbanBoardListSnapshot(this);
+    }
+
+    // EFFECTS: returns an estimate of the bytes all the boards and their shared string pool take on the heap
+    public long getEstimatedHeapBytes() {
+        long bytes = HeapLayout.objectBytes(2, 0)
+                     + HeapLayout.copyOnWriteListBytes(boards.size())
+                     + stringPool.estimateHeapBytes();
+
+        for (KanbanBoard board : boards) {
+            bytes += board.getEstimatedHeapBytes();
+        }
+
+        return bytes;
+    }
+
     // EFFECTS: returns whether there are no boards
     public boolean isEmpty() {
         return boards.isEmpty();
@@ -0,0 +1,59 @@
+package model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import persistence.JsonSerializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// This class represents an immutable copy of a list of kanban boards at a single
+// point in time, made of the (shared) snapshots of each board.
+public final class KanbanBoardListSnapshot implements JsonSerializable {
+    private final List<KanbanBoardSnapshot> boards;
+
+    // EFFECTS: constructs a snapshot of the list made of the snapshots of its boards
+    public KanbanBoardListSnapshot(KanbanBoardList list) {
+        List<KanbanBoardSnapshot> boardSnapshots = new ArrayList<>(list.size());
+
+        for (KanbanBoard board : list.getBoards()) {
+            boardSnapshots.add(board.snapshot());
+        }
+
+        this.boards = Collections.unmodifiableList(boardSnapshots);
+    }
+
+    public List<KanbanBoardSnapshot> getBoards() {
+        return boards;
+    }
+
+    // EFFECTS: gets the kanban board snapshot at the specified index
+    public KanbanBoardSnapshot getBoard(int index) {
+        return boards.get(index);
+    }
+
+    // EFFECTS: returns how many boards there are
+    public int size() {
+        return boards.size();
+    }
+
+    // EFFECTS: returns the JSON representation of this kanban board list snapshot
+    @Override
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        json.put("boards", boardsToJson());
+        return json;
+    }
+
+    // EFFECTS: returns the JSON representation of all the kanban board snapshots
+    private JSONArray boardsToJson() {
+        JSONArray jsonArray = new JSONArray();
+
+        for (KanbanBoardSnapshot board : boards) {
+            jsonArray.put(board.toJson());
+        }
+
+        return jsonArray;
+    }
+}
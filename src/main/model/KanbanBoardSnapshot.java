@@ -0,0 +1,125 @@
+package model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import persistence.JsonSerializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// This class represents an immutable copy of a kanban board at a single point in
+// time. Savers, exporters and statistics can read it from any thread while the
+// board keeps being edited. Snapshots of columns which have not changed are
+// shared with earlier snapshots of the board.
+public final class KanbanBoardSnapshot implements JsonSerializable {
+    private final KanbanBoard board;
+
+    private final String name;
+    private final String description;
+    private final String completedColumnName;
+    private final List<ColumnSnapshot> columns;
+
+    // Index of the completed column within columns, or -1 if there is none
+    private final int completedColumnIndex;
+
+    // EFFECTS: constructs a snapshot of the board made of the snapshots of its columns
+    public KanbanBoardSnapshot(KanbanBoard board) {
+        List<ColumnSnapshot> columnSnapshots = new ArrayList<>(board.getColumnCount());
+
+        for (Column column : board.getColumns()) {
+            columnSnapshots.add(column.snapshot());
+        }
+
+        this.board = board;
+        this.name = board.getName();
+        this.description = board.getDescription();
+        this.completedColumnName = board.getCompletedColumnName();
+        this.columns = Collections.unmodifiableList(columnSnapshots);
+        this.completedColumnIndex = board.getColumns().indexOf(board.getCompletedColumn());
+    }
+
+    // EFFECTS: returns the live board this snapshot was taken of
+    public KanbanBoard getBoard() {
+        return board;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCompletedColumnName() {
+        return completedColumnName;
+    }
+
+    public List<ColumnSnapshot> getColumns() {
+        return columns;
+    }
+
+    // EFFECTS: returns the snapshot of the completed column or null if there is none
+    public ColumnSnapshot getCompletedColumn() {
+        return completedColumnIndex >= 0 ? columns.get(completedColumnIndex) : null;
+    }
+
+    // EFFECTS: gets the total story points of all cards within this snapshot
+    public int getTotalStoryPoints() {
+        int totalStoryPoints = 0;
+
+        for (ColumnSnapshot column : columns) {
+            totalStoryPoints += column.getTotalStoryPoints();
+        }
+
+        return totalStoryPoints;
+    }
+
+    // EFFECTS: gets the total story points of all completed cards within this snapshot
+    public int getCompletedStoryPoints() {
+        ColumnSnapshot completedColumn = getCompletedColumn();
+
+        return completedColumn != null ? completedColumn.getTotalStoryPoints() : 0;
+    }
+
+    // EFFECTS: gets the number of cards within this snapshot
+    //          with the option to include completed cards
+    public int getCardCount(boolean includeCompleted) {
+        int cardCount = 0;
+
+        for (ColumnSnapshot column : columns) {
+            cardCount += column.getCards().size();
+        }
+
+        ColumnSnapshot completedColumn = getCompletedColumn();
+
+        if (!includeCompleted && completedColumn != null) {
+            cardCount -= completedColumn.getCards().size();
+        }
+
+        return cardCount;
+    }
+
+    // EFFECTS: returns the JSON representation of this board snapshot and its columns
+    @Override
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        json.put("name", name);
+        json.put("description", description);
+        json.put("completedColumnName", completedColumnName);
+        json.put("columns", columnsToJson());
+        return json;
+    }
+
+    // EFFECTS: returns the JSON representation of the columns in this board snapshot
+    private JSONArray columnsToJson() {
+        JSONArray jsonArray = new JSONArray();
+
+        for (ColumnSnapshot column : columns) {
+            jsonArray.put(column.toJson());
+        }
+
+        return jsonArray;
+    }
+}
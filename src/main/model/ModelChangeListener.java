@@ -0,0 +1,41 @@
+package model;
+
+// This interface is implemented by anything that needs to know exactly what changed
+// within a kanban board, a column or a card, so it can update only that part of
+// itself. Listeners of a board receive the events of all its columns and cards.
+// Events are delivered on the thread making the change once it has released every
+// lock of the model, so listeners may read the model, but by then other threads may
+// have changed it again and an index carried by an event may be out of date.
+public interface ModelChangeListener {
+
+    // EFFECTS: called after a card has been inserted into the column at the given index
+    default void cardInserted(Column column, Card card, int index) {
+    }
+
+    // EFFECTS: called after a card has been removed from the column, index
+    //          is where the card was before it was removed
+    default void cardRemoved(Column column, Card card, int index) {
+    }
+
+    // EFFECTS: called after one or more fields of a card have changed
+    default void cardChanged(Card card) {
+    }
+
+    // EFFECTS: called after many cards of the column have been added or removed at
+    //          once, all the cards of the column should be read again
+    default void cardsReplaced(Column column) {
+    }
+
+    // EFFECTS: called after a column has been added to the board at the given index
+    default void columnAdded(KanbanBoard board, Column column, int index) {
+    }
+
+    // EFFECTS: called after a column has been removed from the board, index
+    //          is where the column was before it was removed
+    default void columnRemoved(KanbanBoard board, Column column, int index) {
+    }
+
+    // EFFECTS: called after the name of a column has changed
+    default void columnRenamed(Column column) {
+    }
+}
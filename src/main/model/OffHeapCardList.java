@@ -0,0 +1,700 @@
+package model;
+
+import model.exceptions.NegativeStoryPointsException;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+// This class represents the cards of a column stored outside the Java heap.
+// Every card is encoded as a record in direct byte buffers, and a Card object
+// is only materialized when it is requested. Materialized cards are tracked
+// weakly, so the same object is handed out for as long as something holds on
+// to it while cards nobody is looking at cost no heap beyond their slot index.
+// Like the rest of the column this list is changed while holding the column
+// lock, and since materializing a card changes the list too, cards are only
+// ever materialized while holding it. Totals, snapshots, filters and bulk
+// removals are read straight from the records, and only materialize the cards
+// they return.
+public class OffHeapCardList extends AbstractList<Card> implements RandomAccess {
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final int STORY_POINTS_OFFSET = Integer.BYTES;
+    private static final int TYPE_OFFSET = STORY_POINTS_OFFSET + Integer.BYTES;
+    private static final int TAG_COUNT_OFFSET = TYPE_OFFSET + Byte.BYTES;
+    private static final CardType[] CARD_TYPES = CardType.values();
+
+    private final Column column;
+
+    private final List<ByteBuffer> chunks;
+    private long usedBytes;
+    private long liveBytes;
+
+    // Location of every record, a slot keeps the same id until its card
+    // is removed, while the order array holds the slots in list order
+    private long[] slotAddresses;
+    private int[] slotGenerations;
+    private int slotCount;
+    private final List<Integer> freeSlots;
+    private int[] order;
+    private int size;
+
+    private final Map<Integer, CardReference> cardsBySlot;
+    private final Map<Card, Integer> slotsByCard;
+    private final ReferenceQueue<Card> collectedCards;
+
+    // EFFECTS: constructs an empty off-heap list for the cards of the column
+    public OffHeapCardList(Column column) {
+        this.column = column;
+        this.chunks = new ArrayList<>();
+        this.slotAddresses = new long[16];
+        this.slotGenerations = new int[16];
+        this.freeSlots = new ArrayList<>();
+        this.order = new int[16];
+        this.cardsBySlot = new HashMap<>();
+        this.slotsByCard = new WeakHashMap<>();
+        this.collectedCards = new ReferenceQueue<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the card at index, materializing it from its record
+    //          unless a materialized object for it is still reachable
+    @Override
+    public Card get(int index) {
+        column.getLock().lock();
+
+        try {
+            checkIndex(index, size);
+            return materialize(order[index]);
+        } finally {
+            column.getLock().unlock();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the card in slot, materializing it from its record unless a materialized
+    //          object for it is still reachable, must be called while holding the column lock
+    private Card materialize(int slot) {
+        expungeCollectedCards();
+
+        Card card = getMaterialized(slot);
+
+        if (card == null) {
+            card = decode(slotAddresses[slot]).toCard();
+            track(card, slot);
+            card.restoreContainingColumn(column);
+        }
+
+        return card;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the card in slot as materialize does, or null if the card which was in
+    //          slot at the given generation has been removed from this list since
+    private Card materializeIfPresent(int slot, int generation) {
+        column.getLock().lock();
+
+        try {
+            return slotGenerations[slot] == generation ? materialize(slot) : null;
+        } finally {
+            column.getLock().unlock();
+        }
+    }
+
+    // EFFECTS: returns the materialized object of the card in slot, or null if there is none
+    private Card getMaterialized(int slot) {
+        CardReference reference = cardsBySlot.get(slot);
+
+        return reference != null ? reference.get() : null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: inserts the card at index by encoding it into a new record
+    @Override
+    public void add(int index, Card card) {
+        checkIndex(index, size + 1);
+        expungeCollectedCards();
+
+        int slot = write(card);
+
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size * 2);
+        }
+
+        System.arraycopy(order, index, order, index + 1, size - index);
+        order[index] = slot;
+        size++;
+        modCount++;
+
+        track(card, slot);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the card at index and returns it if it is materialized, or null
+    //          otherwise, so removing a card never decodes its record
+    @Override
+    public Card remove(int index) {
+        checkIndex(index, size);
+        expungeCollectedCards();
+
+        int slot = order[index];
+        Card card = getMaterialized(slot);
+
+        System.arraycopy(order, index + 1, order, index, size - index - 1);
+        size--;
+        modCount++;
+
+        untrack(card, slot);
+        freeSlot(slot);
+
+        return card;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the card at index and returns the previous card if it is
+    //          materialized, or null otherwise, so its record is never decoded
+    @Override
+    public Card set(int index, Card card) {
+        checkIndex(index, size);
+        expungeCollectedCards();
+
+        int oldSlot = order[index];
+        Card previous = getMaterialized(oldSlot);
+
+        untrack(previous, oldSlot);
+        freeSlot(oldSlot);
+
+        int slot = write(card);
+        order[index] = slot;
+        track(card, slot);
+
+        return previous;
+    }
+
+    // EFFECTS: returns the index of the card or -1 if it is not in this list,
+    //          cards in this list are always tracked so no records are decoded
+    @Override
+    public int indexOf(Object o) {
+        column.getLock().lock();
+
+        try {
+            // looking up a weak key also drops collected keys, so this changes the map
+            Integer slot = slotsByCard.get(o);
+
+            if (slot == null) {
+                return -1;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (order[i] == slot) {
+                    return i;
+                }
+            }
+
+            return -1;
+        } finally {
+            column.getLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the card from this list and returns whether it was present
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all cards and releases their records
+    @Override
+    public void clear() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            slotGenerations[slot]++;
+        }
+
+        chunks.clear();
+        usedBytes = 0;
+        liveBytes = 0;
+        slotCount = 0;
+        freeSlots.clear();
+        size = 0;
+        cardsBySlot.clear();
+        slotsByCard.clear();
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every card of the set which is in this list at once and returns whether any
+    //          was, the cards are found through their slots so no record is decoded. Must be called
+    //          while holding the column lock.
+    boolean removeCards(Set<Card> removedCards) {
+        Set<Integer> removedSlots = new HashSet<>();
+
+        for (Card card : removedCards) {
+            Integer slot = slotsByCard.get(card);
+
+            if (slot != null) {
+                removedSlots.add(slot);
+                untrack(card, slot);
+            }
+        }
+
+        int kept = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (!removedSlots.contains(order[i])) {
+                order[kept++] = order[i];
+            }
+        }
+
+        size = kept;
+        modCount++;
+        removedSlots.forEach(this::freeSlot);
+
+        return !removedSlots.isEmpty();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the cards of the type in list order, the type is read from the records
+    //          so only the matching cards are materialized. Must be called while holding the
+    //          column lock.
+    List<Card> getCardsOfType(CardType type) {
+        return findCards(slot -> {
+            long address = slotAddresses[slot];
+            return CARD_TYPES[chunkOf(address).get(offsetOf(address) + TYPE_OFFSET)] == type;
+        });
+    }
+
+    // MODIFIES: this, filter
+    // EFFECTS: returns the cards matched by the filter in list order, cards which are not materialized
+    //          are matched by the tags decoded from their records so only the matching cards are
+    //          materialized. Must be called while holding the column lock.
+    List<Card> getCardsWithTags(TagFilter filter) {
+        return findCards(slot -> {
+            Card card = getMaterialized(slot);
+            return card != null ? filter.matches(card) : filter.matchesTags(decodeTags(slotAddresses[slot]));
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the cards in list order whose slot is matched, materializing only those
+    private List<Card> findCards(IntPredicate matchesSlot) {
+        expungeCollectedCards();
+
+        List<Card> matches = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            if (matchesSlot.test(order[i])) {
+                matches.add(materialize(order[i]));
+            }
+        }
+
+        return matches;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: binds the materialized cards to the board of the column. Records hold the tags and
+    //          assignee of a card as strings, so the other cards are bound once they are materialized.
+    //          Must be called while holding the column lock.
+    void bindMaterializedCards() {
+        expungeCollectedCards();
+
+        for (CardReference reference : cardsBySlot.values()) {
+            Card card = reference.get();
+
+            if (card != null) {
+                card.bindToBoard();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: re-encodes the record of the card after its fields have changed,
+    //          does nothing if the card is not in this list
+    public void update(Card card) {
+        Integer slot = slotsByCard.get(card);
+
+        if (slot == null) {
+            return;
+        }
+
+        liveBytes -= recordLength(slotAddresses[slot]);
+        slotAddresses[slot] = append(encode(card));
+        compactIfWasteful();
+    }
+
+    // EFFECTS: returns the total story points of all cards without materializing them
+    public int getTotalStoryPoints() {
+        int total = 0;
+
+        for (int i = 0; i < size; i++) {
+            long address = slotAddresses[order[i]];
+            total += chunkOf(address).getInt(offsetOf(address) + STORY_POINTS_OFFSET);
+        }
+
+        return total;
+    }
+
+    // EFFECTS: returns how many bytes are reserved outside the heap
+    public long getReservedBytes() {
+        long reserved = 0;
+
+        for (ByteBuffer chunk : chunks) {
+            reserved += chunk.capacity();
+        }
+
+        return reserved;
+    }
+
+    // EFFECTS: returns how many bytes are used by the records of cards still in this list
+    public long getLiveBytes() {
+        return liveBytes;
+    }
+
+    // EFFECTS: returns snapshots of every card in list order. Materialized cards give their own
+    //          snapshot, while the others are decoded straight from their records and are only
+    //          materialized if the live card of their snapshot is asked for. Must be called while
+    //          holding the column lock.
+    List<CardSnapshot> snapshotCards() {
+        List<CardSnapshot> snapshots = new ArrayList<>(size);
+        KanbanBoard board = column.getBoard();
+
+        for (int i = 0; i < size; i++) {
+            int slot = order[i];
+            Card card = getMaterialized(slot);
+
+            if (card != null) {
+                snapshots.add(card.snapshot());
+            } else {
+                int generation = slotGenerations[slot];
+                Record record = decode(slotAddresses[slot]);
+
+                snapshots.add(record.toSnapshot(board, () -> materializeIfPresent(slot, generation)));
+            }
+        }
+
+        return snapshots;
+    }
+
+    // EFFECTS: returns how many cards are currently materialized as objects
+    public int getMaterializedCount() {
+        column.getLock().lock();
+
+        try {
+            expungeCollectedCards();
+            return cardsBySlot.size();
+        } finally {
+            column.getLock().unlock();
+        }
+    }
+
+    // EFFECTS: returns an estimate of the bytes this list takes on the heap, which is only its
+    //          index of records and materialized cards since the records are outside the heap.
+    //          The materialized cards are not counted, since this list only holds them weakly.
+    long estimateHeapBytes() {
+        int materialized = cardsBySlot.size();
+
+        // both maps hold a weak reference and an Integer per materialized card
+        long referenceBytes = HeapLayout.objectBytes(5, Integer.BYTES) + HeapLayout.objectBytes(0, Integer.BYTES);
+
+        return HeapLayout.objectBytes(9, 2 * Long.BYTES + 3 * Integer.BYTES)
+               + HeapLayout.arrayListBytes(chunks.size())
+               + chunks.size() * HeapLayout.objectBytes(4, 2 * Long.BYTES + 4 * Integer.BYTES)
+               + HeapLayout.arrayBytes(slotAddresses.length, Long.BYTES)
+               + HeapLayout.arrayBytes(slotGenerations.length, Integer.BYTES)
+               + HeapLayout.arrayBytes(order.length, Integer.BYTES)
+               + HeapLayout.arrayListBytes(freeSlots.size())
+               + freeSlots.size() * HeapLayout.objectBytes(0, Integer.BYTES)
+               + HeapLayout.hashMapBytes(materialized)
+               + HeapLayout.hashMapBytes(slotsByCard.size())
+               + 2L * materialized * referenceBytes
+               + HeapLayout.objectBytes(2, Long.BYTES);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: encodes the card into a record and returns the slot it was stored in
+    private int write(Card card) {
+        int slot;
+
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.remove(freeSlots.size() - 1);
+        } else {
+            if (slotCount == slotAddresses.length) {
+                slotAddresses = Arrays.copyOf(slotAddresses, slotCount * 2);
+                slotGenerations = Arrays.copyOf(slotGenerations, slotCount * 2);
+            }
+
+            slot = slotCount++;
+        }
+
+        slotAddresses[slot] = append(encode(card));
+        return slot;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: releases the record in slot so the slot can be reused
+    private void freeSlot(int slot) {
+        slotGenerations[slot]++;
+        liveBytes -= recordLength(slotAddresses[slot]);
+        freeSlots.add(slot);
+        compactIfWasteful();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the record to the end of the off-heap storage and returns its address
+    private long append(ByteBuffer record) {
+        int length = record.remaining();
+        ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+
+        if (chunk == null || chunk.remaining() < length) {
+            chunk = ByteBuffer.allocateDirect(Math.max(CHUNK_SIZE, length));
+            chunks.add(chunk);
+        }
+
+        long address = ((long) (chunks.size() - 1) << 32) | chunk.position();
+
+        chunk.put(record);
+        usedBytes += length;
+        liveBytes += length;
+
+        return address;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rewrites all live records into new chunks once more
+    //          than half of the used off-heap storage is wasted
+    private void compactIfWasteful() {
+        if (usedBytes < CHUNK_SIZE || liveBytes * 2 > usedBytes) {
+            return;
+        }
+
+        List<ByteBuffer> oldChunks = new ArrayList<>(chunks);
+        Set<Integer> unusedSlots = new HashSet<>(freeSlots);
+
+        chunks.clear();
+        usedBytes = 0;
+        liveBytes = 0;
+
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!unusedSlots.contains(slot)) {
+                slotAddresses[slot] = append(readRecord(oldChunks, slotAddresses[slot]));
+            }
+        }
+    }
+
+    // EFFECTS: returns a read-only view of the record at address within the chunks
+    private ByteBuffer readRecord(List<ByteBuffer> fromChunks, long address) {
+        ByteBuffer chunk = fromChunks.get((int) (address >>> 32)).duplicate();
+        int offset = offsetOf(address);
+
+        chunk.limit(offset + chunk.getInt(offset));
+        chunk.position(offset);
+
+        return chunk;
+    }
+
+    // EFFECTS: encodes all fields of the card into a new record
+    private ByteBuffer encode(Card card) {
+        List<byte[]> strings = new ArrayList<>();
+
+        strings.add(card.getTitle().getBytes(StandardCharsets.UTF_8));
+        strings.add(card.getDescription().getBytes(StandardCharsets.UTF_8));
+        strings.add(card.getAssignee().getBytes(StandardCharsets.UTF_8));
+
+        for (String tag : card.getTags()) {
+            strings.add(tag.getBytes(StandardCharsets.UTF_8));
+        }
+
+        int length = Integer.BYTES * 3 + Byte.BYTES;
+
+        for (byte[] string : strings) {
+            length += Integer.BYTES + string.length;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(length);
+        record.putInt(length).putInt(card.getStoryPoints()).put((byte) card.getType().ordinal());
+        record.putInt(strings.size() - 3);
+
+        for (byte[] string : strings) {
+            record.putInt(string.length).put(string);
+        }
+
+        return record.flip();
+    }
+
+    // EFFECTS: decodes the fields of the card stored in the record at address
+    private Record decode(long address) {
+        ByteBuffer record = readRecord(chunks, address);
+        record.getInt();
+
+        int storyPoints = record.getInt();
+        CardType type = CARD_TYPES[record.get()];
+        int tagCount = record.getInt();
+
+        String title = readString(record);
+        String description = readString(record);
+        String assignee = readString(record);
+        Set<String> tags = new LinkedHashSet<>();
+
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(readString(record));
+        }
+
+        return new Record(title, description, assignee, type, tags, storyPoints);
+    }
+
+    // EFFECTS: decodes only the tags of the card stored in the record at address
+    private Set<String> decodeTags(long address) {
+        ByteBuffer record = readRecord(chunks, address);
+        record.position(record.position() + TAG_COUNT_OFFSET);
+
+        int tagCount = record.getInt();
+
+        // skip the title, description and assignee
+        for (int i = 0; i < 3; i++) {
+            int length = record.getInt();
+            record.position(record.position() + length);
+        }
+
+        Set<String> tags = new HashSet<>();
+
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(readString(record));
+        }
+
+        return tags;
+    }
+
+    // MODIFIES: record
+    // EFFECTS: reads a length prefixed string from the record
+    private String readString(ByteBuffer record) {
+        byte[] bytes = new byte[record.getInt()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: remembers the card as the materialized object for slot
+    private void track(Card card, int slot) {
+        cardsBySlot.put(slot, new CardReference(card, slot, collectedCards));
+        slotsByCard.put(card, slot);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets the card as the materialized object for slot
+    private void untrack(Card card, int slot) {
+        cardsBySlot.remove(slot);
+        slotsByCard.remove(card);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets materialized cards which have been garbage collected
+    private void expungeCollectedCards() {
+        CardReference reference;
+
+        while ((reference = (CardReference) collectedCards.poll()) != null) {
+            cardsBySlot.remove(reference.slot, reference);
+        }
+    }
+
+    // EFFECTS: returns the length of the record at address
+    private int recordLength(long address) {
+        return chunkOf(address).getInt(offsetOf(address));
+    }
+
+    // EFFECTS: returns the chunk holding the record at address
+    private ByteBuffer chunkOf(long address) {
+        return chunks.get((int) (address >>> 32));
+    }
+
+    // EFFECTS: returns the offset of the record at address within its chunk
+    private static int offsetOf(long address) {
+        return (int) address;
+    }
+
+    // EFFECTS: throws an IndexOutOfBoundsException if index is not within [0, bound)
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    // This class holds the fields decoded from the record of a card.
+    private static class Record {
+        private final String title;
+        private final String description;
+        private final String assignee;
+        private final CardType type;
+        private final Set<String> tags;
+        private final int storyPoints;
+
+        // EFFECTS: constructs the decoded fields of a record
+        Record(String title, String description, String assignee, CardType type, Set<String> tags, int storyPoints) {
+            this.title = title;
+            this.description = description;
+            this.assignee = assignee;
+            this.type = type;
+            this.tags = tags;
+            this.storyPoints = storyPoints;
+        }
+
+        // EFFECTS: returns a new card with the fields of this record
+        private Card toCard() {
+            try {
+                return new Card(title, description, assignee, type, new HashSet<>(tags), storyPoints);
+            } catch (NegativeStoryPointsException e) {
+                // only cards which were already valid are ever encoded
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // EFFECTS: returns a snapshot with the fields of this record and its assignee taken from the
+        //          string pool of the board if there is one, whose live card is given by cardSupplier
+        private CardSnapshot toSnapshot(KanbanBoard board, Supplier<Card> cardSupplier) {
+            Assignee handle = board != null ? board.getStringPool().getAssignee(assignee) : new Assignee(assignee);
+
+            return new CardSnapshot(title, description, handle, type, tags, storyPoints, cardSupplier);
+        }
+    }
+
+    // This class is a weak reference to a materialized card which remembers its slot.
+    private static class CardReference extends WeakReference<Card> {
+        private final int slot;
+
+        // EFFECTS: constructs a weak reference to the card stored in slot
+        CardReference(Card card, int slot, ReferenceQueue<Card> queue) {
+            super(card, queue);
+            this.slot = slot;
+        }
+    }
+}
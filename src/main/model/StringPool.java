@@ -0,0 +1,62 @@
+package model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// This class represents a pool of canonical strings and assignees shared
+// by all the kanban boards within a list. Equal values read from a save
+// file or set on a card are stored once rather than once per card.
+// The pool is shared between boards, so it is synchronized.
+public class StringPool {
+    private final Map<String, String> strings;
+    private final Map<String, Assignee> assignees;
+
+    // EFFECTS: constructs an empty string pool
+    public StringPool() {
+        this.strings = new HashMap<>();
+        this.assignees = new HashMap<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the canonical instance of the string, which is
+    //          the given string if an equal one is not already pooled
+    public synchronized String canonicalize(String string) {
+        String canonical = strings.putIfAbsent(string, string);
+
+        return canonical != null ? canonical : string;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the canonical assignee with the given name,
+    //          creating it if it is not already pooled
+    public synchronized Assignee getAssignee(String name) {
+        Assignee assignee = assignees.get(name);
+
+        if (assignee == null) {
+            assignee = new Assignee(canonicalize(name));
+            assignees.put(assignee.getName(), assignee);
+        }
+
+        return assignee;
+    }
+
+    // EFFECTS: returns how many distinct strings are pooled
+    public synchronized int size() {
+        return strings.size();
+    }
+
+    // EFFECTS: returns how many distinct assignees are pooled
+    public synchronized int getAssigneeCount() {
+        return assignees.size();
+    }
+
+    // EFFECTS: returns an estimate of the bytes this pool takes on the heap,
+    //          including its strings and assignees
+    synchronized long estimateHeapBytes() {
+        return HeapLayout.objectBytes(2, 0)
+               + HeapLayout.hashMapBytes(strings.size())
+               + HeapLayout.stringBytes(strings.keySet())
+               + HeapLayout.hashMapBytes(assignees.size())
+               + assignees.size() * HeapLayout.objectBytes(1, 0);
+    }
+}
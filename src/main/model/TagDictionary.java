@@ -0,0 +1,91 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// This class represents the dictionary of all tags used within a kanban board.
+// Each distinct tag is given a small integer id, so that cards can store their
+// tags as a compact bitset instead of their own set of strings. The
+// dictionary is shared by every column of a board, so assigning ids is
+// synchronized, while looking up the id of a tag takes no lock since every
+// search of the board does so once per keyword and card.
+public class TagDictionary {
+    public static final int NO_ID = -1;
+
+    private final Map<String, Integer> idsByTag;
+    private final List<String> tagsById;
+
+    // EFFECTS: constructs an empty tag dictionary
+    public TagDictionary() {
+        this.idsByTag = new ConcurrentHashMap<>();
+        this.tagsById = new ArrayList<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the id of the tag, assigning it the next
+    //          available id if it has not been seen before
+    public synchronized int getOrAssignId(String tag) {
+        Integer id = idsByTag.get(tag);
+
+        if (id != null) {
+            return id;
+        }
+
+        int newId = tagsById.size();
+
+        // the tag is added before its id is published, so anyone who finds the id can look up the tag
+        tagsById.add(tag);
+        idsByTag.put(tag, newId);
+
+        return newId;
+    }
+
+    // EFFECTS: returns the id of the tag or NO_ID if
+    //          it is not in this dictionary
+    public int getId(String tag) {
+        Integer id = tag != null ? idsByTag.get(tag) : null;
+
+        return id != null ? id : NO_ID;
+    }
+
+    // EFFECTS: returns the tag with the given id
+    public synchronized String getTag(int id) {
+        return tagsById.get(id);
+    }
+
+    // EFFECTS: returns how many distinct tags are in this dictionary
+    public synchronized int size() {
+        return tagsById.size();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a bitset with the ids of all the given tags set,
+    //          assigning new ids to tags that have not been seen before
+    public synchronized BitSet encode(Collection<String> tags) {
+        BitSet bits = new BitSet(tagsById.size());
+
+        for (String tag : tags) {
+            bits.set(getOrAssignId(tag));
+        }
+
+        return bits;
+    }
+
+    // EFFECTS: returns an estimate of the bytes this dictionary takes on the heap, including its tags
+    synchronized long estimateHeapBytes() {
+        long bytes = HeapLayout.objectBytes(2, 0)
+                     + HeapLayout.hashMapBytes(idsByTag.size())
+                     + HeapLayout.arrayListBytes(tagsById.size())
+                     + HeapLayout.stringBytes(tagsById);
+
+        for (int id = 0; id < tagsById.size(); id++) {
+            bytes += HeapLayout.integerBytes(id);
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,122 @@
+package model;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+// This class represents a filter which matches cards based on their tags.
+// When a card stores its tags as a TagSet the filter is evaluated with
+// bitwise operations on the tag ids instead of string lookups. A filter
+// may be shared by several threads, since its encoding is never changed
+// but replaced once a dictionary has given ids to tags it did not know.
+public class TagFilter {
+    private final Set<String> tags;
+    private final boolean matchAll;
+
+    // The filter tags encoded with the most recently seen dictionary
+    private volatile Encoding encoding;
+
+    // EFFECTS: constructs a filter that matches on the given tags, where either
+    //          all of the tags or any of the tags have to be present
+    private TagFilter(Set<String> tags, boolean matchAll) {
+        this.tags = new HashSet<>(tags);
+        this.matchAll = matchAll;
+        this.encoding = null;
+    }
+
+    // EFFECTS: returns a filter matching cards that have all the given tags
+    public static TagFilter allOf(Set<String> tags) {
+        return new TagFilter(tags, true);
+    }
+
+    // EFFECTS: returns a filter matching cards that have any of the given tags
+    public static TagFilter anyOf(Set<String> tags) {
+        return new TagFilter(tags, false);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns whether the card is matched by this filter
+    public boolean matches(Card card) {
+        Set<String> cardTags = card.getTags();
+
+        if (!(cardTags instanceof TagSet)) {
+            return matchesTags(cardTags);
+        }
+
+        TagSet tagSet = (TagSet) cardTags;
+        Encoding currentEncoding = encodeFor(tagSet.getDictionary());
+
+        if (matchAll) {
+            return !currentEncoding.hasUnknownTag && tagSet.containsAllIds(currentEncoding.ids);
+        }
+
+        return tagSet.containsAnyIds(currentEncoding.ids);
+    }
+
+    // EFFECTS: returns whether the tags, which are not encoded with any dictionary, are matched by this filter
+    boolean matchesTags(Set<String> cardTags) {
+        return matchAll ? cardTags.containsAll(tags) : containsAny(cardTags);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the filter tags encoded with the dictionary, encoding them again unless they
+    //          already were with that dictionary and it has not been given any tags since, which
+    //          might be the filter tags it did not know. Tags that are not in the dictionary are
+    //          recorded rather than added to it.
+    private Encoding encodeFor(TagDictionary dictionary) {
+        Encoding currentEncoding = encoding;
+
+        if (currentEncoding == null || !currentEncoding.isCurrent(dictionary)) {
+            currentEncoding = new Encoding(dictionary, tags);
+            encoding = currentEncoding;
+        }
+
+        return currentEncoding;
+    }
+
+    // EFFECTS: returns whether any of the filter tags are in cardTags
+    private boolean containsAny(Set<String> cardTags) {
+        for (String tag : tags) {
+            if (cardTags.contains(tag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // This class represents the filter tags encoded with one dictionary, which is never changed.
+    private static class Encoding {
+        private final TagDictionary dictionary;
+        private final int dictionarySize;
+        private final BitSet ids;
+        private final boolean hasUnknownTag;
+
+        // EFFECTS: encodes the tags with the dictionary, the size of the dictionary is read first
+        //          so a tag given an id meanwhile makes this encoding out of date
+        private Encoding(TagDictionary dictionary, Set<String> tags) {
+            this.dictionary = dictionary;
+            this.dictionarySize = dictionary.size();
+            this.ids = new BitSet(dictionarySize);
+            boolean unknown = false;
+
+            for (String tag : tags) {
+                int id = dictionary.getId(tag);
+
+                if (id == TagDictionary.NO_ID) {
+                    unknown = true;
+                } else {
+                    ids.set(id);
+                }
+            }
+
+            this.hasUnknownTag = unknown;
+        }
+
+        // EFFECTS: returns whether this is still the encoding of the filter tags with the dictionary,
+        //          ids are never reassigned so only an encoding missing some tags can go out of date
+        private boolean isCurrent(TagDictionary dictionary) {
+            return this.dictionary == dictionary && (!hasUnknownTag || dictionary.size() == dictionarySize);
+        }
+    }
+}
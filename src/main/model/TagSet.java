@@ -0,0 +1,132 @@
+package model;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// This class represents the tags of a single card. The tags are stored
+// as a bitset of ids from the tag dictionary of the containing board, so
+// the tag strings themselves are only ever stored once per board.
+public class TagSet extends AbstractSet<String> {
+    private final TagDictionary dictionary;
+    private final BitSet bits;
+
+    // MODIFIES: dictionary
+    // EFFECTS: constructs a tag set containing the given tags, which are
+    //          encoded using (and added to) the dictionary
+    public TagSet(TagDictionary dictionary, Collection<String> tags) {
+        this.dictionary = dictionary;
+        this.bits = dictionary.encode(tags);
+    }
+
+    // EFFECTS: returns whether this set contains the given tag
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+
+        int id = dictionary.getId((String) o);
+
+        return id != TagDictionary.NO_ID && bits.get(id);
+    }
+
+    // MODIFIES: this, dictionary
+    // EFFECTS: adds the tag to this set and returns whether it was not already present
+    @Override
+    public boolean add(String tag) {
+        int id = dictionary.getOrAssignId(tag);
+
+        if (bits.get(id)) {
+            return false;
+        }
+
+        bits.set(id);
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the tag from this set and returns whether it was present
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+
+        bits.clear(dictionary.getId((String) o));
+        return true;
+    }
+
+    // EFFECTS: returns whether all the tags with the given ids are in this set
+    public boolean containsAllIds(BitSet ids) {
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            if (!bits.get(id)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // EFFECTS: returns whether any of the tags with the given ids are in this set
+    public boolean containsAnyIds(BitSet ids) {
+        return bits.intersects(ids);
+    }
+
+    public TagDictionary getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public int size() {
+        return bits.cardinality();
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new TagIterator();
+    }
+
+    // This class iterates over the tags of this set in the order of their ids.
+    private class TagIterator implements Iterator<String> {
+        private int nextId = bits.nextSetBit(0);
+        private int lastId = -1;
+
+        @Override
+        public boolean hasNext() {
+            return nextId >= 0;
+        }
+
+        @Override
+        public String next() {
+            if (nextId < 0) {
+                throw new NoSuchElementException();
+            }
+
+            lastId = nextId;
+            nextId = bits.nextSetBit(nextId + 1);
+
+            return dictionary.getTag(lastId);
+        }
+
+        @Override
+        public void remove() {
+            if (lastId < 0) {
+                throw new IllegalStateException();
+            }
+
+            bits.clear(lastId);
+            lastId = -1;
+        }
+    }
+
+    // EFFECTS: returns an estimate of the bytes this set takes on the heap, not counting
+    //          the tags themselves which are stored once in the dictionary
+    long estimateHeapBytes() {
+        // the set, its bitset and the words of the bitset
+        return HeapLayout.objectBytes(2, 0) + HeapLayout.objectBytes(1, Integer.BYTES + 1)
+               + HeapLayout.arrayBytes(bits.size() / Long.SIZE, Long.BYTES);
+    }
+}
@@ -0,0 +1,12 @@
+package model;
+
+// Represents the outcome of an update which is only applied if the
+// version of what is being updated has not changed since it was read.
+public enum UpdateResult {
+    // The update was applied
+    APPLIED,
+
+    // Something else changed first, the update was not applied and
+    // can be retried after reading the current values again
+    CONFLICT
+}
@@ -0,0 +1,8 @@
+package model.exceptions;
+
+// This exception is thrown when an operation refers to a column that is not in the kanban board.
+public class ColumnNotInBoardException extends Exception {
+    public ColumnNotInBoardException(String columnName, String boardName) {
+        super("The column '" + columnName + "' is not in the kanban board '" + boardName + "'");
+    }
+}
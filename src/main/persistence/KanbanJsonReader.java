@@ -1,22 +1,43 @@
 package persistence;
 
+import metrics.Counter;
+import metrics.Gauge;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.jfr.LoadEvent;
 import model.*;
 import model.exceptions.*;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashSet;
-import java.util.List;
+import java.util.Collections;
 import java.util.Set;
-import java.util.stream.Stream;
 
 // This class represents a reader that reads a list of kanban boards
-// from a local JSON file.
+// from a local JSON file. The file is parsed as it is streamed and each
+// board is decoded as soon as it has been parsed, so reading can report
+// its progress throughout and stops with an InterruptedIOException as
+// soon as the reading thread is interrupted.
 public class KanbanJsonReader {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final LatencyHistogram READ_LATENCY = MetricsRegistry.getInstance().histogram("persistence.read");
+    private static final Gauge LAST_READ_NANOS = MetricsRegistry.getInstance().gauge("persistence.read.lastNanos");
+    private static final Counter READ_BYTES = MetricsRegistry.getInstance().counter("persistence.read.bytes");
+
     private final String sourceFile;
 
     // EFFECTS: constructs a JSON reader to load a list of kanban boards from file
@@ -28,83 +49,185 @@ public class KanbanJsonReader {
     //          throws an IOException if an error occurs with reading the file
     //          throws an CorruptedSaveDataException if the save file has invalid data
     public KanbanBoardList read() throws IOException, CorruptedSaveDataException {
+        return read(ReadProgressListener.NONE);
+    }
+
+    // EFFECTS: reads a list of kanban boards from file and returns it, reporting progress to the listener
+    //          throws an IOException if an error occurs with reading the file
+    //          throws an InterruptedIOException if the reading thread is interrupted
+    //          throws an CorruptedSaveDataException if the save file has invalid data
+    public KanbanBoardList read(ReadProgressListener listener) throws IOException, CorruptedSaveDataException {
         EventLog.getInstance().logEvent(new Event("Reading kanban boards from " + sourceFile));
 
-        String jsonString = readFile(sourceFile);
-        JSONObject json = new JSONObject(jsonString);
-        return readKanbanBoardList(json);
+        LoadEvent event = new LoadEvent();
+        event.begin();
+
+        long startNanos = System.nanoTime();
+        Path path = Paths.get(sourceFile);
+        long totalBytes = Files.size(path);
+        KanbanBoardList boards = readFile(path, totalBytes, listener);
+        long nanos = System.nanoTime() - startNanos;
+
+        READ_LATENCY.record(nanos);
+        LAST_READ_NANOS.set(nanos);
+        event.record(sourceFile, boards, totalBytes);
+
+        return boards;
     }
 
-    // EFFECTS: reads source file as string and returns it
-    private String readFile(String source) throws IOException {
-        StringBuilder contentBuilder = new StringBuilder();
+    // EFFECTS: parses the kanban board list while streaming the file of totalBytes, reporting the bytes
+    //          read after each chunk and each board as soon as it is decoded
+    private KanbanBoardList readFile(Path path, long totalBytes, ReadProgressListener listener)
+            throws IOException, CorruptedSaveDataException {
+        try (ProgressInputStream in = new ProgressInputStream(Files.newInputStream(path), totalBytes, listener);
+             Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), CHUNK_SIZE)) {
+            KanbanBoardList boards = readKanbanBoardList(new JSONTokener(reader), listener);
+            READ_BYTES.add(in.getCount());
+            return boards;
+        } catch (JSONException e) {
+            // The tokener wraps the exceptions of the stream, including an interruption
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
 
-        try (Stream<String> stream = Files.lines(Paths.get(source), StandardCharsets.UTF_8)) {
-            stream.forEach(contentBuilder::append);
+            throw e;
         }
+    }
 
-        return contentBuilder.toString();
+    // EFFECTS: throws an InterruptedIOException if the current thread has been interrupted
+    private void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Reading " + sourceFile + " was interrupted");
+        }
     }
 
-    // EFFECTS: reads a kanban board list from the json
-    private KanbanBoardList readKanbanBoardList(JSONObject json) throws CorruptedSaveDataException {
+    // EFFECTS: reads a kanban board list from the top level object of the json, skipping any other keys
+    private KanbanBoardList readKanbanBoardList(JSONTokener json, ReadProgressListener listener)
+            throws IOException, CorruptedSaveDataException {
+        KanbanBoardList boards = null;
+        expect(json, '{');
+
+        do {
+            String key = json.nextValue().toString();
+            expect(json, ':');
+
+            if (key.equals("boards")) {
+                boards = readKanbanBoards(json, listener);
+            } else {
+                json.nextValue();
+            }
+        } while (hasNext(json, '}'));
+
+        if (boards == null || json.nextClean() != 0) {
+            throw json.syntaxError("Expected a single object with a list of boards");
+        }
+
+        return boards;
+    }
+
+    // EFFECTS: reads the list of kanban boards, decoding and reporting each board as soon as it is parsed
+    private KanbanBoardList readKanbanBoards(JSONTokener json, ReadProgressListener listener)
+            throws IOException, CorruptedSaveDataException {
         KanbanBoardList boards = new KanbanBoardList();
-        JSONArray jsonBoards = json.getJSONArray("boards");
+        int cardsRead = 0;
+        expect(json, '[');
 
-        for (Object jsonBoard : jsonBoards) {
-            KanbanBoard board = readKanbanBoard((JSONObject) jsonBoard);
-            boards.addBoard(board);
+        if (json.nextClean() == ']') {
+            return boards;
         }
 
+        json.back();
+
+        do {
+            KanbanBoard board = readKanbanBoard(new JSONObject(json), boards.getStringPool());
+            boards.addBoard(board);
+
+            cardsRead += board.getCardCount(true);
+            listener.boardRead(board, boards.size(), cardsRead);
+            checkInterrupted();
+        } while (hasNext(json, ']'));
+
         return boards;
     }
 
-    // EFFECTS: reads a single kanban board from the json
-    private KanbanBoard readKanbanBoard(JSONObject json) throws CorruptedSaveDataException {
+    // EFFECTS: consumes the next character, throws a JSONException if it is not the expected one
+    private static void expect(JSONTokener json, char expected) {
+        if (json.nextClean() != expected) {
+            throw json.syntaxError("Expected '" + expected + "'");
+        }
+    }
+
+    // EFFECTS: consumes the separator after an element, returns true if another element follows
+    //          and false if the closing character ends the list
+    private static boolean hasNext(JSONTokener json, char closing) {
+        char next = json.nextClean();
+
+        if (next != ',' && next != closing) {
+            throw json.syntaxError("Expected ',' or '" + closing + "'");
+        }
+
+        return next == ',';
+    }
+
+    // MODIFIES: stringPool
+    // EFFECTS: reads a single kanban board from the json which uses the string pool, checking for an
+    //          interruption after each column
+    private KanbanBoard readKanbanBoard(JSONObject json, StringPool stringPool)
+            throws InterruptedIOException, CorruptedSaveDataException {
         String name = json.getString("name");
         String description = json.getString("description");
         String completedColumnName = json.getString("completedColumnName");
 
         KanbanBoard board = new KanbanBoard(name, description, completedColumnName);
+        board.setStringPool(stringPool);
 
         JSONArray jsonColumns = json.getJSONArray("columns");
 
-        for (Object jsonColumn : jsonColumns) {
-            Column column = readColumn((JSONObject) jsonColumn);
+        // All cards are added at once after the columns
+        CardBatch cards = new CardBatch();
 
-            try {
-                board.addColumn(column);
-            } catch (DuplicateColumnException e) {
-                throw new CorruptedSaveDataException(e);
+        try {
+            for (Object jsonColumn : jsonColumns) {
+                board.addColumn(readColumn((JSONObject) jsonColumn, board, cards));
+                checkInterrupted();
             }
+
+            board.applyBatch(cards);
+        } catch (DuplicateColumnException | ColumnNotInBoardException e) {
+            throw new CorruptedSaveDataException(e);
         }
 
         return board;
     }
 
-    // EFFECTS: reads a single kanban board column from the json
-    private Column readColumn(JSONObject json) throws CorruptedSaveDataException {
+    // MODIFIES: board, cards
+    // EFFECTS: reads a single kanban board column from the json and adds its cards to the batch, card
+    //          tags and assignees are stored using the tag dictionary and string pool of the board
+    private Column readColumn(JSONObject json, KanbanBoard board, CardBatch cards) throws CorruptedSaveDataException {
         String name = json.getString("name");
+        CardStorage storage = json.optEnum(CardStorage.class, "storage", CardStorage.HEAP);
         JSONArray jsonCards = json.getJSONArray("cards");
 
-        Column column = new Column(name);
+        Column column = new Column(name, storage);
 
         for (Object jsonCard : jsonCards) {
-            Card card = readCard((JSONObject) jsonCard);
-
-            column.addCard(card);
+            cards.add(readCard((JSONObject) jsonCard, board.getTagDictionary(), board.getStringPool()), column);
         }
 
         return column;
     }
 
-    // EFFECTS: reads a single card from the json
-    private Card readCard(JSONObject json) throws CorruptedSaveDataException {
+    // MODIFIES: tagDictionary, stringPool
+    // EFFECTS: reads a single card from the json with its tags encoded using
+    //          the tag dictionary and its assignee taken from the string pool
+    private Card readCard(JSONObject json,
+                          TagDictionary tagDictionary,
+                          StringPool stringPool) throws CorruptedSaveDataException {
         String title = json.getString("title");
         String description = json.getString("description");
-        String assignee = json.getString("assignee");
+        Assignee assignee = stringPool.getAssignee(json.getString("assignee"));
         CardType type = json.getEnum(CardType.class, "type");
-        Set<String> tags = new HashSet<>((List<String>) (Object) json.getJSONArray("tags").toList());
+        Set<String> tags = readTags(json.getJSONArray("tags"), tagDictionary, stringPool);
         int storyPoints = json.getInt("storyPoints");
 
         try {
@@ -113,4 +236,68 @@ public class KanbanJsonReader {
             throw new CorruptedSaveDataException(e);
         }
     }
+
+    // MODIFIES: tagDictionary, stringPool
+    // EFFECTS: reads the tags of a card directly into a tag set backed
+    //          by the tag dictionary using canonical tag strings
+    private Set<String> readTags(JSONArray jsonTags, TagDictionary tagDictionary, StringPool stringPool) {
+        TagSet tags = new TagSet(tagDictionary, Collections.emptyList());
+
+        for (int i = 0; i < jsonTags.length(); i++) {
+            tags.add(stringPool.canonicalize(jsonTags.getString(i)));
+        }
+
+        return tags;
+    }
+
+    // This class counts how many bytes have been read from the underlying stream, reporting them after
+    // each chunk and stopping with an InterruptedIOException once the reading thread is interrupted.
+    private class ProgressInputStream extends FilterInputStream {
+        private final long totalBytes;
+        private final ReadProgressListener listener;
+        private long count;
+
+        // EFFECTS: wraps the stream of totalBytes with a count of zero, reporting to the listener
+        private ProgressInputStream(InputStream in, long totalBytes, ReadProgressListener listener) {
+            super(in);
+            this.totalBytes = totalBytes;
+            this.listener = listener;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkInterrupted();
+            int value = super.read();
+
+            if (value != -1) {
+                count++;
+            }
+
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            checkInterrupted();
+            int bytesRead = super.read(buffer, offset, length);
+
+            if (bytesRead > 0) {
+                count += bytesRead;
+                listener.bytesRead(count, totalBytes);
+            }
+
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
 }
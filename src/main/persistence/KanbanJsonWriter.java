@@ -1,8 +1,16 @@
 package persistence;
 
+import metrics.Counter;
+import metrics.Gauge;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.jfr.SaveEvent;
 import model.Event;
 import model.EventLog;
 import model.KanbanBoardList;
+import model.KanbanBoardListSnapshot;
+import model.KanbanBoardSnapshot;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
@@ -12,6 +20,11 @@ import java.io.PrintWriter;
 // to a local file as JSON.
 public class KanbanJsonWriter {
     private static final int TAB_WIDTH = 4;
+
+    private static final LatencyHistogram WRITE_LATENCY = MetricsRegistry.getInstance().histogram("persistence.write");
+    private static final Gauge LAST_WRITE_NANOS = MetricsRegistry.getInstance().gauge("persistence.write.lastNanos");
+    private static final Counter WRITTEN_CHARS = MetricsRegistry.getInstance().counter("persistence.write.chars");
+
     private PrintWriter writer;
     private final String destinationFile;
 
@@ -33,18 +46,75 @@ public class KanbanJsonWriter {
         writer.close();
     }
 
+    // MODIFIES: this
+    // EFFECTS: flushes everything written so far to the file and
+    //          returns whether any error has occurred while writing
+    public boolean hasError() {
+        return writer.checkError();
+    }
+
     // MODIFIES: this
     // EFFECTS: writes the JSON representation of the kanban boards to file
     public void writeBoards(KanbanBoardList boards) {
         EventLog.getInstance().logEvent(new Event("Writing kanban boards to " + destinationFile));
 
+        SaveEvent event = new SaveEvent();
+        event.begin();
+
+        long startNanos = System.nanoTime();
         JSONObject json = boards.toJson();
-        writeToFile(json.toString(TAB_WIDTH));
+        String jsonString = json.toString(TAB_WIDTH);
+        writeToFile(jsonString);
+        recordWrite(startNanos);
+
+        event.record(destinationFile, boards, jsonString.length());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the JSON representation of a snapshot of the kanban boards to file,
+    //          this can be done on any thread while the boards keep being edited
+    public void writeBoards(KanbanBoardListSnapshot boards) {
+        writeBoards(boards, WriteProgressListener.NONE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the JSON representation of a snapshot of the kanban boards to file,
+    //          reporting to the listener after each board has been converted to JSON
+    public void writeBoards(KanbanBoardListSnapshot boards, WriteProgressListener listener) {
+        EventLog.getInstance().logEvent(new Event("Writing kanban board snapshot to " + destinationFile));
+
+        SaveEvent event = new SaveEvent();
+        event.begin();
+
+        long startNanos = System.nanoTime();
+        JSONArray jsonBoards = new JSONArray();
+
+        for (KanbanBoardSnapshot board : boards.getBoards()) {
+            jsonBoards.put(board.toJson());
+            listener.boardWritten(jsonBoards.length(), boards.size());
+        }
+
+        JSONObject json = new JSONObject();
+        json.put("boards", jsonBoards);
+        String jsonString = json.toString(TAB_WIDTH);
+        writeToFile(jsonString);
+        recordWrite(startNanos);
+
+        event.record(destinationFile, boards, jsonString.length());
+    }
+
+    // EFFECTS: records how long writing the boards took since startNanos
+    private void recordWrite(long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+
+        WRITE_LATENCY.record(nanos);
+        LAST_WRITE_NANOS.set(nanos);
     }
 
     // MODIFIES: this
     // EFFECTS: writes a json string to the currently opened file
     private void writeToFile(String jsonString) {
         writer.print(jsonString);
+        WRITTEN_CHARS.add(jsonString.length());
     }
 }
@@ -0,0 +1,20 @@
+package persistence;
+
+import model.KanbanBoard;
+
+// This interface is implemented by anything that wants to follow the progress of
+// a KanbanJsonReader. Progress is reported on the thread doing the reading.
+public interface ReadProgressListener {
+    // A listener which ignores all progress
+    ReadProgressListener NONE = new ReadProgressListener() {
+    };
+
+    // EFFECTS: called as the save file is read with how many of its bytes have been read so far
+    default void bytesRead(long bytesRead, long totalBytes) {
+    }
+
+    // EFFECTS: called after each board has been decoded with how many
+    //          boards and cards have been decoded so far
+    default void boardRead(KanbanBoard board, int boardsRead, int cardsRead) {
+    }
+}
@@ -0,0 +1,14 @@
+package persistence;
+
+// This interface is implemented by anything that wants to follow the progress of
+// a KanbanJsonWriter. Progress is reported on the thread doing the writing.
+public interface WriteProgressListener {
+    // A listener which ignores all progress
+    WriteProgressListener NONE = new WriteProgressListener() {
+    };
+
+    // EFFECTS: called after each board has been converted to JSON with
+    //          how many of the boards have been converted so far
+    default void boardWritten(int boardsWritten, int totalBoards) {
+    }
+}
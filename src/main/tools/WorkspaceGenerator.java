@@ -0,0 +1,318 @@
+package tools;
+
+import model.Card;
+import model.CardBatch;
+import model.CardType;
+import model.Column;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+import model.exceptions.ColumnNotInBoardException;
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.json.JSONWriter;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+// This class generates realistic kanban boards from a seed, so the same seed always
+// gives the same boards. Earlier columns hold most of the cards, a few tags and
+// assignees are used far more than the rest, and descriptions are often long.
+// Boards can be built in memory or written straight to a save file one card at a
+// time, which makes save files with tens of millions of cards without holding them.
+public class WorkspaceGenerator {
+    public static final int TAG_VOCABULARY_SIZE = 500;
+    public static final int ASSIGNEE_COUNT = 100;
+
+    private static final double COLUMN_SIZE_EXPONENT = 0.8;
+    private static final double TAG_EXPONENT = 1.1;
+    private static final double ASSIGNEE_EXPONENT = 1.0;
+    private static final int MEAN_TITLE_WORDS = 4;
+    private static final int MEAN_DESCRIPTION_WORDS = 60;
+    private static final int MAX_DESCRIPTION_WORDS = 1000;
+    private static final int[] STORY_POINTS = {0, 1, 2, 3, 5, 8, 13};
+    private static final CardType[] CARD_TYPES = CardType.values();
+    private static final String[] WORDS = {
+            "fix", "login", "page", "report", "crash", "update", "design", "review", "deploy", "cache",
+            "search", "export", "import", "user", "admin", "button", "layout", "query", "index", "token",
+            "session", "payment", "invoice", "email", "profile", "settings", "upload", "billing", "mobile", "api",
+            "timeout", "error", "slow", "broken", "refactor", "migrate", "test", "docs", "release", "feature"
+    };
+
+    private final Random random;
+    private final int columnsPerBoard;
+    private final int cardsPerBoard;
+    private final int tagsPerCard;
+
+    private final ZipfDistribution columnSizes;
+    private final ZipfDistribution tags;
+    private final ZipfDistribution assignees;
+
+    private int boardCount;
+    private int cardCount;
+
+    // EFFECTS: creates a generator of boards with the given number of columns and cards,
+    //          where every card has tagsPerCard different tags.
+    //          throws IllegalArgumentException if there are no columns, the card count is
+    //          negative, or the tag count is negative or larger than TAG_VOCABULARY_SIZE
+    public WorkspaceGenerator(long seed, int columnsPerBoard, int cardsPerBoard, int tagsPerCard) {
+        if (columnsPerBoard <= 0 || cardsPerBoard < 0 || tagsPerCard < 0 || tagsPerCard > TAG_VOCABULARY_SIZE) {
+            throw new IllegalArgumentException("Boards need columns, and cards need between 0 and "
+                                               + TAG_VOCABULARY_SIZE + " tags");
+        }
+
+        this.random = new Random(seed);
+        this.columnsPerBoard = columnsPerBoard;
+        this.cardsPerBoard = cardsPerBoard;
+        this.tagsPerCard = tagsPerCard;
+
+        this.columnSizes = new ZipfDistribution(columnsPerBoard, COLUMN_SIZE_EXPONENT);
+        this.tags = new ZipfDistribution(TAG_VOCABULARY_SIZE, TAG_EXPONENT);
+        this.assignees = new ZipfDistribution(ASSIGNEE_COUNT, ASSIGNEE_EXPONENT);
+
+        this.boardCount = 0;
+        this.cardCount = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a list of newly generated boards
+    public KanbanBoardList generateBoards(int count) {
+        KanbanBoardList boards = new KanbanBoardList();
+
+        for (int i = 0; i < count; i++) {
+            boards.addBoard(generateBoard());
+        }
+
+        return boards;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a newly generated board, the same as the next board that would be written to file
+    public KanbanBoard generateBoard() {
+        String name = getNextBoardName();
+        String description = makeText(MEAN_DESCRIPTION_WORDS);
+        KanbanBoard board = new KanbanBoard(name, description, getColumnName(columnsPerBoard - 1));
+        int[] cardsPerColumn = makeColumnSizes();
+        CardBatch batch = new CardBatch();
+
+        try {
+            for (int i = 0; i < columnsPerBoard; i++) {
+                Column column = new Column(getColumnName(i));
+                board.addColumn(column);
+
+                for (int j = 0; j < cardsPerColumn[i]; j++) {
+                    batch.add(generateCard(), column);
+                }
+            }
+
+            board.applyBatch(batch);
+        } catch (DuplicateColumnException | ColumnNotInBoardException e) {
+            // every column has a different name and is added before its cards
+            throw new IllegalStateException(e);
+        }
+
+        return board;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a newly generated card which is not in any column
+    public Card generateCard() {
+        CardFields fields = new CardFields();
+
+        try {
+            return new Card(fields.title, fields.description, fields.assignee, fields.type,
+                            new HashSet<>(fields.tags), fields.storyPoints);
+        } catch (NegativeStoryPointsException e) {
+            // story points are only ever chosen from STORY_POINTS
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes boardCount newly generated boards to the save file
+    //          throws IOException if the file cannot be written
+    public void writeBoards(Path file, int boardCount) throws IOException {
+        try (CountingWriter out = new CountingWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            JSONWriter json = startSaveFile(out);
+
+            for (int i = 0; i < boardCount; i++) {
+                writeBoard(json);
+            }
+
+            json.endArray().endObject();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes newly generated boards to the save file until it holds at least targetBytes,
+    //          the file grows by a whole board at a time so it may be somewhat larger
+    //          throws IOException if the file cannot be written
+    public void writeBoardsOfSize(Path file, long targetBytes) throws IOException {
+        try (CountingWriter out = new CountingWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            JSONWriter json = startSaveFile(out);
+
+            while (out.count < targetBytes) {
+                writeBoard(json);
+            }
+
+            json.endArray().endObject();
+        }
+    }
+
+    // EFFECTS: starts the save file and its list of boards
+    private JSONWriter startSaveFile(Writer out) {
+        JSONWriter json = new JSONWriter(out);
+        json.object().key("boards").array();
+        return json;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a newly generated board, the same as the next board that would be generated in memory
+    private void writeBoard(JSONWriter json) {
+        json.object()
+                .key("name").value(getNextBoardName())
+                .key("description").value(makeText(MEAN_DESCRIPTION_WORDS))
+                .key("completedColumnName").value(getColumnName(columnsPerBoard - 1))
+                .key("columns").array();
+
+        int[] cardsPerColumn = makeColumnSizes();
+
+        for (int i = 0; i < columnsPerBoard; i++) {
+            json.object().key("name").value(getColumnName(i)).key("cards").array();
+
+            for (int j = 0; j < cardsPerColumn[i]; j++) {
+                new CardFields().write(json);
+            }
+
+            json.endArray().endObject();
+        }
+
+        json.endArray().endObject();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the name of the next board
+    private String getNextBoardName() {
+        return "Board " + boardCount++;
+    }
+
+    // EFFECTS: returns the name of the column at the index
+    private static String getColumnName(int index) {
+        return "Column " + index;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns how many cards go in each column of the next board
+    private int[] makeColumnSizes() {
+        int[] sizes = new int[columnsPerBoard];
+
+        for (int i = 0; i < cardsPerBoard; i++) {
+            sizes[columnSizes.sample(random)]++;
+        }
+
+        return sizes;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns text of random words, with meanWords words on average
+    private String makeText(int meanWords) {
+        // exponentially distributed, so most texts are short but some are very long
+        int wordCount = 1 + (int) Math.min(-Math.log(1 - random.nextDouble()) * meanWords, MAX_DESCRIPTION_WORDS);
+        StringBuilder text = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+
+        for (int i = 1; i < wordCount; i++) {
+            text.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        return text.toString();
+    }
+
+    // This class holds the fields of a generated card, which are either
+    // used to make a card in memory or written straight to a save file.
+    private class CardFields {
+        private final String title;
+        private final String description;
+        private final String assignee;
+        private final CardType type;
+        private final Set<String> tags;
+        private final int storyPoints;
+
+        // MODIFIES: WorkspaceGenerator.this
+        // EFFECTS: generates the fields of the next card
+        private CardFields() {
+            String number = "#" + cardCount++ + " ";
+
+            this.title = number + makeText(MEAN_TITLE_WORDS);
+            this.description = makeText(MEAN_DESCRIPTION_WORDS);
+            this.assignee = "Assignee " + assignees.sample(random);
+            this.type = CARD_TYPES[random.nextInt(CARD_TYPES.length)];
+            this.tags = makeTags();
+            this.storyPoints = STORY_POINTS[random.nextInt(STORY_POINTS.length)];
+        }
+
+        // MODIFIES: WorkspaceGenerator.this
+        // EFFECTS: returns tagsPerCard different tags, in the order they were chosen
+        private Set<String> makeTags() {
+            Set<String> cardTags = new LinkedHashSet<>();
+
+            while (cardTags.size() < tagsPerCard) {
+                cardTags.add("tag" + WorkspaceGenerator.this.tags.sample(random));
+            }
+
+            return cardTags;
+        }
+
+        // EFFECTS: writes the fields as a card of a save file
+        private void write(JSONWriter json) {
+            json.object()
+                    .key("title").value(title)
+                    .key("description").value(description)
+                    .key("assignee").value(assignee)
+                    .key("type").value(type.name())
+                    .key("tags").array();
+
+            for (String tag : tags) {
+                json.value(tag);
+            }
+
+            json.endArray()
+                    .key("storyPoints").value(storyPoints)
+                    .endObject();
+        }
+    }
+
+    // This class counts the characters written, which are all single bytes in UTF-8.
+    private static class CountingWriter extends FilterWriter {
+        private long count;
+
+        // EFFECTS: wraps the writer with a count of zero
+        private CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            super.write(c);
+            count++;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            super.write(buffer, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void write(String string, int offset, int length) throws IOException {
+            super.write(string, offset, length);
+            count += length;
+        }
+    }
+}
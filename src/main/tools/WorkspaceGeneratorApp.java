@@ -0,0 +1,28 @@
+package tools;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+// This class writes a generated save file from the command line, for example
+//     java tools.WorkspaceGeneratorApp ./data/large.json 512 7
+// writes about 512 MB of boards generated from the seed 7 to ./data/large.json.
+public class WorkspaceGeneratorApp {
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final long DEFAULT_SEED = 42;
+    private static final int COLUMNS_PER_BOARD = 6;
+    private static final int CARDS_PER_BOARD = 1000;
+    private static final int TAGS_PER_CARD = 3;
+
+    // EFFECTS: writes a save file with the size and seed given by the arguments
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: WorkspaceGeneratorApp <save file> <size in MB> [seed]");
+            System.exit(1);
+        }
+
+        long seed = args.length == 3 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        WorkspaceGenerator generator = new WorkspaceGenerator(seed, COLUMNS_PER_BOARD, CARDS_PER_BOARD, TAGS_PER_CARD);
+
+        generator.writeBoardsOfSize(Paths.get(args[0]), Long.parseLong(args[1]) * BYTES_PER_MEGABYTE);
+    }
+}
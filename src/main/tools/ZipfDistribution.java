@@ -0,0 +1,54 @@
+package tools;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// This class represents a Zipf distribution over the ranks 0 to size - 1, where rank k
+// is chosen with a probability proportional to 1 / (k + 1)^exponent. A few ranks are
+// chosen most of the time, which is how tags and assignees are used in real projects.
+public class ZipfDistribution {
+    private final double[] cumulativeProbabilities;
+
+    // EFFECTS: creates a distribution over size ranks with the exponent,
+    //          throws IllegalArgumentException if size is not positive or the exponent is negative
+    public ZipfDistribution(int size, double exponent) {
+        if (size <= 0 || exponent < 0) {
+            throw new IllegalArgumentException("A Zipf distribution needs ranks and a non-negative exponent");
+        }
+
+        this.cumulativeProbabilities = new double[size];
+
+        double total = 0;
+
+        for (int i = 0; i < size; i++) {
+            total += 1 / Math.pow(i + 1, exponent);
+            cumulativeProbabilities[i] = total;
+        }
+
+        for (int i = 0; i < size; i++) {
+            cumulativeProbabilities[i] /= total;
+        }
+    }
+
+    // EFFECTS: returns how many ranks there are
+    public int getSize() {
+        return cumulativeProbabilities.length;
+    }
+
+    // EFFECTS: returns the probability of the rank being chosen
+    public double getProbability(int rank) {
+        return cumulativeProbabilities[rank] - (rank == 0 ? 0 : cumulativeProbabilities[rank - 1]);
+    }
+
+    // MODIFIES: random
+    // EFFECTS: returns a rank chosen with the random
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+
+        if (index < 0) {
+            index = -index - 1;
+        }
+
+        return Math.min(index, cumulativeProbabilities.length - 1);
+    }
+}
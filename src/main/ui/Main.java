@@ -4,7 +4,16 @@ import ui.console.JanbanConsoleApp;
 import ui.graphical.JanbanGraphicalApp;
 
 public class Main {
+    private static final String SCRIPT_OPTION = "--script";
+
+    // EFFECTS: runs the graphical app, or runs the script given by --script <file> without a
+    //          user interface, where a file of - reads the script from standard input
     public static void main(String[] args) {
+        if (args.length == 2 && args[0].equals(SCRIPT_OPTION)) {
+            boolean succeeded = new JanbanConsoleApp().runScript(args[1]);
+            System.exit(succeeded ? 0 : 1);
+        }
+
         RunnableApp app = new JanbanGraphicalApp();
         app.run();
     }
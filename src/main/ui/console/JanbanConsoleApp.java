@@ -1,5 +1,6 @@
 package ui.console;
 
+import metrics.jmx.JmxExporter;
 import model.*;
 import model.exceptions.*;
 import org.json.JSONException;
@@ -7,13 +8,22 @@ import persistence.KanbanJsonReader;
 import persistence.KanbanJsonWriter;
 import ui.RunnableApp;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.*;
 
 // This class represents the console user interface for the Janban app.
 // Contains all the logic for processing and displaying the app.
 public class JanbanConsoleApp implements RunnableApp {
     private static final String SAVE_DATA_FILE = "./data/save.json";
+    private static final int TOP_ASSIGNEE_COUNT = 5;
     private final KanbanJsonWriter kanbanJsonWriter;
     private final KanbanJsonReader kanbanJsonReader;
 
@@ -43,6 +53,7 @@ public class JanbanConsoleApp implements RunnableApp {
 
         promptLoadBoards();
 
+        JmxExporter.register(kanbanBoards);
         launchMainMenu();
 
         ConsoleHelper.newLine();
@@ -55,6 +66,56 @@ public class JanbanConsoleApp implements RunnableApp {
         System.out.println("===================================");
     }
 
+    // MODIFIES: this
+    // EFFECTS: runs the commands of the script file without prompting, reading them from standard input
+    //          if source is "-". Boards are loaded from the save file first if it exists, and saved once
+    //          after the last command if the script saves. Returns whether every command succeeded.
+    public boolean runScript(String source) {
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+
+        try (BufferedReader script = openScript(source)) {
+            if (Files.exists(Paths.get(SAVE_DATA_FILE))) {
+                kanbanBoards = kanbanJsonReader.read();
+            }
+
+            ScriptRunner runner = new ScriptRunner(kanbanBoards, out);
+            runner.run(script);
+            out.flush();
+
+            return !runner.isSaveRequested() || saveScriptBoards();
+        } catch (IOException | CorruptedSaveDataException | JSONException | ScriptException e) {
+            out.flush();
+            System.err.println("Script failed: " + e.getMessage());
+
+            return false;
+        }
+    }
+
+    // EFFECTS: opens the script file, or standard input if source is "-"
+    private BufferedReader openScript(String source) throws IOException {
+        if (source.equals("-")) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+
+        return Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8);
+    }
+
+    // EFFECTS: saves the kanban boards of a script to the save file and returns whether it was successful
+    private boolean saveScriptBoards() throws IOException {
+        kanbanJsonWriter.open();
+        kanbanJsonWriter.writeBoards(kanbanBoards);
+
+        boolean failed = kanbanJsonWriter.hasError();
+        kanbanJsonWriter.close();
+
+        if (failed) {
+            System.err.println("Script failed: the save file could not be written");
+            return false;
+        }
+
+        return true;
+    }
+
     //
     // Saving
     //
@@ -826,8 +887,8 @@ public class JanbanConsoleApp implements RunnableApp {
     // Stats menu
     //
 
-    // EFFECTS: displays statistics about the story points and card count for the
-    //          current kanban board
+    // EFFECTS: displays statistics about the story points, card count and estimated
+    //          memory of the current kanban board
     private void displayKanbanBoardStats() {
         ConsoleHelper.newLine();
 
@@ -847,11 +908,43 @@ public class JanbanConsoleApp implements RunnableApp {
         System.out.println("\t- In progress: " + inProgressStoryPoints);
         System.out.println("\t- Completed: " + completedStoryPoints);
 
+        printBreakdowns(currentKanbanBoard.getColumnarStore());
+
+        System.out.printf("Estimated memory: %.2f MB%n", toMegabytes(currentKanbanBoard.getEstimatedHeapBytes()));
+
+        for (Column column : currentKanbanBoard.getColumns()) {
+            System.out.printf("\t- %s: %.2f MB%n", column.getName(), toMegabytes(column.getEstimatedHeapBytes()));
+        }
+
         ConsoleHelper.newLine();
 
         ConsoleHelper.pause();
     }
 
+    // EFFECTS: displays the cards and story points of each card type and the assignees with the most story points
+    private void printBreakdowns(ColumnarCardStore store) {
+        Map<CardType, Integer> cardCounts = store.getCardCountByType();
+        Map<CardType, Integer> storyPoints = store.getStoryPointsByType();
+
+        System.out.println("By type:");
+
+        for (CardType type : CardType.values()) {
+            System.out.printf("\t- %s: %d cards, %d story points%n", type, cardCounts.get(type), storyPoints.get(type));
+        }
+
+        System.out.println("Top assignees by story points:");
+
+        for (Map.Entry<Assignee, Integer> entry : store.getTopAssigneesByStoryPoints(TOP_ASSIGNEE_COUNT)) {
+            String name = entry.getKey().getName().isBlank() ? "Unassigned" : entry.getKey().getName();
+            System.out.printf("\t- %s: %d%n", name, entry.getValue());
+        }
+    }
+
+    // EFFECTS: converts bytes to megabytes
+    private static double toMegabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
     //
     // Utilities
     //
@@ -0,0 +1,8 @@
+package ui.console;
+
+// This exception is thrown when a line of a script is not a valid command or cannot be run.
+public class ScriptException extends Exception {
+    public ScriptException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,512 @@
+package ui.console;
+
+import metrics.MetricsRegistry;
+import model.Card;
+import model.CardBatch;
+import model.CardQuery;
+import model.CardSnapshot;
+import model.CardType;
+import model.Column;
+import model.ColumnSnapshot;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+import model.exceptions.ColumnNotInBoardException;
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// This class runs a script of commands against a list of boards without prompting, one
+// command per line. Words are separated by spaces, and words containing spaces are quoted.
+// Options of cards are given as name=value words. Blank lines and lines starting with #
+// are ignored. Cards added and moved are collected into a batch for each board which is
+// only applied once a command needs to read the boards, so a long run of changes costs a
+// single batch. Cards are found by their title within the current board.
+//
+//   board create <name> [description] [completed column name]
+//   board use <name>
+//   column add <name>
+//   card add <column> <title> [description=..] [assignee=..] [type=..] [points=..] [tags=a,b]
+//   card move <title> <column>
+//   card edit <title> [title=..] [description=..] [assignee=..] [type=..] [points=..] [tags=a,b]
+//   query <text>
+//   stats
+//   metrics
+//   save
+public class ScriptRunner {
+    private static final String DEFAULT_COMPLETED_COLUMN_NAME = "Done";
+
+    private final KanbanBoardList boards;
+    private final PrintWriter out;
+
+    private final Map<String, KanbanBoard> boardsByName;
+    private final Map<KanbanBoard, Map<String, Card>> cardsByTitle;
+    private final Map<KanbanBoard, CardBatch> batches;
+
+    private KanbanBoard currentBoard;
+    private boolean saveRequested;
+    private int commandCount;
+
+    // EFFECTS: creates a runner of scripts against the boards which prints results to out,
+    //          the last board in the list is the current board
+    public ScriptRunner(KanbanBoardList boards, PrintWriter out) {
+        this.boards = boards;
+        this.out = out;
+        this.boardsByName = new HashMap<>();
+        this.cardsByTitle = new HashMap<>();
+        this.batches = new LinkedHashMap<>();
+
+        for (KanbanBoard board : boards.getBoards()) {
+            boardsByName.put(board.getName(), board);
+            currentBoard = board;
+        }
+    }
+
+    // EFFECTS: returns whether the script asked for the boards to be saved
+    public boolean isSaveRequested() {
+        return saveRequested;
+    }
+
+    // EFFECTS: returns how many commands have been run
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    // MODIFIES: this, boards
+    // EFFECTS: runs every command read from the script and applies any remaining changes,
+    //          throws ScriptException naming the line of the first command that fails, after
+    //          which no further commands are run. Changes made before it are kept.
+    //          throws IOException if the script cannot be read
+    public void run(BufferedReader script) throws IOException, ScriptException {
+        String line;
+        int lineNumber = 0;
+
+        try {
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                runLine(line);
+            }
+        } catch (ScriptException e) {
+            throw new ScriptException("Line " + lineNumber + ": " + e.getMessage());
+        } finally {
+            applyBatches();
+        }
+    }
+
+    // MODIFIES: this, boards
+    // EFFECTS: runs the command on the line unless it is blank or a comment
+    private void runLine(String line) throws ScriptException {
+        String trimmed = line.trim();
+
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return;
+        }
+
+        List<String> words = splitWords(trimmed);
+        runCommand(words.get(0).toLowerCase(), words.subList(1, words.size()));
+        commandCount++;
+    }
+
+    // EFFECTS: splits the line into words separated by spaces, where quoted words may contain
+    //          spaces and \\" stands for a quote, throws ScriptException if a quote is not closed
+    static List<String> splitWords(String line) throws ScriptException {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        boolean quoted = false;
+        boolean inWord = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted && c == '\\' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                word.append('"');
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+                inWord = true;
+            } else if (!quoted && Character.isWhitespace(c)) {
+                addWord(words, word, inWord);
+                inWord = false;
+            } else {
+                word.append(c);
+                inWord = true;
+            }
+        }
+
+        if (quoted) {
+            throw new ScriptException("Missing closing quote");
+        }
+
+        addWord(words, word, inWord);
+        return words;
+    }
+
+    // MODIFIES: words, word
+    // EFFECTS: moves the word into the list of words if one has been started
+    private static void addWord(List<String> words, StringBuilder word, boolean inWord) {
+        if (inWord) {
+            words.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    // MODIFIES: this, boards
+    // EFFECTS: runs the command with its arguments
+    private void runCommand(String command, List<String> args) throws ScriptException {
+        switch (command) {
+            case "board":
+                runBoardCommand(getArgument(args, 0, "board create|use"), args.subList(1, args.size()));
+                break;
+            case "column":
+                expect("add", getArgument(args, 0, "column add"));
+                addColumn(getArgument(args, 1, "column name"));
+                break;
+            case "card":
+                runCardCommand(getArgument(args, 0, "card add|move|edit"), args.subList(1, args.size()));
+                break;
+            case "query":
+                query(String.join(" ", args));
+                break;
+            case "stats":
+                printStats();
+                break;
+            case "metrics":
+                out.print(MetricsRegistry.getInstance().getReport());
+                break;
+            case "save":
+                saveRequested = true;
+                break;
+            default:
+                throw new ScriptException("Unknown command '" + command + "'");
+        }
+    }
+
+    // MODIFIES: this, boards
+    // EFFECTS: runs a command which creates or selects a board
+    private void runBoardCommand(String action, List<String> args) throws ScriptException {
+        String name = getArgument(args, 0, "board name");
+
+        if (action.equals("create")) {
+            String description = args.size() > 1 ? args.get(1) : "";
+            String completedColumnName = args.size() > 2 ? args.get(2) : DEFAULT_COMPLETED_COLUMN_NAME;
+
+            createBoard(name, description, completedColumnName);
+        } else {
+            expect("use", action);
+
+            if (!boardsByName.containsKey(name)) {
+                throw new ScriptException("There is no board named '" + name + "'");
+            }
+
+            currentBoard = boardsByName.get(name);
+        }
+    }
+
+    // MODIFIES: this, boards
+    // EFFECTS: creates a board with the default columns and makes it the current board
+    private void createBoard(String name, String description, String completedColumnName) throws ScriptException {
+        if (boardsByName.containsKey(name)) {
+            throw new ScriptException("There is already a board named '" + name + "'");
+        }
+
+        KanbanBoard board = new KanbanBoard(name, description, completedColumnName);
+
+        try {
+            board.addDefaultColumns();
+        } catch (DuplicateColumnException e) {
+            throw new ScriptException("The completed column cannot be named '" + completedColumnName + "'");
+        }
+
+        boards.addBoard(board);
+        boardsByName.put(name, board);
+        currentBoard = board;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a column with the name to the current board
+    private void addColumn(String name) throws ScriptException {
+        try {
+            getCurrentBoard().addColumn(new Column(name));
+        } catch (DuplicateColumnException e) {
+            throw new ScriptException("There is already a column named '" + name + "'");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs a command which adds, moves or edits a card of the current board
+    private void runCardCommand(String action, List<String> args) throws ScriptException {
+        switch (action) {
+            case "add":
+                addCard(getColumn(getArgument(args, 0, "column name")),
+                        getArgument(args, 1, "card title"),
+                        parseOptions(args.subList(2, args.size())));
+                break;
+            case "move":
+                getBatch().move(getCard(getArgument(args, 0, "card title")),
+                                getColumn(getArgument(args, 1, "column name")));
+                break;
+            case "edit":
+                editCard(getCard(getArgument(args, 0, "card title")), parseOptions(args.subList(1, args.size())));
+                break;
+            default:
+                throw new ScriptException("Unknown card command '" + action + "'");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: creates a card with the title and options and adds it to the column in the batch
+    private void addCard(Column column, String title, Map<String, String> options) throws ScriptException {
+        String description = options.getOrDefault("description", "");
+        String assignee = options.getOrDefault("assignee", "");
+        CardType type = parseType(options.getOrDefault("type", CardType.TASK.name()));
+        int storyPoints = parseStoryPoints(options.getOrDefault("points", "0"));
+        Set<String> tags = parseTags(options.getOrDefault("tags", ""));
+
+        try {
+            Card card = new Card(title, description, getCurrentBoard().getStringPool().getAssignee(assignee),
+                                 type, tags, storyPoints);
+
+            getBatch().add(card, column);
+            getCardsByTitle().putIfAbsent(card.getTitle(), card);
+        } catch (NegativeStoryPointsException e) {
+            throw new ScriptException("Story points cannot be negative");
+        }
+    }
+
+    // MODIFIES: this, card
+    // EFFECTS: sets the fields of the card given by the options
+    private void editCard(Card card, Map<String, String> options) throws ScriptException {
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            String value = option.getValue();
+
+            switch (option.getKey()) {
+                case "title":
+                    renameCard(card, value);
+                    break;
+                case "description":
+                    card.setDescription(value);
+                    break;
+                case "assignee":
+                    card.setAssignee(value);
+                    break;
+                case "type":
+                    card.setType(parseType(value));
+                    break;
+                default:
+                    editCardList(card, option.getKey(), value);
+                    break;
+            }
+        }
+    }
+
+    // MODIFIES: this, card
+    // EFFECTS: sets the story points or tags of the card given by the option
+    private void editCardList(Card card, String option, String value) throws ScriptException {
+        try {
+            if (option.equals("points")) {
+                card.setStoryPoints(parseStoryPoints(value));
+            } else if (option.equals("tags")) {
+                card.setTags(parseTags(value));
+            } else {
+                throw new ScriptException("Unknown card option '" + option + "'");
+            }
+        } catch (NegativeStoryPointsException e) {
+            throw new ScriptException("Story points cannot be negative");
+        }
+    }
+
+    // MODIFIES: this, card
+    // EFFECTS: sets the title of the card, so the card is found by its new title
+    private void renameCard(Card card, String title) throws ScriptException {
+        Map<String, Card> titles = getCardsByTitle();
+
+        titles.remove(card.getTitle(), card);
+        card.setTitle(title);
+        titles.putIfAbsent(card.getTitle(), card);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: prints the column and title of every card of the current board matched by the query
+    private void query(String text) throws ScriptException {
+        applyBatches();
+
+        CardQuery query = new CardQuery(text);
+        int matchCount = 0;
+
+        for (ColumnSnapshot column : getCurrentBoard().snapshot().getColumns()) {
+            for (CardSnapshot card : column.getCards()) {
+                if (query.matches(card)) {
+                    out.println(column.getName() + "\t" + card.getTitle());
+                    matchCount++;
+                }
+            }
+        }
+
+        out.println(matchCount + " matching cards");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: prints the card, story point and memory totals of the current board
+    private void printStats() throws ScriptException {
+        applyBatches();
+
+        KanbanBoard board = getCurrentBoard();
+        int cardCount = board.getCardCount(true);
+        int inProgressCardCount = board.getCardCount(false);
+        int storyPoints = board.getTotalStoryPoints();
+        int completedStoryPoints = board.getCompletedStoryPoints();
+
+        out.printf("%s: %d cards (%d in progress, %d completed), %d story points (%d completed), %.2f MB%n",
+                   board.getName(),
+                   cardCount,
+                   inProgressCardCount,
+                   cardCount - inProgressCardCount,
+                   storyPoints,
+                   completedStoryPoints,
+                   board.getEstimatedHeapBytes() / (1024.0 * 1024.0));
+    }
+
+    // MODIFIES: this, boards
+    // EFFECTS: applies the batch of changes of every board, in the order the boards were changed
+    private void applyBatches() {
+        for (Map.Entry<KanbanBoard, CardBatch> entry : batches.entrySet()) {
+            try {
+                entry.getKey().applyBatch(entry.getValue());
+            } catch (ColumnNotInBoardException e) {
+                // columns are only ever added to boards, and cards only placed in columns of their own board
+                throw new IllegalStateException(e);
+            }
+        }
+
+        batches.clear();
+    }
+
+    // EFFECTS: returns the current board, throws ScriptException if there is none
+    private KanbanBoard getCurrentBoard() throws ScriptException {
+        if (currentBoard == null) {
+            throw new ScriptException("There is no current board, create one with 'board create <name>'");
+        }
+
+        return currentBoard;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the batch of changes of the current board, creating it if there is none
+    private CardBatch getBatch() throws ScriptException {
+        return batches.computeIfAbsent(getCurrentBoard(), board -> new CardBatch());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the cards of the current board by title, indexing the board the first time
+    //          it is used. Of cards sharing a title, the first one is kept.
+    private Map<String, Card> getCardsByTitle() throws ScriptException {
+        return cardsByTitle.computeIfAbsent(getCurrentBoard(), board -> {
+            Map<String, Card> titles = new HashMap<>();
+
+            for (Column column : board.getColumns()) {
+                for (Card card : column.getCards()) {
+                    titles.putIfAbsent(card.getTitle(), card);
+                }
+            }
+
+            return titles;
+        });
+    }
+
+    // EFFECTS: returns the card of the current board with the title, throws ScriptException if there is none
+    private Card getCard(String title) throws ScriptException {
+        Card card = getCardsByTitle().get(title);
+
+        if (card == null) {
+            throw new ScriptException("There is no card titled '" + title + "'");
+        }
+
+        return card;
+    }
+
+    // EFFECTS: returns the column of the current board with the name, throws ScriptException if there is none
+    private Column getColumn(String name) throws ScriptException {
+        for (Column column : getCurrentBoard().getColumns()) {
+            if (column.getName().equals(name)) {
+                return column;
+            }
+        }
+
+        throw new ScriptException("There is no column named '" + name + "'");
+    }
+
+    // EFFECTS: returns the argument at the index, throws ScriptException naming what is missing if there is none
+    private static String getArgument(List<String> args, int index, String expected) throws ScriptException {
+        if (index >= args.size()) {
+            throw new ScriptException("Expected " + expected);
+        }
+
+        return args.get(index);
+    }
+
+    // EFFECTS: throws ScriptException if the word is not the expected one
+    private static void expect(String expected, String word) throws ScriptException {
+        if (!expected.equals(word)) {
+            throw new ScriptException("Expected '" + expected + "' but found '" + word + "'");
+        }
+    }
+
+    // EFFECTS: returns the options given as name=value words by name, in the order they were given
+    private static Map<String, String> parseOptions(List<String> words) throws ScriptException {
+        Map<String, String> options = new LinkedHashMap<>();
+
+        for (String word : words) {
+            int separator = word.indexOf('=');
+
+            if (separator <= 0) {
+                throw new ScriptException("Expected an option like name=value but found '" + word + "'");
+            }
+
+            options.put(word.substring(0, separator).toLowerCase(), word.substring(separator + 1));
+        }
+
+        return options;
+    }
+
+    // EFFECTS: returns the card type with the name, ignoring case and using _ or spaces between words
+    private static CardType parseType(String name) throws ScriptException {
+        try {
+            return CardType.valueOf(name.trim().toUpperCase().replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new ScriptException("Unknown card type '" + name + "', expected one of "
+                                      + Arrays.toString(CardType.values()));
+        }
+    }
+
+    // EFFECTS: returns the story points in the text, throws ScriptException if it is not a number
+    private static int parseStoryPoints(String text) throws ScriptException {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new ScriptException("Story points have to be a number but found '" + text + "'");
+        }
+    }
+
+    // EFFECTS: returns the tags separated by commas in the text, dropping blank ones
+    private static Set<String> parseTags(String text) {
+        Set<String> tags = new HashSet<>();
+
+        for (String tag : text.split(",")) {
+            if (!tag.isBlank()) {
+                tags.add(tag.trim());
+            }
+        }
+
+        return tags;
+    }
+}
@@ -1,14 +1,45 @@
 package ui.graphical;
 
 import model.Card;
+import model.CardType;
 
 import javax.swing.*;
-import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 // This class is for rendering cards in the column JList in a pretty manner.
-public class CardListCellRenderer implements ListCellRenderer<Card> {
+// A single component is reused for every cell and paints a tile with the type,
+// title, story points and assignee of the card. The text of each card is cached
+// until the card changes, so painting a cell does not allocate anything.
+public class CardListCellRenderer extends JComponent implements ListCellRenderer<Card> {
+    public static final int CELL_WIDTH = 220;
+    public static final int CELL_HEIGHT = 46;
 
+    private static final int PADDING = 5;
+    private static final int BADGE_WIDTH = 46;
+    private static final int BADGE_ARC = 8;
+    private static final Color BADGE_TEXT_COLOR = Color.WHITE;
+    private static final Color USER_STORY_COLOR = new Color(76, 154, 42);
+    private static final Color ISSUE_COLOR = new Color(196, 60, 50);
+    private static final Color TASK_COLOR = new Color(50, 110, 190);
+
+    private final Map<Card, CardText> cardTexts;
+    private final Dimension preferredSize;
+
+    // What the next paint will draw
+    private CardText cardText;
+    private Color badgeColor;
+
+    // EFFECTS: Creates a renderer with no cached card text.
+    public CardListCellRenderer() {
+        this.cardTexts = new WeakHashMap<>();
+        this.preferredSize = new Dimension(CELL_WIDTH, CELL_HEIGHT);
+
+        setOpaque(true);
+    }
+
+    // MODIFIES: this
     // EFFECTS: Gets the rendered view of the card.
     @Override
     public Component getListCellRendererComponent(JList<? extends Card> list,
@@ -16,29 +47,206 @@ public class CardListCellRenderer implements ListCellRenderer<Card> {
                                                   int index,
                                                   boolean isSelected,
                                                   boolean cellHasFocus) {
-        JLabel titleLabel = new JLabel(value.getTitle());
+        cardText = getCardText(value);
+        badgeColor = getBadgeColor(value.getType());
 
-        // color for JLabels can only be displayed if they have an
-        // opaque background
-        titleLabel.setOpaque(true);
-        titleLabel.setBorder(new EmptyBorder(5, 5, 5, 5));
+        setFont(list.getFont());
+        handleSelection(list, isSelected);
+
+        return this;
+    }
 
-        handleSelection(list, isSelected, titleLabel);
+    // MODIFIES: this
+    // EFFECTS: Gets the cached text of the card, creating it again if the card has changed.
+    private CardText getCardText(Card card) {
+        CardText text = cardTexts.get(card);
 
-        return titleLabel;
+        if (text == null || text.version != card.getVersion()) {
+            text = new CardText(card);
+            cardTexts.put(card, text);
+        }
+
+        return text;
+    }
+
+    // EFFECTS: Gets the color of the badge showing the card type.
+    private static Color getBadgeColor(CardType type) {
+        switch (type) {
+            case USER_STORY:
+                return USER_STORY_COLOR;
+            case ISSUE:
+                return ISSUE_COLOR;
+            default:
+                return TASK_COLOR;
+        }
     }
 
-    // MODIFIES: label
-    // EFFECTS: Sets the background and foreground of label
+    // MODIFIES: this
+    // EFFECTS: Sets the background and foreground of this
     //          to match its current selection state.
     //          Implementation should match with that of the DefaultListCellRenderer.
-    private void handleSelection(JList<? extends Card> list,
-                                 boolean isSelected,
-                                 JLabel label) {
+    private void handleSelection(JList<? extends Card> list, boolean isSelected) {
         Color foreground = isSelected ? list.getSelectionForeground() : list.getForeground();
         Color background = isSelected ? list.getSelectionBackground() : list.getBackground();
 
-        label.setBackground(background);
-        label.setForeground(foreground);
+        setBackground(background);
+        setForeground(foreground);
+    }
+
+    // EFFECTS: Paints the tile of the current card.
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+
+        g.setColor(getBackground());
+        g.fillRect(0, 0, width, height);
+
+        FontMetrics metrics = g.getFontMetrics(getFont());
+        int lineHeight = metrics.getHeight();
+        int firstBaseline = PADDING + metrics.getAscent();
+        int textX = PADDING * 2 + BADGE_WIDTH;
+        int textWidth = width - textX - PADDING;
+
+        g.setColor(badgeColor);
+        g.fillRoundRect(PADDING, PADDING, BADGE_WIDTH, lineHeight, BADGE_ARC, BADGE_ARC);
+        g.setColor(BADGE_TEXT_COLOR);
+        g.drawString(cardText.badge, PADDING + (BADGE_WIDTH - cardText.getBadgeWidth(metrics)) / 2, firstBaseline);
+
+        g.setColor(getForeground());
+        g.drawString(cardText.getClippedTitle(metrics, textWidth), textX, firstBaseline);
+        g.drawString(cardText.getClippedDetails(metrics, width - PADDING * 2), PADDING, firstBaseline + lineHeight);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return preferredSize;
+    }
+
+    // The following methods are overridden as a performance measure, the same
+    // way as in DefaultListCellRenderer, since this component is only ever stamped.
+
+    @Override
+    public void invalidate() {
+    }
+
+    @Override
+    public void validate() {
+    }
+
+    @Override
+    public void revalidate() {
+    }
+
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+    }
+
+    @Override
+    public void repaint(Rectangle r) {
+    }
+
+    @Override
+    public void repaint() {
+    }
+
+    // This class holds the text displayed for a card at a given version, along
+    // with the text clipped to the width it was last painted at.
+    private static class CardText {
+        private static final String ELLIPSIS = "...";
+
+        private final long version;
+        private final String badge;
+        private final String title;
+        private final String details;
+
+        private Font clippedFont;
+        private int titleWidth;
+        private int detailsWidth;
+        private int badgeWidth;
+        private String clippedTitle;
+        private String clippedDetails;
+
+        // EFFECTS: Creates the text displayed for the current version of the card.
+        private CardText(Card card) {
+            this.version = card.getVersion();
+            this.badge = getBadgeText(card.getType());
+            this.title = card.getTitle();
+            this.details = card.getStoryPoints() + " pts  |  " + card.getAssignee();
+        }
+
+        // EFFECTS: Gets the short name of the card type shown in the badge.
+        private static String getBadgeText(CardType type) {
+            switch (type) {
+                case USER_STORY:
+                    return "STORY";
+                case ISSUE:
+                    return "ISSUE";
+                default:
+                    return "TASK";
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Gets the width of the badge text.
+        private int getBadgeWidth(FontMetrics metrics) {
+            updateMetrics(metrics);
+            return badgeWidth;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Gets the title clipped to fit within the width.
+        private String getClippedTitle(FontMetrics metrics, int width) {
+            updateMetrics(metrics);
+
+            if (width != titleWidth) {
+                titleWidth = width;
+                clippedTitle = clip(title, metrics, width);
+            }
+
+            return clippedTitle;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Gets the details clipped to fit within the width.
+        private String getClippedDetails(FontMetrics metrics, int width) {
+            updateMetrics(metrics);
+
+            if (width != detailsWidth) {
+                detailsWidth = width;
+                clippedDetails = clip(details, metrics, width);
+            }
+
+            return clippedDetails;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Discards the clipped text if it was measured with a different font.
+        private void updateMetrics(FontMetrics metrics) {
+            if (metrics.getFont() == clippedFont) {
+                return;
+            }
+
+            clippedFont = metrics.getFont();
+            badgeWidth = metrics.stringWidth(badge);
+            titleWidth = -1;
+            detailsWidth = -1;
+        }
+
+        // EFFECTS: Returns the text, shortened with an ellipsis if it is wider than width.
+        private static String clip(String text, FontMetrics metrics, int width) {
+            if (metrics.stringWidth(text) <= width) {
+                return text;
+            }
+
+            int available = width - metrics.stringWidth(ELLIPSIS);
+            int length = text.length();
+
+            while (length > 0 && metrics.stringWidth(text.substring(0, length)) > available) {
+                length--;
+            }
+
+            return text.substring(0, length) + ELLIPSIS;
+        }
     }
 }
@@ -0,0 +1,202 @@
+package ui.graphical;
+
+import model.Card;
+import model.CardQuery;
+import model.CardSnapshot;
+import model.Column;
+import model.KanbanBoard;
+import model.KanbanBoardSnapshot;
+import model.ModelChangeListener;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// This class represents a text field which filters the cards of a board as the user types.
+// Searching starts once the user has paused typing and runs on a background thread over a
+// snapshot of the board. Searches made stale by newer input are cancelled, and when the new
+// query narrows the previous one on an unchanged board only the previous matches are searched.
+public class CardSearchField extends JTextField {
+    private static final int DEBOUNCE_DELAY_MILLISECONDS = 150;
+    private static final int COLUMNS = 30;
+
+    private final KanbanBoard board;
+    private final ColumnsScrollPane columnsScrollPane;
+    private final Timer debounceTimer;
+    private final BoardChangeListener boardChangeListener;
+
+    private ExecutorService searchExecutor;
+    private Future<?> pendingSearch;
+
+    // Increased on every search, so results of older searches can be discarded
+    private long searchGeneration;
+
+    // The latest displayed search, which the next search may narrow
+    private CardQuery previousQuery;
+    private KanbanBoardSnapshot previousSnapshot;
+    private List<CardSnapshot> previousMatches;
+
+    // EFFECTS: Creates an empty search field which filters the cards of the board
+    //          displayed in the columns scroll pane.
+    public CardSearchField(KanbanBoard board, ColumnsScrollPane columnsScrollPane) {
+        super(COLUMNS);
+
+        this.board = board;
+        this.columnsScrollPane = columnsScrollPane;
+        this.boardChangeListener = new BoardChangeListener();
+
+        this.debounceTimer = new Timer(DEBOUNCE_DELAY_MILLISECONDS, e -> search());
+        debounceTimer.setRepeats(false);
+
+        getDocument().addDocumentListener(new SearchTextListener());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Starts the search thread and listens for changes to the board once this is displayed.
+    @Override
+    public void addNotify() {
+        super.addNotify();
+
+        searchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Janban card search");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        board.addListener(boardChangeListener);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Stops searching and listening for changes once this is no longer displayed.
+    @Override
+    public void removeNotify() {
+        board.removeListener(boardChangeListener);
+        debounceTimer.stop();
+        searchExecutor.shutdownNow();
+
+        super.removeNotify();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Cancels any running search and starts searching for the current text,
+    //          showing every card right away if the text has no terms.
+    private void search() {
+        CardQuery query = new CardQuery(getText());
+        long generation = ++searchGeneration;
+
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+        }
+
+        if (query.isEmpty()) {
+            pendingSearch = null;
+            showMatches(generation, null, null, null);
+            return;
+        }
+
+        CardQuery lastQuery = previousQuery;
+        KanbanBoardSnapshot lastSnapshot = previousSnapshot;
+        List<CardSnapshot> lastMatches = previousMatches;
+
+        pendingSearch = searchExecutor.submit(() -> {
+            KanbanBoardSnapshot snapshot = board.snapshot();
+            boolean narrowing = lastQuery != null && snapshot == lastSnapshot && query.narrows(lastQuery);
+
+            List<CardSnapshot> matches = narrowing ? query.findMatches(lastMatches) : query.findMatches(snapshot);
+
+            // the search was cut short, and a newer one has already started
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            SwingUtilities.invokeLater(() -> showMatches(generation, query, snapshot, matches));
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Displays only the matched cards and remembers the search, unless a newer
+    //          search has started since. A null query means every card is displayed.
+    private void showMatches(long generation, CardQuery query, KanbanBoardSnapshot snapshot,
+                             List<CardSnapshot> matches) {
+        if (generation != searchGeneration) {
+            return;
+        }
+
+        previousQuery = query;
+        previousSnapshot = snapshot;
+        previousMatches = matches;
+
+        if (matches == null) {
+            columnsScrollPane.setSearchMatches(null);
+            return;
+        }
+
+        Set<Card> matchedCards = Collections.newSetFromMap(new IdentityHashMap<>(matches.size() * 2));
+
+        for (CardSnapshot match : matches) {
+            Card card = match.getCard();
+
+            // cards stored off the heap which were removed since the search have no live card
+            if (card != null) {
+                matchedCards.add(card);
+            }
+        }
+
+        columnsScrollPane.setSearchMatches(matchedCards);
+    }
+
+    // This class restarts the debounce delay whenever the search text changes.
+    private class SearchTextListener implements DocumentListener {
+
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            debounceTimer.restart();
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            debounceTimer.restart();
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            debounceTimer.restart();
+        }
+    }
+
+    // This class searches again after cards are added or edited, since they
+    // may now match the search. Removed cards simply stop being displayed.
+    private class BoardChangeListener implements ModelChangeListener {
+
+        // EFFECTS: Restarts the debounce delay on the event dispatch thread if a search is displayed.
+        private void searchAgain() {
+            SwingUtilities.invokeLater(() -> {
+                if (previousQuery != null) {
+                    debounceTimer.restart();
+                }
+            });
+        }
+
+        @Override
+        public void cardInserted(Column column, Card card, int index) {
+            searchAgain();
+        }
+
+        @Override
+        public void cardChanged(Card card) {
+            searchAgain();
+        }
+
+        @Override
+        public void cardsReplaced(Column column) {
+            searchAgain();
+        }
+    }
+}
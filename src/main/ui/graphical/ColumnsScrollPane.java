@@ -1,107 +1,563 @@
 package ui.graphical;
 
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.jfr.SyncEvent;
 import model.Card;
 import model.Column;
 import model.KanbanBoard;
+import model.ModelChangeListener;
 
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import java.awt.*;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 
 // This class represents a viewable list of columns containing cards.
+// Only the columns within or next to the visible area have components,
+// which are recycled for other columns as the board is scrolled, and
+// changes to the board are applied to only the affected cells.
 public class ColumnsScrollPane extends JScrollPane {
     private static final Color COMPLETED_COLUMN_COLOR = new Color(209, 245, 189);
-    private static final Dimension COLUMN_DIM = new Dimension(250, 0);
+    private static final int COLUMN_WIDTH = 250;
+
+    // How many columns on each side of the visible area also get components
+    private static final int OVERSCAN_COLUMNS = 1;
+
+    private static final LatencyHistogram SYNC_LATENCY = MetricsRegistry.getInstance().histogram("ui.syncAll");
 
     private final KanbanBoard board;
 
     private final CardListCellRenderer cardListCellRenderer;
     private final ListSelectionChangedListener selectionChangedListener;
-    private final List<JList<Card>> cardLists;
+    private final BoardChangeListener boardChangeListener;
+
+    private final ColumnsPanel columnsPanel;
+    private final Map<Column, ColumnView> boundViews;
+    private final Deque<ColumnView> spareViews;
+
+    // Where each column was scrolled to when its view was recycled, forgotten once the column is gone
+    private final Map<Column, Integer> scrollPositions;
+
+    // The card selected by the user, kept here since the view of its column may be recycled
+    private Card selectedCard;
+    private boolean updatingSelection;
 
     private Function<Column, List<Card>> filteringGetter;
+    private Set<Card> searchMatches;
 
     // EFFECTS: Creates a ScrollPane containing Columns with a kanban board
     //          a card list cell renderer, a list selection listener,
-    //          no card lists, and no filter.
+    //          no column views, no filter and no search.
     public ColumnsScrollPane(KanbanBoard board) {
-        super();
+        super(VERTICAL_SCROLLBAR_NEVER, HORIZONTAL_SCROLLBAR_AS_NEEDED);
 
         this.board = board;
 
         this.cardListCellRenderer = new CardListCellRenderer();
         this.selectionChangedListener = new ListSelectionChangedListener();
-        this.cardLists = new ArrayList<>();
+        this.boardChangeListener = new BoardChangeListener();
+
+        this.columnsPanel = new ColumnsPanel();
+        this.boundViews = new HashMap<>();
+        this.spareViews = new ArrayDeque<>();
+        this.scrollPositions = new WeakHashMap<>();
+        this.selectedCard = null;
+        this.updatingSelection = false;
         this.filteringGetter = null;
+        this.searchMatches = null;
+
+        setViewportView(columnsPanel);
+        getHorizontalScrollBar().setUnitIncrement(COLUMN_WIDTH / 10);
+        getViewport().addChangeListener(e -> columnsPanel.bindVisibleColumns());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Starts listening for changes to the board once this is displayed,
+    //          catching up with any change made while it was not.
+    @Override
+    public void addNotify() {
+        super.addNotify();
+
+        board.addListener(boardChangeListener);
+        syncAll();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Stops listening for changes to the board once this is no longer displayed.
+    @Override
+    public void removeNotify() {
+        board.removeListener(boardChangeListener);
+
+        super.removeNotify();
     }
 
     // MODIFIES: this
     // EFFECTS: Synchronizes everything about the actual Column model with the
-    //          scroll pane used for the view.
+    //          scroll pane used for the view. Only the columns that currently
+    //          have components are reloaded, the others are read once visible.
     public void syncAll() {
-        this.cardLists.clear();
+        SyncEvent event = new SyncEvent();
+        event.begin();
+
+        long startNanos = System.nanoTime();
+
+        for (ColumnView view : boundViews.values()) {
+            view.reload();
+            view.updateTitle();
+        }
+
+        columnsPanel.columnsChanged();
+        SYNC_LATENCY.recordSince(startNanos);
+        event.record(board, boundViews.size());
+    }
+
+    // EFFECTS: Gets the view of the column, or null if it is not near the visible area.
+    private ColumnView getColumnView(Column column) {
+        return boundViews.get(column);
+    }
+
+    // EFFECTS: Gets the currently selected card, which stays selected while its column is
+    //          scrolled out of view, or null if it is no longer shown or in the board.
+    public Card getSelection() {
+        Card card = selectedCard;
+        Column column = card != null ? card.getContainingColumn() : null;
+
+        if (column == null || !board.getColumns().contains(column)) {
+            return null;
+        }
+
+        ColumnView view = getColumnView(column);
+
+        return view != null ? view.cardList.getSelectedValue() : card;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Runs the update of the selection of a list without changing the selected card.
+    private void updateSelection(Runnable update) {
+        updatingSelection = true;
+
+        try {
+            update.run();
+        } finally {
+            updatingSelection = false;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Sets a filtering getter that will be used to restrict what cards
+    //          will be displayed. A value of null will mean no filtering is performed.
+    public void setFilteringGetter(Function<Column, List<Card>> filteringGetter) {
+        this.filteringGetter = filteringGetter;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Only displays the cards within searchMatches on top of the filtering getter,
+    //          and reloads the displayed columns. A value of null will mean every card is shown.
+    public void setSearchMatches(Set<Card> searchMatches) {
+        this.searchMatches = searchMatches;
+        syncAll();
+    }
+
+    // EFFECTS: Returns whether only some cards of each column are displayed.
+    private boolean isFiltering() {
+        return filteringGetter != null || searchMatches != null;
+    }
 
-        JPanel columnsPanel = new JPanel();
-        columnsPanel.setLayout(new GridLayout(1, 0));
+    // This class is the panel holding the column views. It is as wide as all the
+    // columns together but only the columns near the visible area have views.
+    private class ColumnsPanel extends JPanel implements Scrollable {
 
-        for (Column column : board.getColumns()) {
-            DefaultListModel<Card> cardListModel = new DefaultListModel<>();
+        // EFFECTS: Creates a panel which places the column views itself.
+        private ColumnsPanel() {
+            super(null);
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Updates the size of this panel and the bound views after columns are added or removed.
+        private void columnsChanged() {
+            revalidate();
+            bindVisibleColumns();
+            repaint();
+        }
+
+        // EFFECTS: Gets the width of each column, which is stretched
+        //          if all columns fit within the visible area.
+        private int getColumnWidth() {
+            int columnCount = board.getColumnCount();
+            int viewportWidth = getViewport().getWidth();
+
+            if (columnCount == 0 || columnCount * COLUMN_WIDTH >= viewportWidth) {
+                return COLUMN_WIDTH;
+            }
+
+            return viewportWidth / columnCount;
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            return new Dimension(board.getColumnCount() * COLUMN_WIDTH, getViewport().getHeight());
+        }
+
+        @Override
+        public void doLayout() {
+            bindVisibleColumns();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Gives a view to each column within or next to the visible area,
+        //          recycling the views of the columns that are no longer near it.
+        private void bindVisibleColumns() {
+            List<Column> columns = board.getColumns();
+            int columnWidth = getColumnWidth();
+            Rectangle visible = getViewport().getViewRect();
+
+            int first = Math.max(0, visible.x / columnWidth - OVERSCAN_COLUMNS);
+            int last = Math.min(columns.size() - 1, (visible.x + visible.width) / columnWidth + OVERSCAN_COLUMNS);
+
+            List<Column> nearColumns = columns.subList(Math.min(first, columns.size()), Math.max(first, last + 1));
+
+            unbindViewsExcept(nearColumns);
 
-            cardListModel.addAll(filteringGetter == null ? column.getCards() : filteringGetter.apply(column));
+            for (int i = first; i <= last; i++) {
+                ColumnView view = bindView(columns.get(i));
+                view.scrollPane.setBounds(i * columnWidth, 0, columnWidth, getHeight());
+                view.restoreScrollPosition();
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Recycles the views of every column which is not in nearColumns.
+        private void unbindViewsExcept(List<Column> nearColumns) {
+            Iterator<Map.Entry<Column, ColumnView>> iterator = boundViews.entrySet().iterator();
 
-            TitledBorder border = new TitledBorder(column.getName());
+            while (iterator.hasNext()) {
+                ColumnView view = iterator.next().getValue();
+
+                if (!nearColumns.contains(view.column)) {
+                    iterator.remove();
+                    view.unbind();
+                    remove(view.scrollPane);
+                    spareViews.push(view);
+                }
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Gets the view of the column, binding a spare or new view to it if it has none.
+        private ColumnView bindView(Column column) {
+            ColumnView view = boundViews.get(column);
+
+            if (view != null) {
+                return view;
+            }
+
+            view = spareViews.isEmpty() ? new ColumnView() : spareViews.pop();
+            view.bind(column);
+            boundViews.put(column, view);
+            add(view.scrollPane);
+
+            return view;
+        }
+
+        @Override
+        public Dimension getPreferredScrollableViewportSize() {
+            return getPreferredSize();
+        }
+
+        @Override
+        public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+            return COLUMN_WIDTH / 10;
+        }
+
+        @Override
+        public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+            return orientation == SwingConstants.HORIZONTAL ? visibleRect.width : visibleRect.height;
+        }
+
+        @Override
+        public boolean getScrollableTracksViewportWidth() {
+            return board.getColumnCount() * COLUMN_WIDTH <= getViewport().getWidth();
+        }
+
+        @Override
+        public boolean getScrollableTracksViewportHeight() {
+            return true;
+        }
+    }
+
+    // This class holds the components displaying a single column, which
+    // are bound to a different column whenever they are recycled.
+    private class ColumnView {
+        private Column column;
+
+        // The cards in the list model, so changes can tell whether a card is shown without a search
+        private final Set<Card> shownCards;
+        private boolean reloadScheduled;
+
+        // Where to scroll to once the view has been laid out for the newly bound column, or -1
+        private int pendingScrollPosition;
+
+        private final DefaultListModel<Card> cardListModel;
+        private final TitledBorder border;
+        private final JList<Card> cardList;
+        private final Color defaultBackground;
+        private final JScrollPane scrollPane;
+
+        // EFFECTS: Creates the components displaying a column, bound to no column.
+        private ColumnView() {
+            this.column = null;
+            this.shownCards = Collections.newSetFromMap(new IdentityHashMap<>());
+            this.reloadScheduled = false;
+            this.pendingScrollPosition = -1;
+            this.cardListModel = new DefaultListModel<>();
+
+            this.border = new TitledBorder("");
             border.setBorder(BorderFactory.createLineBorder(Color.BLACK));
             border.setTitleJustification(TitledBorder.CENTER);
 
-            JList<Card> cardList = new JList<>(cardListModel);
+            this.cardList = new JList<>(cardListModel);
             cardList.setBorder(border);
             cardList.setCellRenderer(cardListCellRenderer);
+
+            // every cell has the same size, so the list does not have to measure each card
+            cardList.setFixedCellWidth(CardListCellRenderer.CELL_WIDTH);
+            cardList.setFixedCellHeight(CardListCellRenderer.CELL_HEIGHT);
+
             cardList.addListSelectionListener(selectionChangedListener);
+            this.defaultBackground = cardList.getBackground();
+
+            this.scrollPane = new JScrollPane(cardList);
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Displays the column with these components, scrolled to where the
+        //          column was when it was last displayed once the view is laid out.
+        private void bind(Column column) {
+            this.column = column;
+
+            reload();
+            updateTitle();
+            pendingScrollPosition = scrollPositions.getOrDefault(column, 0);
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Scrolls to the position of the newly bound column, now that the
+        //          view has its size and so its scroll bar has its full range.
+        private void restoreScrollPosition() {
+            if (pendingScrollPosition < 0) {
+                return;
+            }
+
+            scrollPane.validate();
+            scrollPane.getVerticalScrollBar().setValue(pendingScrollPosition);
+            pendingScrollPosition = -1;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Stops displaying the bound column, remembering where it was scrolled to.
+        private void unbind() {
+            scrollPositions.put(column, scrollPane.getVerticalScrollBar().getValue());
+            updateSelection(cardList::clearSelection);
+            cardListModel.clear();
+            shownCards.clear();
+            column = null;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Replaces the displayed cards with the current cards of the column,
+        //          selecting the selected card again if it is among them.
+        private void reload() {
+            List<Card> cards = filteringGetter == null ? column.getCards() : filteringGetter.apply(column);
+
+            List<Card> shown = cards;
+
+            if (searchMatches != null) {
+                shown = new ArrayList<>();
+
+                for (Card card : cards) {
+                    if (searchMatches.contains(card)) {
+                        shown.add(card);
+                    }
+                }
+            }
+
+            cardListModel.clear();
+            cardListModel.addAll(shown);
+            shownCards.clear();
+            shownCards.addAll(shown);
+
+            if (selectedCard != null && shownCards.contains(selectedCard)) {
+                updateSelection(() -> cardList.setSelectedValue(selectedCard, false));
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Reloads the column once the pending events have been handled, so a burst
+        //          of changes to a filtered column only reads the column once.
+        private void scheduleReload() {
+            if (reloadScheduled) {
+                return;
+            }
+
+            reloadScheduled = true;
+
+            SwingUtilities.invokeLater(() -> {
+                reloadScheduled = false;
+
+                if (column != null) {
+                    reload();
+                }
+            });
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Updates the title and the color of the column.
+        private void updateTitle() {
+            border.setTitle(column.getName());
 
             // add some color to the completed column,
             // so it is easily differentiable from the other columns
-            if (column == board.getCompletedColumn()) {
-                cardList.setBackground(COMPLETED_COLUMN_COLOR);
+            cardList.setBackground(column == board.getCompletedColumn() ? COMPLETED_COLUMN_COLOR : defaultBackground);
+            cardList.repaint();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: Displays the card inserted into the column at index.
+        private void cardInserted(Card card, int index) {
+            // the card may already be shown if the column was reloaded after it was inserted
+            if (shownCards.contains(card)) {
+                return;
             }
 
-            this.cardLists.add(cardList);
+            if (isFiltering()) {
+                scheduleReload();
+                return;
+            }
 
-            JScrollPane cardScrollPane = new JScrollPane(cardList);
+            if (index <= cardListModel.size()) {
+                cardListModel.add(index, card);
+            } else {
+                cardListModel.addElement(card);
+            }
 
-            // the columns compress down sometimes rather than just making the scroll pane expand???
-            // this should fix that issue
-            cardScrollPane.setMinimumSize(COLUMN_DIM);
-            cardScrollPane.setPreferredSize(COLUMN_DIM);
+            shownCards.add(card);
+        }
 
-            columnsPanel.add(cardScrollPane);
+        // MODIFIES: this
+        // EFFECTS: Stops displaying the card removed from the column.
+        private void cardRemoved(Card card, int index) {
+            if (!shownCards.remove(card)) {
+                return;
+            }
+
+            // the index is only searched for if other changes have moved the card since
+            if (index < cardListModel.size() && cardListModel.get(index) == card) {
+                cardListModel.remove(index);
+            } else {
+                cardListModel.removeElement(card);
+            }
         }
 
-        setViewportView(columnsPanel);
+        // MODIFIES: this
+        // EFFECTS: Repaints the list if the changed card is shown, since every cell has the same
+        //          size only the visible cells are painted again. Filtered columns are reloaded
+        //          since the card may no longer match the filter.
+        private void cardChanged(Card card) {
+            if (isFiltering()) {
+                scheduleReload();
+            } else if (shownCards.contains(card)) {
+                cardList.repaint();
+            }
+        }
     }
 
-    // EFFECTS: Gets the currently selected card.
-    public Card getSelection() {
-        for (JList<Card> list : cardLists) {
-            Card selection = list.getSelectedValue();
+    // This class applies changes to the board to the views of the affected columns,
+    // changes to columns without a view are picked up once they become visible.
+    private class BoardChangeListener implements ModelChangeListener {
 
-            if (selection != null) {
-                return selection;
+        // EFFECTS: Runs the update on the event dispatch thread, right away
+        //          if the change was made on it.
+        private void onEventDispatchThread(Runnable update) {
+            if (SwingUtilities.isEventDispatchThread()) {
+                update.run();
+            } else {
+                SwingUtilities.invokeLater(update);
             }
         }
 
-        return null;
-    }
+        @Override
+        public void cardInserted(Column column, Card card, int index) {
+            onEventDispatchThread(() -> {
+                ColumnView view = getColumnView(column);
 
-    // MODIFIES: this
-    // EFFECTS: Sets a filtering getter that will be used to restrict what cards
-    //          will be displayed. A value of null will mean no filtering is performed.
-    public void setFilteringGetter(Function<Column, List<Card>> filteringGetter) {
-        this.filteringGetter = filteringGetter;
+                if (view != null) {
+                    view.cardInserted(card, index);
+                }
+            });
+        }
+
+        @Override
+        public void cardRemoved(Column column, Card card, int index) {
+            onEventDispatchThread(() -> {
+                ColumnView view = getColumnView(column);
+
+                if (view != null) {
+                    view.cardRemoved(card, index);
+                }
+            });
+        }
+
+        @Override
+        public void cardChanged(Card card) {
+            onEventDispatchThread(() -> {
+                ColumnView view = getColumnView(card.getContainingColumn());
+
+                if (view != null) {
+                    view.cardChanged(card);
+                }
+            });
+        }
+
+        @Override
+        public void cardsReplaced(Column column) {
+            onEventDispatchThread(() -> {
+                ColumnView view = getColumnView(column);
+
+                if (view != null) {
+                    view.scheduleReload();
+                }
+            });
+        }
+
+        @Override
+        public void columnAdded(KanbanBoard board, Column column, int index) {
+            onEventDispatchThread(columnsPanel::columnsChanged);
+        }
+
+        @Override
+        public void columnRemoved(KanbanBoard board, Column column, int index) {
+            onEventDispatchThread(columnsPanel::columnsChanged);
+        }
+
+        @Override
+        public void columnRenamed(Column column) {
+            // renaming may change which column is the completed one
+            onEventDispatchThread(() -> boundViews.values().forEach(ColumnView::updateTitle));
+        }
     }
 
     // This class is listener for changes in the selected card.
@@ -118,19 +574,31 @@ public class ColumnsScrollPane extends JScrollPane {
                 return;
             }
 
+            // the selection of a recycled or reloaded list is not a choice of the user
+            if (updatingSelection) {
+                return;
+            }
+
             JList<Card> listThatChanged = (JList<Card>) e.getSource();
+            Card selection = listThatChanged.getSelectedValue();
+
+            // a list without a selection only deselects the selected card if it showed it,
+            // otherwise it is caused by clearing the selection or removing cards of a list
+            if (selection == null) {
+                if (((DefaultListModel<Card>) listThatChanged.getModel()).contains(selectedCard)) {
+                    selectedCard = null;
+                }
 
-            // we ignore this change since it is caused by clearing the selection for a list,
-            // and we only want to care when a new selection happens
-            if (listThatChanged.getSelectedValue() == null) {
                 return;
             }
 
+            selectedCard = selection;
+
             // ensure that there is only one selection across all columns,
             // clear the existing selection in other columns
-            for (JList<Card> list : cardLists) {
-                if (list != listThatChanged) {
-                    list.clearSelection();
+            for (ColumnView view : boundViews.values()) {
+                if (view.cardList != listThatChanged) {
+                    updateSelection(view.cardList::clearSelection);
                 }
             }
         }
@@ -0,0 +1,229 @@
+package ui.graphical;
+
+import metrics.Counter;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.StallRanking;
+import model.Event;
+import model.EventLog;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionListener;
+import java.awt.event.InvocationEvent;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// This class represents an event queue which times every event dispatched on the event
+// dispatch thread. A watchdog thread checks on the current dispatch, and once it has run
+// longer than the threshold captures the stack of the event dispatch thread, showing
+// where it is stuck. When the dispatch finishes the stall is logged with that stack and
+// the listener which caused it, and ranked against earlier stalls of every listener.
+// Dispatches that show a modal dialog keep dispatching other events while they wait, so
+// only the events dispatched inside them are timed.
+public class EdtStallDetector extends EventQueue {
+    public static final String THRESHOLD_PROPERTY = "janban.stallThresholdMillis";
+    public static final long DEFAULT_THRESHOLD_MILLISECONDS = 100;
+
+    private static final int LOGGED_STACK_FRAMES = 12;
+    private static final long MIN_SAMPLE_INTERVAL_MILLISECONDS = 10;
+    private static final Pattern RUNNABLE_PATTERN = Pattern.compile("runnable=([^@,]+)");
+    private static final String LAMBDA_SUFFIX = "$$Lambda";
+
+    private static final LatencyHistogram STALL_LATENCY = MetricsRegistry.getInstance().histogram("ui.edt.stall");
+    private static final Counter STALL_COUNT = MetricsRegistry.getInstance().counter("ui.edt.stalls");
+
+    private static EdtStallDetector installed;
+
+    private final long thresholdNanos;
+    private final long sampleIntervalMillis;
+    private final StallRanking ranking;
+
+    // Only used on the event dispatch thread, holds the dispatches started by modal dialogs
+    private final Deque<Dispatch> dispatches;
+
+    // The innermost dispatch, which the watchdog checks on
+    private volatile Dispatch currentDispatch;
+
+    // EFFECTS: Creates a detector of dispatches running longer than thresholdMillis.
+    private EdtStallDetector(long thresholdMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleIntervalMillis = Math.max(thresholdMillis / 2, MIN_SAMPLE_INTERVAL_MILLISECONDS);
+        this.ranking = new StallRanking();
+        this.dispatches = new ArrayDeque<>();
+    }
+
+    // MODIFIES: the system event queue
+    // EFFECTS: Replaces the system event queue with a detector of stalls longer than the
+    //          threshold set by THRESHOLD_PROPERTY, starts its watchdog and returns it. The
+    //          detector is only installed once, so later calls return the same detector.
+    public static synchronized EdtStallDetector install() {
+        if (installed == null) {
+            installed = new EdtStallDetector(Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD_MILLISECONDS));
+            Toolkit.getDefaultToolkit().getSystemEventQueue().push(installed);
+            installed.startWatchdog();
+        }
+
+        return installed;
+    }
+
+    // EFFECTS: Returns the installed detector, or null if none has been installed.
+    public static synchronized EdtStallDetector getInstalled() {
+        return installed;
+    }
+
+    // EFFECTS: Returns the stalls so far of every listener, from the longest total stall time to the shortest.
+    public StallRanking getRanking() {
+        return ranking;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Dispatches the event, logging a stall if it takes longer than the threshold.
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        Dispatch outerDispatch = dispatches.peek();
+
+        // the outer dispatch is waiting on a modal dialog, not stalling
+        if (outerDispatch != null) {
+            outerDispatch.pumping = true;
+        }
+
+        Dispatch dispatch = new Dispatch(event);
+        dispatches.push(dispatch);
+        currentDispatch = dispatch;
+
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            dispatches.pop();
+            currentDispatch = outerDispatch;
+
+            long nanos = System.nanoTime() - dispatch.startNanos;
+
+            if (nanos >= thresholdNanos && !dispatch.pumping) {
+                reportStall(dispatch, nanos);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Records the stall and logs it with its source and stack.
+    private void reportStall(Dispatch dispatch, long nanos) {
+        String source = describeSource(dispatch.event);
+
+        ranking.record(source, nanos);
+        STALL_LATENCY.record(nanos);
+        STALL_COUNT.increment();
+
+        String description = String.format("Event dispatch thread stalled for %.1f ms by %s%s",
+                                           nanos / 1e6,
+                                           source,
+                                           formatStack(dispatch.stack));
+        EventLog.getInstance().logEvent(new Event(description));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Starts a daemon thread which captures the stack of the event dispatch
+    //          thread once the current dispatch has run longer than the threshold.
+    private void startWatchdog() {
+        Thread watchdog = new Thread(() -> {
+            try {
+                while (true) {
+                    Thread.sleep(sampleIntervalMillis);
+                    checkCurrentDispatch();
+                }
+            } catch (InterruptedException e) {
+                // stop watching
+            }
+        }, "Janban EDT watchdog");
+
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Captures the stack of the event dispatch thread if the current dispatch
+    //          has run longer than the threshold and its stack has not been captured yet.
+    private void checkCurrentDispatch() {
+        Dispatch dispatch = currentDispatch;
+
+        if (dispatch == null || dispatch.pumping || dispatch.stack != null) {
+            return;
+        }
+
+        if (System.nanoTime() - dispatch.startNanos >= thresholdNanos) {
+            dispatch.stack = dispatch.thread.getStackTrace();
+        }
+    }
+
+    // EFFECTS: Returns the action listeners of the button the event is dispatched to, since
+    //          buttons call them while dispatching the mouse or key event that presses them,
+    //          or the runnable the event runs. Otherwise returns the type of the event and
+    //          the component it is dispatched to.
+    static String describeSource(AWTEvent event) {
+        if (event.getSource() instanceof AbstractButton) {
+            StringJoiner listeners = new StringJoiner(", ");
+
+            for (ActionListener listener : ((AbstractButton) event.getSource()).getActionListeners()) {
+                listeners.add(listener.getClass().getName());
+            }
+
+            return listeners.toString();
+        }
+
+        if (event instanceof InvocationEvent) {
+            Matcher matcher = RUNNABLE_PATTERN.matcher(event.paramString());
+
+            if (matcher.find()) {
+                String runnable = matcher.group(1);
+                int lambdaIndex = runnable.indexOf(LAMBDA_SUFFIX);
+
+                // lambdas are named after the class they are written in
+                return lambdaIndex >= 0 ? runnable.substring(0, lambdaIndex) : runnable;
+            }
+        }
+
+        return event.getClass().getSimpleName() + " on " + event.getSource().getClass().getName();
+    }
+
+    // EFFECTS: Returns the top frames of the stack on separate lines, or a note if it was not captured.
+    private static String formatStack(StackTraceElement[] stack) {
+        if (stack == null) {
+            return " (finished before its stack was captured)";
+        }
+
+        StringBuilder builder = new StringBuilder(":");
+
+        for (int i = 0; i < Math.min(stack.length, LOGGED_STACK_FRAMES); i++) {
+            builder.append(System.lineSeparator()).append("\tat ").append(stack[i]);
+        }
+
+        return builder.toString();
+    }
+
+    // This class represents an event being dispatched on the event dispatch thread.
+    private static class Dispatch {
+        private final AWTEvent event;
+        private final Thread thread;
+        private final long startNanos;
+
+        // Set once this dispatch starts dispatching other events for a modal dialog
+        private volatile boolean pumping;
+
+        // Captured by the watchdog once this dispatch runs longer than the threshold
+        private volatile StackTraceElement[] stack;
+
+        // EFFECTS: Creates a dispatch of the event starting now on the current thread.
+        private Dispatch(AWTEvent event) {
+            this.event = event;
+            this.thread = Thread.currentThread();
+            this.startNanos = System.nanoTime();
+            this.pumping = false;
+            this.stack = null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package ui.graphical;
+
+import metrics.MetricsRegistry;
+import model.Event;
+import model.EventLog;
+import model.KanbanBoardListSnapshot;
+import persistence.KanbanJsonWriter;
+import persistence.WriteProgressListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+// This class represents a dialog which saves the projects and prints the event log
+// on a background thread while the app is exiting, so the window does not freeze.
+// Everything is flushed before the app exits, and the app keeps running if saving fails.
+public class ExitSavingDialog extends JDialog {
+    private static final Dimension DIALOG_DIMENSIONS = new Dimension(350, 100);
+    private static final int EVENT_LOG_BUFFER_SIZE = 64 * 1024;
+
+    private final KanbanJsonWriter writer;
+    private final KanbanBoardListSnapshot boards;
+    private final boolean shouldSave;
+
+    private final JProgressBar progressBar;
+    private final JLabel statusLabel;
+
+    // EFFECTS: Creates a dialog which saves the boards with the writer if shouldSave,
+    //          and then prints the event log before exiting.
+    public ExitSavingDialog(JFrame parentFrame,
+                            KanbanJsonWriter writer,
+                            KanbanBoardListSnapshot boards,
+                            boolean shouldSave) {
+        super(parentFrame, "Janban | Exiting", true);
+
+        this.writer = writer;
+        this.boards = boards;
+        this.shouldSave = shouldSave;
+
+        this.progressBar = new JProgressBar(0, 100);
+        this.statusLabel = new JLabel(shouldSave ? "Saving projects..." : "Exiting...");
+
+        setupComponents();
+
+        setPreferredSize(DIALOG_DIMENSIONS);
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        pack();
+        setLocationRelativeTo(parentFrame);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Creates and places the progress bar and status.
+    private void setupComponents() {
+        setLayout(new GridLayout(0, 1));
+
+        progressBar.setStringPainted(true);
+
+        add(progressBar);
+        add(statusLabel);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Starts saving and shows this dialog until the app exits or saving has failed.
+    public void saveAndExit() {
+        new ExitWorker().execute();
+        setVisible(true);
+    }
+
+    // This class saves the boards and prints the event log on a background thread.
+    private class ExitWorker extends SwingWorker<Void, String> implements WriteProgressListener {
+
+        // EFFECTS: Saves the boards if requested and prints the event log,
+        //          throws IOException if the boards could not be saved.
+        @Override
+        protected Void doInBackground() throws IOException {
+            if (shouldSave) {
+                save();
+            }
+
+            publish("Printing event log...");
+            logStallRanking();
+            logMetricsReport();
+            printEventLog();
+
+            return null;
+        }
+
+        // EFFECTS: Writes the boards to the save file and throws IOException if it
+        //          could not be opened or the writes did not reach it.
+        private void save() throws IOException {
+            writer.open();
+
+            try {
+                writer.writeBoards(boards, this);
+
+                if (writer.hasError()) {
+                    throw new IOException("Failed to write the save file");
+                }
+            } finally {
+                writer.close();
+            }
+        }
+
+        // EFFECTS: Logs which listeners have stalled the event dispatch thread the most, if any have.
+        private void logStallRanking() {
+            EdtStallDetector detector = EdtStallDetector.getInstalled();
+
+            if (detector != null && !detector.getRanking().isEmpty()) {
+                String report = detector.getRanking().getReport();
+                EventLog.getInstance().logEvent(new Event("Event dispatch thread stalls by listener:"
+                                                          + System.lineSeparator() + report));
+            }
+        }
+
+        // EFFECTS: Logs the value of every counter, gauge and latency histogram recorded while the app ran.
+        private void logMetricsReport() {
+            EventLog.getInstance().logEvent(new Event("Metrics:" + System.lineSeparator()
+                                                      + MetricsRegistry.getInstance().getReport()));
+        }
+
+        // EFFECTS: Prints all events stored within the event log through one buffer,
+        //          which is flushed once at the end without closing standard output.
+        private void printEventLog() {
+            PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out),
+                                                                 EVENT_LOG_BUFFER_SIZE));
+
+            for (Event event : EventLog.getInstance()) {
+                out.println(event);
+            }
+
+            out.flush();
+        }
+
+        @Override
+        public void boardWritten(int boardsWritten, int totalBoards) {
+            setProgress(boardsWritten * 100 / totalBoards);
+            publish(String.format("Saved %d of %d projects", boardsWritten, totalBoards));
+        }
+
+        // MODIFIES: ExitSavingDialog.this
+        // EFFECTS: Shows the latest progress and status.
+        @Override
+        protected void process(List<String> statuses) {
+            progressBar.setValue(getProgress());
+            statusLabel.setText(statuses.get(statuses.size() - 1));
+        }
+
+        // MODIFIES: ExitSavingDialog.this
+        // EFFECTS: Exits the app once everything has been saved and printed,
+        //          or shows why saving failed and keeps the app open.
+        @Override
+        protected void done() {
+            dispose();
+
+            try {
+                get();
+            } catch (CancellationException | InterruptedException ex) {
+                return;
+            } catch (ExecutionException ex) {
+                showError(ex.getCause());
+                return;
+            }
+
+            getOwner().dispose();
+            System.exit(0);
+        }
+
+        // EFFECTS: Shows an error describing why the projects could not be saved.
+        private void showError(Throwable cause) {
+            if (cause instanceof FileNotFoundException) {
+                Popup.error(getOwner(), "Failed to open the save file!", "Error while saving");
+            } else {
+                Popup.error(getOwner(), "Failed to write the save file!", "Error while saving");
+            }
+        }
+    }
+}
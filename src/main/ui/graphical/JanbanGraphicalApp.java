@@ -1,8 +1,7 @@
 package ui.graphical;
 
+import metrics.jmx.JmxExporter;
 import model.KanbanBoardList;
-import model.exceptions.CorruptedSaveDataException;
-import org.json.JSONException;
 import persistence.KanbanJsonReader;
 import persistence.KanbanJsonWriter;
 import ui.RunnableApp;
@@ -11,7 +10,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.IOException;
 
 // This class represents the main menu for the Janban graphical app.
 public class JanbanGraphicalApp extends JFrame implements RunnableApp {
@@ -37,9 +35,11 @@ public class JanbanGraphicalApp extends JFrame implements RunnableApp {
     }
 
     // MODIFIES: this
-    // EFFECTS: Runs and displays the main menu for the Janban graphical app.
+    // EFFECTS: Runs and displays the main menu for the Janban graphical app,
+    //          logging any event that holds up the event dispatch thread.
     @Override
     public void run() {
+        EdtStallDetector.install();
         pack();
 
         // place frame at center of screen
@@ -119,8 +119,9 @@ public class JanbanGraphicalApp extends JFrame implements RunnableApp {
 
     // MODIFIES: this
     // EFFECTS: Opens the project selection menu window and closes
-    //          the current one.
+    //          the current one, exposing the boards over JMX.
     private void openProjectSelectionMenu(KanbanBoardList boards) {
+        JmxExporter.register(boards);
         new ProjectSelectionMenu(boards, kanbanJsonWriter, this);
 
         // close the current window
@@ -130,22 +131,16 @@ public class JanbanGraphicalApp extends JFrame implements RunnableApp {
     // This class is a listener for when the load data button is clicked.
     private class LoadProjectsButtonListener implements ActionListener {
 
-        // EFFECTS: Opens a project selection menu for the previously saved projects.
+        // EFFECTS: Loads the previously saved projects in the background and then
+        //          opens a project selection menu for them.
         @Override
         public void actionPerformed(ActionEvent e) {
-            try {
-                KanbanBoardList kanbanBoards = kanbanJsonReader.read();
-
-                openProjectSelectionMenu(kanbanBoards);
-            } catch (IOException ex) {
-                Popup.error(JanbanGraphicalApp.this,
-                            "Failed to open the save file!",
-                            "Error while loading");
-            } catch (CorruptedSaveDataException | JSONException ex) {
-                Popup.error(JanbanGraphicalApp.this,
-                            "Failed to read the save data!",
-                            "Error while loading");
-            }
+            JanbanGraphicalApp app = JanbanGraphicalApp.this;
+            ProjectLoadingDialog loadingDialog = new ProjectLoadingDialog(app,
+                                                                          kanbanJsonReader,
+                                                                          app::openProjectSelectionMenu);
+
+            loadingDialog.load();
         }
     }
 
@@ -15,6 +15,7 @@ import java.util.List;
 public class KanbanBoardMenu extends JFrame {
     private static final Dimension FRAME_DIMENSIONS = new Dimension(1000, 700);
     private static final CardType[] CARD_TYPES = {CardType.USER_STORY, CardType.ISSUE, CardType.TASK};
+    private static final int TOP_ASSIGNEE_COUNT = 5;
 
     private final KanbanBoard board;
 
@@ -30,6 +31,7 @@ public class KanbanBoardMenu extends JFrame {
         setupStyle();
         setupButtons();
         setupColumns();
+        setupSearchField();
 
         pack();
 
@@ -76,11 +78,21 @@ public class KanbanBoardMenu extends JFrame {
     private void setupColumns() {
         columnScrollPane = new ColumnsScrollPane(board);
         columnScrollPane.setPreferredSize(FRAME_DIMENSIONS);
-        columnScrollPane.syncAll();
 
         add(columnScrollPane, BorderLayout.CENTER);
     }
 
+    // MODIFIES: this
+    // EFFECTS: Creates and places the field which filters the cards as the user types.
+    private void setupSearchField() {
+        JPanel searchPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+
+        searchPanel.add(new JLabel("Search:"));
+        searchPanel.add(new CardSearchField(board, columnScrollPane));
+
+        add(searchPanel, BorderLayout.SOUTH);
+    }
+
     // MODIFIES: parent
     // EFFECTS: Creates a new button and places it in parent.
     private void createButton(Container parent, String text, Dimension size, ActionListener listener) {
@@ -160,7 +172,6 @@ public class KanbanBoardMenu extends JFrame {
             }
 
             createAndAddNewColumn(nameField.getText());
-            columnScrollPane.syncAll();
         }
 
         // MODIFIES: this
@@ -192,11 +203,13 @@ public class KanbanBoardMenu extends JFrame {
             }
 
             createColumnEditPopup(chosenColumn);
-            columnScrollPane.syncAll();
         }
 
         // EFFECTS: Creates a popup asking for the name of the column.
         private void createColumnEditPopup(Column column) {
+            // Read before the name so changes made while editing are detected
+            long version = column.getVersion();
+
             JTextField nameField = new JTextField(column.getName());
 
             JComponent[] inputs = {
@@ -209,14 +222,18 @@ public class KanbanBoardMenu extends JFrame {
                 return;
             }
 
-            editColumnName(column, nameField.getText());
+            editColumnName(column, version, nameField.getText());
         }
 
         // MODIFIES: this
-        // EFFECTS: Edits the name of a column.
-        private void editColumnName(Column column, String name) {
+        // EFFECTS: Edits the name of a column unless it has been changed since version was read.
+        private void editColumnName(Column column, long version, String name) {
             try {
-                board.editColumnName(column, name);
+                if (board.editColumnNameIfCurrent(column, version, name) == UpdateResult.CONFLICT) {
+                    Popup.error(KanbanBoardMenu.this,
+                                "The column was changed while it was being edited, please edit it again.",
+                                "Error while editing column");
+                }
             } catch (DuplicateColumnException ex) {
                 Popup.error(KanbanBoardMenu.this,
                             ex.getMessage(),
@@ -239,7 +256,6 @@ public class KanbanBoardMenu extends JFrame {
             }
 
             board.removeColumn(chosenColumn);
-            columnScrollPane.syncAll();
         }
     }
 
@@ -277,8 +293,6 @@ public class KanbanBoardMenu extends JFrame {
                                descriptionTextArea, descriptionField,
                                assigneeField, cardTypeField,
                                tagsField, storyPointsField);
-
-            columnScrollPane.syncAll();
         }
 
         // EFFECTS: Creates a popup that asks for all the fields needed to create a new card.
@@ -345,6 +359,9 @@ public class KanbanBoardMenu extends JFrame {
                 return;
             }
 
+            // Read before the fields so changes made while editing are detected
+            long version = card.getVersion();
+
             JTextField titleField = new JTextField(card.getTitle());
 
             JTextArea descriptionTextArea = new JTextArea(card.getDescription(), 4, 40);
@@ -367,14 +384,13 @@ public class KanbanBoardMenu extends JFrame {
             JComboBox<String> columnField = new JComboBox<>(columnNames);
             columnField.setSelectedItem(card.getContainingColumn().getName());
 
-            createEditCardPopup(card, titleField, descriptionTextArea, descriptionField, assigneeField, cardTypeField,
-                                tagsField, storyPointsField, columnField);
-
-            columnScrollPane.syncAll();
+            createEditCardPopup(card, version, titleField, descriptionTextArea, descriptionField, assigneeField,
+                                cardTypeField, tagsField, storyPointsField, columnField);
         }
 
         // EFFECTS: Creates a popup that asks for all the fields needed to edit a card.
         private void createEditCardPopup(Card card,
+                                         long version,
                                          JTextField titleField,
                                          JTextArea descriptionTextArea,
                                          JScrollPane descriptionField,
@@ -401,15 +417,17 @@ public class KanbanBoardMenu extends JFrame {
 
             Column newColumn = getColumnFromName((String) columnField.getSelectedItem());
 
-            editCard(card, titleField.getText(),
+            editCard(card, version, titleField.getText(),
                      descriptionTextArea.getText(), assigneeField.getText(),
                      (CardType) cardTypeField.getSelectedItem(), parseKeywordsFromString(tagsField.getText()),
                      (int) storyPointsField.getValue(), newColumn);
         }
 
         // MODIFIES: this
-        // EFFECTS: Edits an existing card within the kanban board.
+        // EFFECTS: Edits an existing card within the kanban board unless it
+        //          has been changed since version was read.
         private void editCard(Card card,
+                              long version,
                               String title,
                               String description,
                               String assignee,
@@ -417,18 +435,22 @@ public class KanbanBoardMenu extends JFrame {
                               Set<String> tags,
                               int storyPoints,
                               Column column) {
-            card.setTitle(title);
-            card.setDescription(description);
-            card.setAssignee(assignee);
-            card.setType(type);
-            card.setTags(tags);
+            UpdateResult result;
 
             try {
-                card.setStoryPoints(storyPoints);
+                result = card.updateIfCurrent(version, title, description, assignee, type, tags, storyPoints);
             } catch (NegativeStoryPointsException ex) {
                 Popup.error(KanbanBoardMenu.this,
                             "Failed to edit the card! " + ex.getMessage(),
                             "Error while creating a new card");
+                return;
+            }
+
+            if (result == UpdateResult.CONFLICT) {
+                Popup.error(KanbanBoardMenu.this,
+                            "The card was changed while it was being edited, please edit it again.",
+                            "Error while editing card");
+                return;
             }
 
             if (column != null) {
@@ -469,8 +491,6 @@ public class KanbanBoardMenu extends JFrame {
             }
 
             cardColumn.removeCard(selectedCard);
-
-            columnScrollPane.syncAll();
         }
     }
 
@@ -547,7 +567,9 @@ public class KanbanBoardMenu extends JFrame {
             int completedStoryPoints = board.getCompletedStoryPoints();
             int inProgressStoryPoints = totalStoryPoints - completedStoryPoints;
 
-            JComponent[] displayFields = {
+            double estimatedMegabytes = board.getEstimatedHeapBytes() / (1024.0 * 1024.0);
+
+            List<JComponent> displayFields = new ArrayList<>(List.of(
                     new JLabel("Cards: " + totalCardCount),
                     new JLabel(" - In progress: " + inProgressCardCount),
                     new JLabel(" - Completed: " + completedCardCount),
@@ -555,20 +577,45 @@ public class KanbanBoardMenu extends JFrame {
                     new JLabel("Story points: " + totalStoryPoints),
                     new JLabel(" - In progress: " + inProgressStoryPoints),
                     new JLabel(" - Completed: " + completedStoryPoints),
-            };
+                    (JComponent) Box.createRigidArea(new Dimension(0, 10))));
+
+            addBreakdownLabels(displayFields, board.getColumnarStore());
+            displayFields.add(new JLabel(String.format("Estimated memory: %.2f MB", estimatedMegabytes)));
 
             JOptionPane.showMessageDialog(KanbanBoardMenu.this,
-                                          displayFields,
+                                          displayFields.toArray(),
                                           "Board statistics",
                                           JOptionPane.PLAIN_MESSAGE);
         }
+
+        // MODIFIES: displayFields
+        // EFFECTS: Adds labels breaking the cards of the board down by type and by top assignees.
+        private void addBreakdownLabels(List<JComponent> displayFields, ColumnarCardStore store) {
+            Map<CardType, Integer> cardCounts = store.getCardCountByType();
+            Map<CardType, Integer> storyPoints = store.getStoryPointsByType();
+
+            displayFields.add(new JLabel("By type:"));
+
+            for (CardType type : CARD_TYPES) {
+                displayFields.add(new JLabel(String.format(" - %s: %d cards, %d story points",
+                                                           type, cardCounts.get(type), storyPoints.get(type))));
+            }
+
+            displayFields.add((JComponent) Box.createRigidArea(new Dimension(0, 10)));
+            displayFields.add(new JLabel("Top assignees by story points:"));
+
+            for (Map.Entry<Assignee, Integer> entry : store.getTopAssigneesByStoryPoints(TOP_ASSIGNEE_COUNT)) {
+                String name = entry.getKey().getName().isBlank() ? "Unassigned" : entry.getKey().getName();
+                displayFields.add(new JLabel(String.format(" - %s: %d", name, entry.getValue())));
+            }
+
+            displayFields.add((JComponent) Box.createRigidArea(new Dimension(0, 10)));
+        }
     }
 
-    // This class is a listener for when the filter button is clicked.
+    // This class is a listener for when the filter button is clicked. Keywords
+    // are searched as they are typed in the search field instead.
     private class FilterButtonListener implements ActionListener {
-        private static final String FILTER_BY_KEYWORDS = "Filter by keywords";
-        private static final String FILTER_BY_TYPE = "Filter by type";
-
         private final String defaultText;
         private final String filteringText;
 
@@ -590,7 +637,7 @@ public class KanbanBoardMenu extends JFrame {
             JButton button = (JButton) e.getSource();
 
             if (filtering) {
-                boolean success = createFilterPopup();
+                boolean success = createFilterByTypePopup();
 
                 // the user cancelled the action of filtering
                 if (!success) {
@@ -604,57 +651,6 @@ public class KanbanBoardMenu extends JFrame {
             columnScrollPane.syncAll();
         }
 
-        // EFFECTS: Creates a popup that handles the filtering.
-        private boolean createFilterPopup() {
-            String filterType = createFilterTypeSelectionPopup();
-
-            switch (filterType) {
-                case FILTER_BY_KEYWORDS:
-                    return createFilterByKeywordsPopup();
-                case FILTER_BY_TYPE:
-                    return createFilterByTypePopup();
-                default:
-                    return false;
-            }
-        }
-
-        // EFFECTS: Creates a popup to specify which type of filter to use.
-        private String createFilterTypeSelectionPopup() {
-            final String[] options = {FILTER_BY_KEYWORDS, FILTER_BY_TYPE};
-            final String defaultOption = options[0];
-
-            return (String) JOptionPane.showInputDialog(KanbanBoardMenu.this,
-                                                        "Filter type:",
-                                                        "Select a filter type",
-                                                        JOptionPane.PLAIN_MESSAGE,
-                                                        null,
-                                                        options,
-                                                        defaultOption);
-        }
-
-        // MODIFIES: this
-        // EFFECTS: Sets the current filtering to be based on keywords.
-        private boolean createFilterByKeywordsPopup() {
-            JTextField keywordsField = new JTextField();
-
-            JComponent[] inputs = {
-                    new JLabel("Keywords:"), keywordsField
-            };
-
-            boolean success = Popup.editingPopup(KanbanBoardMenu.this, inputs, "Searching by keywords");
-
-            if (!success) {
-                return false;
-            }
-
-            Set<String> keywords = parseKeywordsFromString(keywordsField.getText());
-
-            columnScrollPane.setFilteringGetter(column -> column.getCardsWithQuery(keywords));
-
-            return true;
-        }
-
-
         // MODIFIES: this
         // EFFECTS: Sets the current filtering to be based on the card type.
         private boolean createFilterByTypePopup() {
@@ -664,7 +660,7 @@ public class KanbanBoardMenu extends JFrame {
                     new JLabel("Type:"), cardTypeField
             };
 
-            boolean success = Popup.editingPopup(KanbanBoardMenu.this, inputs, "Searching by keywords");
+            boolean success = Popup.editingPopup(KanbanBoardMenu.this, inputs, "Filtering by type");
 
             if (!success) {
                 return false;
@@ -0,0 +1,159 @@
+package ui.graphical;
+
+import model.KanbanBoard;
+import model.KanbanBoardList;
+import model.exceptions.CorruptedSaveDataException;
+import org.json.JSONException;
+import persistence.KanbanJsonReader;
+import persistence.ReadProgressListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+// This class represents a dialog which loads the saved projects on a background
+// thread while showing its progress, so the rest of the app stays responsive.
+// Each board is listed as soon as it has been decoded and loading can be cancelled.
+public class ProjectLoadingDialog extends JDialog {
+    private static final Dimension DIALOG_DIMENSIONS = new Dimension(400, 300);
+    private static final int BYTES_PER_KILOBYTE = 1024;
+
+    private final KanbanJsonReader reader;
+    private final Consumer<KanbanBoardList> onLoaded;
+
+    private final JProgressBar progressBar;
+    private final JLabel statusLabel;
+    private final DefaultListModel<String> boardSummaries;
+
+    private final LoadingWorker worker;
+
+    // EFFECTS: Creates a dialog which loads the projects with the reader
+    //          and passes them to onLoaded once they have all been read.
+    public ProjectLoadingDialog(JFrame parentFrame, KanbanJsonReader reader, Consumer<KanbanBoardList> onLoaded) {
+        super(parentFrame, "Janban | Loading projects", true);
+
+        this.reader = reader;
+        this.onLoaded = onLoaded;
+
+        this.progressBar = new JProgressBar(0, 100);
+        this.statusLabel = new JLabel("Reading save file...");
+        this.boardSummaries = new DefaultListModel<>();
+        this.worker = new LoadingWorker();
+
+        setupComponents();
+
+        setPreferredSize(DIALOG_DIMENSIONS);
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        pack();
+        setLocationRelativeTo(parentFrame);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Creates and places the progress bar, status, board summaries and cancel button.
+    private void setupComponents() {
+        setLayout(new BorderLayout(0, 10));
+
+        progressBar.setStringPainted(true);
+
+        JPanel statusPanel = new JPanel(new GridLayout(0, 1));
+        statusPanel.add(progressBar);
+        statusPanel.add(statusLabel);
+
+        JButton cancelButton = new JButton("Cancel");
+        // removes that ugly box around the button text
+        cancelButton.setFocusable(false);
+        cancelButton.addActionListener(e -> worker.cancel(true));
+
+        add(statusPanel, BorderLayout.NORTH);
+        add(new JScrollPane(new JList<>(boardSummaries)), BorderLayout.CENTER);
+        add(cancelButton, BorderLayout.SOUTH);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Starts loading and shows this dialog until loading has finished or been cancelled.
+    public void load() {
+        worker.execute();
+        setVisible(true);
+    }
+
+    // This class reads the save file on a background thread, publishing
+    // a summary of each board and the progress as it goes.
+    private class LoadingWorker extends SwingWorker<KanbanBoardList, String> implements ReadProgressListener {
+        private volatile long bytesRead;
+        private volatile long totalBytes;
+        private volatile int boardsRead;
+        private volatile int cardsRead;
+
+        // EFFECTS: Reads the projects from the save file.
+        @Override
+        protected KanbanBoardList doInBackground() throws IOException, CorruptedSaveDataException {
+            return reader.read(this);
+        }
+
+        @Override
+        public void bytesRead(long bytesRead, long totalBytes) {
+            this.bytesRead = bytesRead;
+            this.totalBytes = totalBytes;
+
+            setProgress(totalBytes == 0 ? 100 : (int) (bytesRead * 100 / totalBytes));
+            publish();
+        }
+
+        @Override
+        public void boardRead(KanbanBoard board, int boardsRead, int cardsRead) {
+            this.boardsRead = boardsRead;
+            this.cardsRead = cardsRead;
+
+            publish(String.format("%s (%d columns, %d cards)",
+                                  board.getName(),
+                                  board.getColumnCount(),
+                                  board.getCardCount(true)));
+        }
+
+        // MODIFIES: ProjectLoadingDialog.this
+        // EFFECTS: Shows the latest progress and the summaries of the newly decoded boards.
+        @Override
+        protected void process(List<String> summaries) {
+            progressBar.setValue(getProgress());
+            statusLabel.setText(String.format("Read %,d of %,d KB, decoded %d boards and %d cards",
+                                              bytesRead / BYTES_PER_KILOBYTE,
+                                              totalBytes / BYTES_PER_KILOBYTE,
+                                              boardsRead,
+                                              cardsRead));
+            boardSummaries.addAll(summaries);
+        }
+
+        // MODIFIES: ProjectLoadingDialog.this
+        // EFFECTS: Closes the dialog and hands over the projects, or shows why they could not be loaded.
+        @Override
+        protected void done() {
+            dispose();
+
+            try {
+                onLoaded.accept(get());
+            } catch (CancellationException | InterruptedException ex) {
+                // loading was cancelled, so the user stays on the main menu
+            } catch (ExecutionException ex) {
+                showError(ex.getCause());
+            }
+        }
+
+        // EFFECTS: Shows an error describing why the projects could not be loaded.
+        private void showError(Throwable cause) {
+            if (cause instanceof InterruptedIOException) {
+                return;
+            }
+
+            if (cause instanceof CorruptedSaveDataException || cause instanceof JSONException) {
+                Popup.error(getOwner(), "Failed to read the save data!", "Error while loading");
+            } else {
+                Popup.error(getOwner(), "Failed to open the save file!", "Error while loading");
+            }
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package ui.graphical;
 
-import model.Event;
-import model.EventLog;
 import model.KanbanBoard;
 import model.KanbanBoardList;
 import model.exceptions.DuplicateColumnException;
@@ -13,7 +11,6 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.io.IOException;
 
 // This class represents the project selection menu for the Janban graphical app.
 public class ProjectSelectionMenu extends JFrame {
@@ -238,46 +235,13 @@ public class ProjectSelectionMenu extends JFrame {
                 return;
             }
 
-            if (input == JOptionPane.YES_OPTION) {
-                boolean success = performSave();
+            // the snapshot is taken here so that saving sees the boards as they are on exit
+            ExitSavingDialog exitSavingDialog = new ExitSavingDialog(ProjectSelectionMenu.this,
+                                                                     jsonWriter,
+                                                                     kanbanBoards.snapshot(),
+                                                                     input == JOptionPane.YES_OPTION);
 
-                // cancel the closing of the window to prevent losing saved changes
-                if (!success) {
-                    return;
-                }
-            }
-
-            printEventLog();
-
-            // close the window normally
-            dispose();
-            System.exit(0);
-        }
-
-        // EFFECTS: saves all the current boards and returns whether the
-        //          saving process was successful
-        private boolean performSave() {
-            try {
-                jsonWriter.open();
-            } catch (IOException ex) {
-                Popup.error(ProjectSelectionMenu.this,
-                            "Failed to open the save file!",
-                            "Error while saving");
-
-                return false;
-            }
-
-            jsonWriter.writeBoards(kanbanBoards);
-            jsonWriter.close();
-
-            return true;
-        }
-
-        // EFFECTS: print all events stored within the event log
-        private void printEventLog() {
-            for (Event event : EventLog.getInstance()) {
-                System.out.println(event);
-            }
+            exitSavingDialog.saveAndExit();
         }
     }
 }
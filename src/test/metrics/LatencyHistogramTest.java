@@ -0,0 +1,95 @@
+package metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    public void setup() {
+        histogram = new LatencyHistogram("test");
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals("test", histogram.getName());
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(0.5));
+    }
+
+    @Test
+    public void testRecord() {
+        histogram.record(100);
+        histogram.record(300);
+        histogram.record(-5);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(300, histogram.getMaxNanos());
+        assertEquals(400, histogram.getTotalNanos());
+        assertEquals(400 / 3.0, histogram.getMeanNanos(), 0.001);
+    }
+
+    @Test
+    public void testRecordSince() {
+        histogram.recordSince(System.nanoTime() - 1000);
+
+        assertEquals(1, histogram.getCount());
+        assertTrue(histogram.getMaxNanos() >= 1000);
+    }
+
+    @Test
+    public void testBucketBounds() {
+        // Every duration falls in a bucket whose upper bound is at most an eighth above it
+        for (long nanos = 0; nanos < 100000; nanos += 7) {
+            long upperBound = LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucketIndex(nanos));
+
+            assertTrue(upperBound >= nanos);
+            assertTrue(upperBound <= nanos + nanos / 8);
+        }
+
+        int lastIndex = LatencyHistogram.getBucketIndex(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.getBucketUpperBound(lastIndex));
+    }
+
+    @Test
+    public void testPercentiles() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(500000, histogram.getPercentileNanos(0.5), 500000 / 8.0);
+        assertEquals(990000, histogram.getPercentileNanos(0.99), 990000 / 8.0);
+        assertEquals(1000000, histogram.getPercentileNanos(1));
+        assertEquals(1000, histogram.getPercentileNanos(0), 1000 / 8.0);
+    }
+
+    @Test
+    public void testPercentileOutOfRange() {
+        try {
+            histogram.getPercentileNanos(1.5);
+            fail("An exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        try {
+            histogram.getPercentileNanos(-0.1);
+            fail("An exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testGetSummary() {
+        histogram.record(2000000);
+
+        assertEquals("count=1 mean=2.000ms p50=2.000ms p90=2.000ms p99=2.000ms max=2.000ms",
+                     histogram.getSummary());
+    }
+}
@@ -0,0 +1,97 @@
+package metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsRegistryTest {
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new MetricsRegistry();
+    }
+
+    @Test
+    public void testGetInstance() {
+        assertSame(MetricsRegistry.getInstance(), MetricsRegistry.getInstance());
+    }
+
+    @Test
+    public void testCounter() {
+        Counter counter = registry.counter("cards.added");
+
+        counter.increment();
+        counter.add(4);
+
+        assertSame(counter, registry.counter("cards.added"));
+        assertEquals("cards.added", counter.getName());
+        assertEquals(5, counter.getCount());
+    }
+
+    @Test
+    public void testGauge() {
+        Gauge gauge = registry.gauge("last.save");
+        gauge.set(42);
+
+        assertSame(gauge, registry.gauge("last.save"));
+        assertEquals(42, gauge.getValue());
+    }
+
+    @Test
+    public void testGaugeWithSupplier() {
+        AtomicLong size = new AtomicLong(3);
+        Gauge gauge = registry.gauge("board.size", size::get);
+
+        assertEquals(3, gauge.getValue());
+        size.set(7);
+        assertEquals(7, gauge.getValue());
+        gauge.set(42);
+        assertEquals(7, gauge.getValue());
+
+        // The supplier replaces the gauge with the same name
+        Gauge replacement = registry.gauge("board.size", () -> 1);
+        assertSame(replacement, registry.gauge("board.size"));
+        assertEquals(1, registry.gauge("board.size").getValue());
+    }
+
+    @Test
+    public void testHistogram() {
+        LatencyHistogram histogram = registry.histogram("column.query");
+        histogram.record(10);
+
+        assertSame(histogram, registry.histogram("column.query"));
+        assertEquals(1, registry.getHistograms().get(0).getCount());
+    }
+
+    @Test
+    public void testSortedByName() {
+        registry.counter("b");
+        registry.counter("a");
+        registry.counter("c");
+
+        assertEquals("a", registry.getCounters().get(0).getName());
+        assertEquals("b", registry.getCounters().get(1).getName());
+        assertEquals("c", registry.getCounters().get(2).getName());
+    }
+
+    @Test
+    public void testGetReport() {
+        assertEquals("", registry.getReport());
+
+        registry.counter("saves").increment();
+        registry.gauge("cards").set(12);
+        registry.histogram("query").record(1000000);
+
+        String[] lines = registry.getReport().split(System.lineSeparator());
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].matches("counter +saves +1"));
+        assertTrue(lines[1].matches("gauge +cards +12"));
+        assertTrue(lines[2].startsWith("histogram query"));
+        assertTrue(lines[2].endsWith("count=1 mean=1.000ms p50=1.000ms p90=1.000ms p99=1.000ms max=1.000ms"));
+    }
+}
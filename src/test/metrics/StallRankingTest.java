@@ -0,0 +1,64 @@
+package metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StallRankingTest {
+    private StallRanking ranking;
+
+    @BeforeEach
+    public void setup() {
+        ranking = new StallRanking();
+    }
+
+    @Test
+    public void testConstructor() {
+        assertTrue(ranking.isEmpty());
+        assertTrue(ranking.getRanking().isEmpty());
+        assertEquals("", ranking.getReport());
+    }
+
+    @Test
+    public void testRecord() {
+        ranking.record("SaveListener", 500);
+        ranking.record("SearchListener", 200);
+        ranking.record("SearchListener", 200);
+        ranking.record("SyncListener", 1000);
+
+        List<LatencyHistogram> sources = ranking.getRanking();
+
+        assertFalse(ranking.isEmpty());
+        assertEquals(3, sources.size());
+
+        // Ranked by total stall time, not by the longest stall
+        assertEquals("SyncListener", sources.get(0).getName());
+        assertEquals("SaveListener", sources.get(1).getName());
+        assertEquals("SearchListener", sources.get(2).getName());
+        assertEquals(2, sources.get(2).getCount());
+    }
+
+    @Test
+    public void testRankingTiesByName() {
+        ranking.record("b", 100);
+        ranking.record("a", 100);
+
+        assertEquals("a", ranking.getRanking().get(0).getName());
+        assertEquals("b", ranking.getRanking().get(1).getName());
+    }
+
+    @Test
+    public void testGetReport() {
+        ranking.record("SyncListener", 2000000);
+        ranking.record("SaveListener", 1000000);
+
+        String[] lines = ranking.getReport().split(System.lineSeparator());
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("1. SyncListener total=2.000ms count=1"));
+        assertTrue(lines[1].startsWith("2. SaveListener total=1.000ms count=1"));
+    }
+}
@@ -0,0 +1,48 @@
+package metrics.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Records the Janban events of a single type with no threshold, for tests.
+public class EventRecorder implements AutoCloseable {
+    private final String eventName;
+    private final Recording recording;
+
+    // EFFECTS: starts recording every event with the name
+    public EventRecorder(String eventName) {
+        this.eventName = eventName;
+        this.recording = new Recording();
+
+        recording.enable(eventName).withThreshold(Duration.ZERO);
+        recording.start();
+    }
+
+    // EFFECTS: stops recording and returns the events recorded so far
+    public List<RecordedEvent> stop() throws IOException {
+        recording.stop();
+
+        Path file = Files.createTempFile("janban", ".jfr");
+
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+}
@@ -0,0 +1,37 @@
+package metrics.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import model.exceptions.CorruptedSaveDataException;
+import org.junit.jupiter.api.Test;
+import persistence.KanbanJsonReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadEventTest {
+
+    @Test
+    public void testReadRecordsEvent() {
+        final String TEST_FILE = "./data/tests/read/testReadBoards.json";
+
+        try (EventRecorder recorder = new EventRecorder("janban.Load")) {
+            new KanbanJsonReader(TEST_FILE).read();
+
+            List<RecordedEvent> events = recorder.stop();
+            assertEquals(1, events.size());
+
+            RecordedEvent event = events.get(0);
+            assertEquals(TEST_FILE, event.getString("file"));
+            assertEquals(2, event.getInt("boardCount"));
+            assertEquals(2, event.getInt("cardCount"));
+            assertEquals(Files.size(Paths.get(TEST_FILE)), event.getLong("bytes"));
+            assertFalse(event.getDuration().isNegative());
+        } catch (IOException | CorruptedSaveDataException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package metrics.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import model.Card;
+import model.CardType;
+import model.KanbanBoard;
+import model.UpdateResult;
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveCardEventTest {
+
+    @Test
+    public void testMoveCardRecordsEvents() {
+        try (EventRecorder recorder = new EventRecorder("janban.MoveCard")) {
+            KanbanBoard board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+            board.addDefaultColumns();
+
+            Card card = new Card("Login fails", "", "", CardType.ISSUE, new HashSet<>(), 3);
+            long version = card.getVersion();
+
+            board.moveCard(card, board.getColumn(0));
+            card.setDescription("Crash on submit");
+            assertEquals(UpdateResult.CONFLICT, board.moveCardIfCurrent(card, version, board.getColumn(1)));
+
+            List<RecordedEvent> events = recorder.stop();
+            assertEquals(2, events.size());
+
+            assertEquals("Kanban Board", events.get(0).getString("boardName"));
+            assertEquals("Login fails", events.get(0).getString("cardTitle"));
+            assertEquals("Backlog", events.get(0).getString("columnName"));
+            assertEquals(1, events.get(0).getInt("cardCount"));
+            assertFalse(events.get(0).getBoolean("conflict"));
+
+            assertEquals("In Progress", events.get(1).getString("columnName"));
+            assertEquals(0, events.get(1).getInt("cardCount"));
+            assertTrue(events.get(1).getBoolean("conflict"));
+        } catch (IOException | DuplicateColumnException | NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+}
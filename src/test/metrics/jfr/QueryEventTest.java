@@ -0,0 +1,48 @@
+package metrics.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import model.Card;
+import model.CardType;
+import model.Column;
+import model.KanbanBoard;
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryEventTest {
+
+    @Test
+    public void testGetCardsWithQueryRecordsEvent() {
+        try (EventRecorder recorder = new EventRecorder("janban.Query")) {
+            KanbanBoard board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+            Column column = new Column("Backlog");
+            board.addColumn(column);
+
+            column.addCard(new Card("Login fails", "", "", CardType.ISSUE, new HashSet<>(), 3));
+            column.addCard(new Card("Weekly report", "", "", CardType.TASK, new HashSet<>(), 1));
+
+            // An empty query returns every card without searching
+            column.getCardsWithQuery(Set.of());
+            column.getCardsWithQuery(Set.of("login"));
+
+            List<RecordedEvent> events = recorder.stop();
+            assertEquals(1, events.size());
+
+            RecordedEvent event = events.get(0);
+            assertEquals("Kanban Board", event.getString("boardName"));
+            assertEquals("Backlog", event.getString("columnName"));
+            assertEquals("login", event.getString("keywords"));
+            assertEquals(2, event.getInt("cardCount"));
+            assertEquals(1, event.getInt("resultCount"));
+        } catch (IOException | DuplicateColumnException | NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package metrics.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.consumer.RecordedEvent;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+import org.junit.jupiter.api.Test;
+import persistence.KanbanJsonWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveEventTest {
+
+    @Test
+    public void testWriteBoardsRecordsEvents() {
+        KanbanBoardList boards = new KanbanBoardList();
+        boards.addBoard(new KanbanBoard("Kanban Board", "Kanban board description", "Done"));
+
+        try (EventRecorder recorder = new EventRecorder("janban.Save")) {
+            Path file = Files.createTempFile("janban", ".json");
+            KanbanJsonWriter writer = new KanbanJsonWriter(file.toString());
+
+            try {
+                writer.open();
+                writer.writeBoards(boards);
+                writer.writeBoards(boards.snapshot());
+                writer.close();
+            } finally {
+                Files.delete(file);
+            }
+
+            List<RecordedEvent> events = recorder.stop();
+            assertEquals(2, events.size());
+
+            for (RecordedEvent event : events) {
+                assertEquals(file.toString(), event.getString("file"));
+                assertEquals(1, event.getInt("boardCount"));
+                assertEquals(0, event.getInt("cardCount"));
+                assertTrue(event.getLong("characters") > 0);
+                assertNull(event.getEventType().getField("characters").getAnnotation(DataAmount.class));
+            }
+        } catch (IOException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+}
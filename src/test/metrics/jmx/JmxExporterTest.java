@@ -0,0 +1,142 @@
+package metrics.jmx;
+
+import metrics.MetricsRegistry;
+import model.Card;
+import model.CardType;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JmxExporterTest {
+    private MBeanServer server;
+    private MetricsRegistry registry;
+    private KanbanBoardList boards;
+    private KanbanBoard board;
+
+    @BeforeEach
+    public void setup() {
+        server = MBeanServerFactory.newMBeanServer();
+        registry = new MetricsRegistry();
+        boards = new KanbanBoardList();
+        board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+
+        try {
+            board.addDefaultColumns();
+            board.moveCard(new Card("Task", "", "", CardType.TASK, new HashSet<>(), 3), board.getColumn(0));
+            board.moveCard(new Card("Bug", "", "", CardType.ISSUE, new HashSet<>(), 5), board.getCompletedColumn());
+        } catch (DuplicateColumnException | NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        boards.addBoard(board);
+    }
+
+    @Test
+    public void testRegisterMetrics() {
+        registry.counter("saves").add(2);
+        registry.gauge(Metrics.LAST_SAVE_GAUGE).set(3000000);
+        registry.histogram("column.query").record(1000000);
+
+        try {
+            JmxExporter.register(server, registry, boards);
+            MetricsMXBean metrics = JMX.newMXBeanProxy(server, new ObjectName(JmxExporter.METRICS_NAME),
+                                                       MetricsMXBean.class);
+
+            assertEquals(2, metrics.getCounters().get("saves"));
+            assertEquals(3000000, metrics.getGauges().get(Metrics.LAST_SAVE_GAUGE));
+            assertEquals(3, metrics.getLastSaveMillis(), 0.001);
+            assertEquals(0, metrics.getLastLoadMillis(), 0.001);
+
+            List<LatencySummary> latencies = metrics.getLatencies();
+            assertEquals(1, latencies.size());
+            assertEquals("column.query", latencies.get(0).getName());
+            assertEquals(1, latencies.get(0).getCount());
+            assertEquals(1, latencies.get(0).getMaxMillis(), 0.001);
+        } catch (JMException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+
+    @Test
+    public void testRegisterWorkspace() {
+        try {
+            JmxExporter.register(server, registry, boards);
+            WorkspaceMXBean workspace = JMX.newMXBeanProxy(server, new ObjectName(JmxExporter.WORKSPACE_NAME),
+                                                           WorkspaceMXBean.class);
+
+            assertEquals(1, workspace.getBoardCount());
+            assertTrue(workspace.getEventLogSize() > 0);
+
+            BoardStatistics statistics = workspace.getBoards().get(0);
+            assertEquals("Kanban Board", statistics.getName());
+            assertEquals(3, statistics.getColumnCount());
+            assertEquals(2, statistics.getCardCount());
+            assertEquals(1, statistics.getCompletedCardCount());
+            assertEquals(1, statistics.getInProgressCardCount());
+            assertEquals(8, statistics.getTotalStoryPoints());
+            assertEquals(5, statistics.getCompletedStoryPoints());
+            assertEquals(3, statistics.getInProgressStoryPoints());
+            assertEquals(board.getEstimatedHeapBytes(), statistics.getEstimatedHeapBytes());
+
+            assertEquals(boards.getEstimatedHeapBytes(), workspace.getEstimatedHeapBytes());
+            assertEquals(boards.getEstimatedHeapBytes(), registry.gauge(JmxExporter.HEAP_GAUGE).getValue());
+        } catch (JMException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+
+    @Test
+    public void testWorkspaceFollowsChanges() {
+        try {
+            JmxExporter.register(server, registry, boards);
+            WorkspaceMXBean workspace = JMX.newMXBeanProxy(server, new ObjectName(JmxExporter.WORKSPACE_NAME),
+                                                           WorkspaceMXBean.class);
+            workspace.getBoards();
+
+            Card task = board.getColumn(0).getCards().get(0);
+            task.setStoryPoints(8);
+            board.moveCard(task, board.getCompletedColumn());
+            board.moveCard(new Card("Story", "", "", CardType.USER_STORY, new HashSet<>(), 2), board.getColumn(1));
+            board.removeColumn(board.getColumn(0));
+
+            BoardStatistics statistics = workspace.getBoards().get(0);
+            assertEquals(2, statistics.getColumnCount());
+            assertEquals(3, statistics.getCardCount());
+            assertEquals(2, statistics.getCompletedCardCount());
+            assertEquals(15, statistics.getTotalStoryPoints());
+            assertEquals(13, statistics.getCompletedStoryPoints());
+            assertEquals(board.getEstimatedHeapBytes(), statistics.getEstimatedHeapBytes());
+        } catch (JMException | NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+
+    @Test
+    public void testRegisterReplacesBoards() {
+        try {
+            JmxExporter.register(server, registry, boards);
+            JmxExporter.register(server, registry, new KanbanBoardList());
+
+            WorkspaceMXBean workspace = JMX.newMXBeanProxy(server, new ObjectName(JmxExporter.WORKSPACE_NAME),
+                                                           WorkspaceMXBean.class);
+
+            assertEquals(0, workspace.getBoardCount());
+            assertTrue(workspace.getBoards().isEmpty());
+        } catch (JMException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssigneeTest {
+
+    @Test
+    public void testGetName() {
+        assertEquals("Jane Doe", new Assignee("Jane Doe").getName());
+        assertEquals("Jane Doe", new Assignee("Jane Doe").toString());
+    }
+
+    @Test
+    public void testEquals() {
+        Assignee assignee = new Assignee("Jane Doe");
+
+        assertEquals(assignee, assignee);
+        assertEquals(assignee, new Assignee("Jane Doe"));
+        assertNotEquals(assignee, new Assignee("John Doe"));
+        assertNotEquals(null, assignee);
+        assertNotEquals(assignee, new Object());
+    }
+
+    @Test
+    public void testHashCode() {
+        assertEquals(new Assignee("Jane Doe").hashCode(), new Assignee("Jane Doe").hashCode());
+    }
+}
@@ -0,0 +1,190 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.exceptions.ColumnNotInBoardException;
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+public class CardBatchTest {
+    private KanbanBoard board;
+    private Column backlog;
+    private Column inProgress;
+
+    private Card card1;
+    private Card card2;
+    private Card card3;
+
+    @BeforeEach
+    public void setup() {
+        board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+
+        try {
+            board.addDefaultColumns();
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        backlog = board.getColumn(0);
+        inProgress = board.getColumn(1);
+
+        card1 = makeCardOrFail("Card 1", 1);
+        card2 = makeCardOrFail("Card 2", 2);
+        card3 = makeCardOrFail("Card 3", 3);
+    }
+
+    @Test
+    public void testConstructor() {
+        CardBatch batch = new CardBatch();
+
+        assertTrue(batch.isEmpty());
+        assertEquals(0, batch.size());
+        assertEquals("0 added, 0 moved, 0 removed", batch.getSummary());
+    }
+
+    @Test
+    public void testApplyAdds() {
+        CardBatch batch = new CardBatch();
+        batch.add(card1, backlog);
+        batch.add(card2, backlog);
+        batch.add(card3, inProgress);
+
+        applyOrFail(batch);
+
+        assertEquals(List.of(card1, card2), backlog.getCards());
+        assertEquals(List.of(card3), inProgress.getCards());
+        assertSame(backlog, card1.getContainingColumn());
+        assertSame(inProgress, card3.getContainingColumn());
+        assertEquals(6, board.getTotalStoryPoints());
+        assertEquals("3 added, 0 moved, 0 removed", batch.getSummary());
+    }
+
+    @Test
+    public void testApplyMovesAndRemoves() {
+        board.moveCard(card1, backlog);
+        board.moveCard(card2, backlog);
+        board.moveCard(card3, backlog);
+
+        CardBatch batch = new CardBatch();
+        batch.move(card1, inProgress);
+        batch.remove(card2);
+        batch.move(card3, backlog);
+
+        applyOrFail(batch);
+
+        // Moving a card to its own column puts it at the end like moveCard
+        assertEquals(List.of(card3), backlog.getCards());
+        assertEquals(List.of(card1), inProgress.getCards());
+        assertNull(card2.getContainingColumn());
+        assertEquals(4, board.getTotalStoryPoints());
+    }
+
+    @Test
+    public void testApplyLastOperationWins() {
+        CardBatch batch = new CardBatch();
+        batch.add(card1, backlog);
+        batch.add(card2, backlog);
+        batch.move(card1, inProgress);
+        batch.move(card1, backlog);
+        batch.add(card3, inProgress);
+        batch.remove(card3);
+
+        applyOrFail(batch);
+
+        assertEquals(List.of(card2, card1), backlog.getCards());
+        assertTrue(inProgress.getCards().isEmpty());
+        assertNull(card3.getContainingColumn());
+    }
+
+    @Test
+    public void testApplyAddToOwnColumnKeepsPlace() {
+        board.moveCard(card1, backlog);
+        board.moveCard(card2, backlog);
+
+        CardBatch batch = new CardBatch();
+        batch.add(card1, backlog);
+        batch.add(card3, inProgress);
+        batch.add(card3, inProgress);
+
+        applyOrFail(batch);
+
+        // Like Column.addCard, adding a card to the column it is already in does nothing
+        assertEquals(List.of(card1, card2), backlog.getCards());
+        assertEquals(List.of(card3), inProgress.getCards());
+
+        CardBatch moveBatch = new CardBatch();
+        moveBatch.move(card1, backlog);
+
+        applyOrFail(moveBatch);
+
+        // Moving it there still puts it at the end
+        assertEquals(List.of(card2, card1), backlog.getCards());
+    }
+
+    @Test
+    public void testApplyLogsSingleEvent() {
+        CardBatch batch = new CardBatch();
+        batch.add(card1, backlog);
+        batch.add(card2, inProgress);
+
+        EventLog.getInstance().clear();
+        applyOrFail(batch);
+
+        List<Event> events = new ArrayList<>();
+        EventLog.getInstance().forEach(events::add);
+
+        assertEquals(2, events.size());
+        assertTrue(events.get(1).getDescription().contains("2 added, 0 moved, 0 removed"));
+    }
+
+    @Test
+    public void testApplyExpectColumnNotInBoardException() {
+        Column otherColumn = new Column("Other column");
+
+        CardBatch batch = new CardBatch();
+        batch.add(card1, backlog);
+        batch.add(card2, otherColumn);
+
+        try {
+            board.applyBatch(batch);
+            fail("An exception should have been thrown");
+        } catch (ColumnNotInBoardException e) {
+            // This exception should have been thrown
+        }
+
+        assertTrue(backlog.getCards().isEmpty());
+        assertNull(card1.getContainingColumn());
+        assertNull(card2.getContainingColumn());
+    }
+
+    @Test
+    public void testApplyEmptyBatch() {
+        applyOrFail(new CardBatch());
+
+        assertEquals(0, board.getCardCount(true));
+    }
+
+    private void applyOrFail(CardBatch batch) {
+        try {
+            board.applyBatch(batch);
+        } catch (ColumnNotInBoardException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+
+    private Card makeCardOrFail(String title, int storyPoints) {
+        try {
+            return new Card(title, "Description", "Assignee", CardType.TASK, new HashSet<>(), storyPoints);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+package model;
+
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardQueryTest {
+    private KanbanBoard board;
+    private Card loginBug;
+    private Card loginPage;
+    private Card reportTask;
+
+    @BeforeEach
+    public void setup() {
+        board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+
+        try {
+            board.addDefaultColumns();
+
+            loginBug = new Card("Login fails", "Crash on submit", "Jane Doe", CardType.ISSUE,
+                                new HashSet<>(Set.of("bug", "auth")), 3);
+            loginPage = new Card("Login page", "New design", "John Doe", CardType.USER_STORY,
+                                 new HashSet<>(Set.of("design")), 5);
+            reportTask = new Card("Weekly report", "Send to the team", "Jane Doe", CardType.TASK,
+                                  new HashSet<>(), 1);
+        } catch (DuplicateColumnException | NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        board.moveCard(loginBug, board.getColumn(0));
+        board.moveCard(reportTask, board.getColumn(0));
+        board.moveCard(loginPage, board.getColumn(1));
+    }
+
+    @Test
+    public void testConstructor() {
+        CardQuery query = new CardQuery("  Login, BUG  page ");
+
+        assertEquals("  Login, BUG  page ", query.getText());
+        assertEquals(List.of("login", "bug", "page"), query.getTerms());
+        assertFalse(query.isEmpty());
+
+        assertTrue(new CardQuery(" , ").isEmpty());
+    }
+
+    @Test
+    public void testMatches() {
+        // Every term has to be found in the title, description, assignee or tags
+        assertTrue(new CardQuery("login").matches(loginBug.snapshot()));
+        assertTrue(new CardQuery("LOGIN crash").matches(loginBug.snapshot()));
+        assertTrue(new CardQuery("jane").matches(loginBug.snapshot()));
+        assertTrue(new CardQuery("aut").matches(loginBug.snapshot()));
+        assertFalse(new CardQuery("login design").matches(loginBug.snapshot()));
+
+        // An empty query matches every card
+        assertTrue(new CardQuery("").matches(reportTask.snapshot()));
+    }
+
+    @Test
+    public void testFindMatchesInBoard() {
+        List<CardSnapshot> matches = new CardQuery("login").findMatches(board.snapshot());
+
+        assertEquals(2, matches.size());
+        assertSame(loginBug, matches.get(0).getCard());
+        assertSame(loginPage, matches.get(1).getCard());
+
+        assertEquals(3, new CardQuery("").findMatches(board.snapshot()).size());
+        assertTrue(new CardQuery("missing").findMatches(board.snapshot()).isEmpty());
+    }
+
+    @Test
+    public void testFindMatchesInCandidates() {
+        List<CardSnapshot> candidates = new CardQuery("jane").findMatches(board.snapshot());
+        List<CardSnapshot> matches = new CardQuery("jane login").findMatches(candidates);
+
+        assertEquals(1, matches.size());
+        assertSame(loginBug, matches.get(0).getCard());
+    }
+
+    @Test
+    public void testFindMatchesInterrupted() {
+        Thread.currentThread().interrupt();
+
+        try {
+            assertTrue(new CardQuery("login").findMatches(board.snapshot()).isEmpty());
+        } finally {
+            // Clear the flag so that other tests are not interrupted
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testNarrows() {
+        CardQuery query = new CardQuery("log");
+
+        assertTrue(new CardQuery("login").narrows(query));
+        assertTrue(new CardQuery("log bug").narrows(query));
+        assertTrue(query.narrows(query));
+        assertTrue(query.narrows(new CardQuery("")));
+
+        assertFalse(new CardQuery("lo").narrows(query));
+        assertFalse(new CardQuery("bug").narrows(query));
+        assertFalse(new CardQuery("").narrows(query));
+    }
+
+    @Test
+    public void testSnapshotSearchesChangedCard() {
+        CardQuery query = new CardQuery("urgent");
+
+        assertFalse(query.matches(reportTask.snapshot()));
+
+        reportTask.setDescription("Urgent, send to the team");
+
+        assertTrue(query.matches(reportTask.snapshot()));
+    }
+}
@@ -2,6 +2,7 @@ package model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import model.exceptions.DuplicateColumnException;
 import model.exceptions.NegativeStoryPointsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -167,6 +168,24 @@ public class CardTest {
         assertEquals("New Assignee", card.getAssignee());
     }
 
+    @Test
+    public void testSetAssigneeWithinBoard() {
+        KanbanBoard board = new KanbanBoard("Board", "Board description", "Done");
+        Column column = new Column("Column");
+
+        try {
+            board.addColumn(column);
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        column.addCard(card);
+        card.setAssignee(new String("New Assignee"));
+
+        assertEquals("New Assignee", card.getAssignee());
+        assertSame(board.getStringPool().getAssignee("New Assignee"), card.getAssigneeHandle());
+    }
+
     @Test
     public void testSetType() {
         card.setType(CardType.ISSUE);
@@ -208,4 +227,81 @@ public class CardTest {
 
         assertEquals(8, card.getStoryPoints());
     }
+
+    @Test
+    public void testUpdateIfCurrentApplied() {
+        long version = card.getVersion();
+        UpdateResult result = null;
+
+        try {
+            result = card.updateIfCurrent(version, "New title", "New description", "New Assignee",
+                                          CardType.TASK, new HashSet<>(), 3);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(UpdateResult.APPLIED, result);
+        assertEquals("New title", card.getTitle());
+        assertEquals("New description", card.getDescription());
+        assertEquals("New Assignee", card.getAssignee());
+        assertEquals(CardType.TASK, card.getType());
+        assertTrue(card.getTags().isEmpty());
+        assertEquals(3, card.getStoryPoints());
+        assertTrue(card.getVersion() > version);
+    }
+
+    @Test
+    public void testUpdateIfCurrentConflict() {
+        long version = card.getVersion();
+        UpdateResult result = null;
+
+        card.setTitle("Changed elsewhere");
+
+        try {
+            result = card.updateIfCurrent(version, "New title", "New description", "New Assignee",
+                                          CardType.TASK, new HashSet<>(), 3);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(UpdateResult.CONFLICT, result);
+        assertEquals("Changed elsewhere", card.getTitle());
+        assertEquals("Description 1, keyword1", card.getDescription());
+        assertEquals(8, card.getStoryPoints());
+    }
+
+    @Test
+    public void testUpdateIfCurrentExpectNegativeStoryPointsException() {
+        long version = card.getVersion();
+
+        try {
+            card.updateIfCurrent(version, "New title", "New description", "New Assignee",
+                                 CardType.TASK, new HashSet<>(), -1);
+            fail("An exception should have been thrown");
+        } catch (NegativeStoryPointsException e) {
+            // This exception should have been thrown
+        }
+
+        assertEquals(version, card.getVersion());
+        assertEquals(8, card.getStoryPoints());
+    }
+
+    @Test
+    public void testGetEstimatedHeapBytes() {
+        long estimate = card.getEstimatedHeapBytes();
+
+        assertTrue(estimate > 0);
+
+        // Each character of a Latin-1 string takes a single byte, rounded up to the alignment
+        card.setDescription(card.getDescription() + "a".repeat(1000));
+        long longerEstimate = card.getEstimatedHeapBytes();
+
+        assertTrue(longerEstimate - estimate >= 1000 - HeapLayout.ALIGNMENT_BYTES);
+        assertTrue(longerEstimate - estimate <= 1000 + HeapLayout.ALIGNMENT_BYTES);
+
+        // Other characters take two bytes
+        card.setDescription(card.getDescription() + "\u4e2d");
+
+        assertTrue(card.getEstimatedHeapBytes() - longerEstimate >= 1000);
+    }
 }
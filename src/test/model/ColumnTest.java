@@ -204,6 +204,46 @@ public class ColumnTest {
         assertEquals(card3, tasks.get(0));
     }
 
+    @Test
+    public void testGetCardsWithTags() {
+        addAllCards();
+
+        List<Card> allOfResults = column.getCardsWithTags(TagFilter.allOf(new HashSet<>() {{
+            add("keyword1");
+            add("keyword2");
+        }}));
+
+        assertEquals(1, allOfResults.size());
+        assertEquals(card3, allOfResults.get(0));
+
+        List<Card> anyOfResults = column.getCardsWithTags(TagFilter.anyOf(new HashSet<>() {{
+            add("keyword1");
+            add("keyword2");
+        }}));
+
+        assertEquals(2, anyOfResults.size());
+        assertEquals(card1, anyOfResults.get(0));
+        assertEquals(card3, anyOfResults.get(1));
+    }
+
+    @Test
+    public void testSetBoard() {
+        KanbanBoard board = new KanbanBoard("Board", "Board description", "Done");
+
+        addAllCards();
+        column.setBoard(board);
+
+        assertEquals(board, column.getBoard());
+        assertTrue(card3.getTags() instanceof TagSet);
+        assertEquals(board.getTagDictionary(), ((TagSet) card3.getTags()).getDictionary());
+        assertEquals(3, card3.getTags().size());
+        assertTrue(card3.getTags().contains("other_tag"));
+
+        column.setBoard(null);
+
+        assertNull(column.getBoard());
+    }
+
     @Test
     public void testGetTotalStoryPoints() {
         assertEquals(0, column.getTotalStoryPoints());
@@ -213,6 +253,30 @@ public class ColumnTest {
         assertEquals(10, column.getTotalStoryPoints());
     }
 
+    @Test
+    public void testGetTotalStoryPointsAfterChanges() {
+        addAllCards();
+
+        assertEquals(10, column.getTotalStoryPoints());
+
+        // The total is summed again once a card changes, is removed or is added
+        try {
+            card1.setStoryPoints(11);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(20, column.getTotalStoryPoints());
+
+        column.removeCard(card2);
+
+        assertEquals(18, column.getTotalStoryPoints());
+
+        column.addCard(card2);
+
+        assertEquals(20, column.getTotalStoryPoints());
+    }
+
     @Test
     public void testSetName() {
         column.setName("New Name");
@@ -253,4 +317,33 @@ public class ColumnTest {
         assertTrue(column.getCards().contains(card3));
         assertTrue(column.getCards().contains(card4));
     }
+
+    @Test
+    public void testGetEstimatedHeapBytes() {
+        long emptyEstimate = column.getEstimatedHeapBytes();
+
+        column.addCard(card1);
+        column.addCard(card2);
+
+        long estimate = column.getEstimatedHeapBytes();
+
+        assertTrue(estimate > emptyEstimate + card1.getEstimatedHeapBytes() + card2.getEstimatedHeapBytes());
+
+        column.removeCard(card2);
+
+        assertTrue(column.getEstimatedHeapBytes() < estimate);
+    }
+
+    @Test
+    public void testGetEstimatedHeapBytesAfterCardChanged() {
+        column.addCard(card1);
+
+        long estimate = column.getEstimatedHeapBytes();
+
+        assertEquals(estimate, column.getEstimatedHeapBytes());
+
+        card1.setDescription(card1.getDescription() + " with a much longer description than before");
+
+        assertTrue(column.getEstimatedHeapBytes() > estimate);
+    }
 }
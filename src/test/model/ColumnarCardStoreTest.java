@@ -0,0 +1,117 @@
+package model;
+
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarCardStoreTest {
+    private KanbanBoard board;
+
+    @BeforeEach
+    public void setup() {
+        board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+
+        try {
+            board.addDefaultColumns();
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        board.moveCard(makeCardOrFail("Jane", CardType.TASK, Set.of("tag1"), 1), board.getColumn(0));
+        board.moveCard(makeCardOrFail("John", CardType.ISSUE, Set.of("tag1", "tag2"), 2), board.getColumn(0));
+        board.moveCard(makeCardOrFail("Jane", CardType.TASK, Set.of(), 3), board.getColumn(2));
+    }
+
+    @Test
+    public void testConstructorEmptyBoard() {
+        ColumnarCardStore store = new ColumnarCardStore(new KanbanBoard("Board", "", "Done"));
+
+        assertEquals(0, store.getCardCount());
+        assertEquals(0, store.getTotalStoryPoints());
+        assertEquals(0, store.getCardCountWithTag("tag1"));
+    }
+
+    @Test
+    public void testGetTotalStoryPoints() {
+        ColumnarCardStore store = new ColumnarCardStore(board);
+
+        assertEquals(3, store.getCardCount());
+        assertEquals(6, store.getTotalStoryPoints());
+    }
+
+    @Test
+    public void testGetStoryPointsByColumn() {
+        ColumnarCardStore store = new ColumnarCardStore(board);
+
+        assertArrayEquals(new int[]{3, 0, 3}, store.getStoryPointsByColumn());
+        assertEquals(3, store.getStoryPointsOfColumn(0));
+        assertEquals(0, store.getStoryPointsOfColumn(1));
+    }
+
+    @Test
+    public void testGroupByType() {
+        ColumnarCardStore store = new ColumnarCardStore(board);
+
+        Map<CardType, Integer> counts = store.getCardCountByType();
+        Map<CardType, Integer> storyPoints = store.getStoryPointsByType();
+
+        assertEquals(2, counts.get(CardType.TASK));
+        assertEquals(1, counts.get(CardType.ISSUE));
+        assertEquals(0, counts.get(CardType.USER_STORY));
+
+        assertEquals(4, storyPoints.get(CardType.TASK));
+        assertEquals(2, storyPoints.get(CardType.ISSUE));
+        assertEquals(0, storyPoints.get(CardType.USER_STORY));
+    }
+
+    @Test
+    public void testGetStoryPointsByAssignee() {
+        Map<Assignee, Integer> storyPoints = new ColumnarCardStore(board).getStoryPointsByAssignee();
+
+        assertEquals(2, storyPoints.size());
+        assertEquals(4, storyPoints.get(board.getStringPool().getAssignee("Jane")));
+        assertEquals(2, storyPoints.get(board.getStringPool().getAssignee("John")));
+    }
+
+    @Test
+    public void testGetTopAssigneesByStoryPoints() {
+        board.moveCard(makeCardOrFail("Alex", CardType.TASK, Set.of(), 2), board.getColumn(1));
+
+        List<Map.Entry<Assignee, Integer>> topAssignees = board.getColumnarStore().getTopAssigneesByStoryPoints(2);
+
+        assertEquals(2, topAssignees.size());
+        assertEquals("Jane", topAssignees.get(0).getKey().getName());
+        assertEquals(4, topAssignees.get(0).getValue());
+
+        // Alex and John both have 2 story points, so they are ordered by name
+        assertEquals("Alex", topAssignees.get(1).getKey().getName());
+        assertEquals(2, topAssignees.get(1).getValue());
+    }
+
+    @Test
+    public void testGetCardCountWithTag() {
+        ColumnarCardStore store = new ColumnarCardStore(board);
+
+        assertEquals(2, store.getCardCountWithTag("tag1"));
+        assertEquals(1, store.getCardCountWithTag("tag2"));
+        assertEquals(0, store.getCardCountWithTag("unknown_tag"));
+    }
+
+    private Card makeCardOrFail(String assignee, CardType type, Set<String> tags, int storyPoints) {
+        try {
+            return new Card("Card", "Description", assignee, type, new HashSet<>(tags), storyPoints);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        return null;
+    }
+}
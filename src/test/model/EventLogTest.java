@@ -51,4 +51,15 @@ public class EventLogTest {
         assertEquals("Event log cleared.", itr.next().getDescription());
         assertFalse(itr.hasNext());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSize() {
+        EventLog el = EventLog.getInstance();
+        el.clear();
+        assertEquals(1, el.size());
+
+        el.logEvent(e1);
+        el.logEvent(e2);
+        assertEquals(3, el.size());
+    }
+}
@@ -0,0 +1,73 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeapLayoutTest {
+
+    @Test
+    public void testAlign() {
+        assertEquals(0, HeapLayout.align(0));
+        assertEquals(8, HeapLayout.align(1));
+        assertEquals(8, HeapLayout.align(8));
+        assertEquals(16, HeapLayout.align(9));
+    }
+
+    @Test
+    public void testObjectBytes() {
+        // An object with no fields is only its header, rounded up
+        assertEquals(16, HeapLayout.objectBytes(0, 0));
+        assertEquals(HeapLayout.align(12 + 2L * HeapLayout.REFERENCE_BYTES + 8), HeapLayout.objectBytes(2, 8));
+    }
+
+    @Test
+    public void testArrayBytes() {
+        assertEquals(16, HeapLayout.arrayBytes(0, 8));
+        assertEquals(24, HeapLayout.arrayBytes(1, 8));
+        assertEquals(24, HeapLayout.arrayBytes(5, 1));
+        assertEquals(HeapLayout.arrayBytes(3, HeapLayout.REFERENCE_BYTES), HeapLayout.referenceArrayBytes(3));
+    }
+
+    @Test
+    public void testStringBytes() {
+        long emptyBytes = HeapLayout.stringBytes("");
+
+        assertEquals(0, HeapLayout.stringBytes((String) null));
+        assertEquals(emptyBytes + 8, HeapLayout.stringBytes("abcdefgh"));
+
+        // Characters outside of Latin-1 take two bytes each
+        assertEquals(emptyBytes + 16, HeapLayout.stringBytes("abcdefg\u4e2d"));
+
+        assertEquals(HeapLayout.stringBytes("a") + HeapLayout.stringBytes("bc"),
+                     HeapLayout.stringBytes(List.of("a", "bc")));
+    }
+
+    @Test
+    public void testIntegerBytes() {
+        assertEquals(0, HeapLayout.integerBytes(127));
+        assertEquals(0, HeapLayout.integerBytes(-128));
+        assertEquals(16, HeapLayout.integerBytes(128));
+    }
+
+    @Test
+    public void testHashMapBytes() {
+        long emptyBytes = HeapLayout.hashMapBytes(0);
+        long entryBytes = HeapLayout.objectBytes(3, Integer.BYTES);
+
+        // The table starts with 16 buckets and doubles once it is three quarters full
+        assertEquals(emptyBytes + 12 * entryBytes, HeapLayout.hashMapBytes(12));
+        assertEquals(emptyBytes + 13 * entryBytes + 16L * HeapLayout.REFERENCE_BYTES, HeapLayout.hashMapBytes(13));
+
+        assertEquals(HeapLayout.objectBytes(1, 0) + HeapLayout.hashMapBytes(5), HeapLayout.hashSetBytes(5));
+    }
+
+    @Test
+    public void testCollectionBytes() {
+        assertTrue(HeapLayout.arrayListBytes(10) > HeapLayout.arrayListBytes(0));
+        assertTrue(HeapLayout.copyOnWriteListBytes(10) > HeapLayout.copyOnWriteListBytes(0));
+        assertTrue(HeapLayout.readWriteLockBytes() > HeapLayout.reentrantLockBytes());
+    }
+}
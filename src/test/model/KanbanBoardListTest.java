@@ -1,9 +1,12 @@
 package model;
 
 import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class KanbanBoardListTest {
@@ -58,6 +61,31 @@ public class KanbanBoardListTest {
         assertTrue(list.getBoards().contains(board2));
     }
 
+    @Test
+    public void testAddBoardSharesStringPool() {
+        Card card1 = null;
+        Card card2 = null;
+
+        try {
+            card1 = new Card("Card 1", "", new String("Jane Doe"), CardType.TASK, new HashSet<>(), 1);
+            card2 = new Card("Card 2", "", new String("Jane Doe"), CardType.TASK, new HashSet<>(), 1);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        board1.moveCard(card1, board1.getColumn(0));
+        board2.moveCard(card2, board2.getColumn(0));
+
+        assertNotSame(card1.getAssigneeHandle(), card2.getAssigneeHandle());
+
+        list.addBoard(board1);
+        list.addBoard(board2);
+
+        assertEquals(list.getStringPool(), board1.getStringPool());
+        assertEquals(list.getStringPool(), board2.getStringPool());
+        assertSame(card1.getAssigneeHandle(), card2.getAssigneeHandle());
+    }
+
     @Test
     public void testGetBoard() {
         list.addBoard(board1);
@@ -92,4 +120,17 @@ public class KanbanBoardListTest {
 
         assertEquals(2, list.size());
     }
+
+    @Test
+    public void testGetEstimatedHeapBytes() {
+        KanbanBoardList boards = new KanbanBoardList();
+        long emptyEstimate = boards.getEstimatedHeapBytes();
+
+        boards.addBoard(board1);
+        boards.addBoard(board2);
+
+        long estimate = boards.getEstimatedHeapBytes();
+
+        assertTrue(estimate > emptyEstimate + board1.getEstimatedHeapBytes() + board2.getEstimatedHeapBytes());
+    }
 }
@@ -0,0 +1,140 @@
+package model;
+
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KanbanBoardSnapshotTest {
+    private KanbanBoard board;
+    private Card card1;
+    private Card card2;
+
+    @BeforeEach
+    public void setup() {
+        board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+
+        try {
+            board.addDefaultColumns();
+            card1 = new Card("Card 1", "Description 1", "Jane Doe", CardType.TASK, new HashSet<>() {{
+                add("tag1");
+            }}, 1);
+            card2 = new Card("Card 2", "Description 2", "John Doe", CardType.ISSUE, new HashSet<>(), 2);
+        } catch (DuplicateColumnException | NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        board.moveCard(card1, board.getColumn(0));
+        board.moveCard(card2, board.getCompletedColumn());
+    }
+
+    @Test
+    public void testSnapshotValues() {
+        KanbanBoardSnapshot snapshot = board.snapshot();
+
+        assertEquals(board, snapshot.getBoard());
+        assertEquals("Kanban Board", snapshot.getName());
+        assertEquals("Kanban board description", snapshot.getDescription());
+        assertEquals("Done", snapshot.getCompletedColumnName());
+        assertEquals(3, snapshot.getColumns().size());
+        assertEquals("Done", snapshot.getCompletedColumn().getName());
+
+        CardSnapshot cardSnapshot = snapshot.getColumns().get(0).getCards().get(0);
+
+        assertEquals(card1, cardSnapshot.getCard());
+        assertEquals("Card 1", cardSnapshot.getTitle());
+        assertEquals("Description 1", cardSnapshot.getDescription());
+        assertEquals("Jane Doe", cardSnapshot.getAssignee());
+        assertEquals(card1.getAssigneeHandle(), cardSnapshot.getAssigneeHandle());
+        assertEquals(CardType.TASK, cardSnapshot.getType());
+        assertEquals(Set.of("tag1"), cardSnapshot.getTags());
+        assertEquals(1, cardSnapshot.getStoryPoints());
+    }
+
+    @Test
+    public void testSnapshotAggregates() {
+        KanbanBoardSnapshot snapshot = board.snapshot();
+
+        assertEquals(3, snapshot.getTotalStoryPoints());
+        assertEquals(2, snapshot.getCompletedStoryPoints());
+        assertEquals(2, snapshot.getCardCount(true));
+        assertEquals(1, snapshot.getCardCount(false));
+    }
+
+    @Test
+    public void testSnapshotUnaffectedByEdits() {
+        KanbanBoardSnapshot snapshot = board.snapshot();
+
+        card1.setTitle("New Title");
+        board.getCompletedColumn().removeCard(card2);
+        board.removeColumn(board.getColumn(1));
+
+        assertEquals(3, snapshot.getColumns().size());
+        assertEquals("Card 1", snapshot.getColumns().get(0).getCards().get(0).getTitle());
+        assertEquals(1, snapshot.getCompletedColumn().getCards().size());
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getColumns().remove(0));
+    }
+
+    @Test
+    public void testSnapshotSharesUnchangedParts() {
+        KanbanBoardSnapshot snapshot = board.snapshot();
+
+        // Nothing changed
+        assertSame(snapshot, board.snapshot());
+
+        card1.setTitle("New Title");
+
+        KanbanBoardSnapshot newSnapshot = board.snapshot();
+
+        assertNotSame(snapshot, newSnapshot);
+        assertEquals("New Title", newSnapshot.getColumns().get(0).getCards().get(0).getTitle());
+
+        // Only the column holding the changed card is copied again
+        assertNotSame(snapshot.getColumns().get(0), newSnapshot.getColumns().get(0));
+        assertSame(snapshot.getColumns().get(1), newSnapshot.getColumns().get(1));
+        assertSame(snapshot.getColumns().get(2), newSnapshot.getColumns().get(2));
+    }
+
+    @Test
+    public void testSnapshotOffHeapColumnKept() {
+        Column archive = new Column("Archive", CardStorage.OFF_HEAP);
+
+        try {
+            board.addColumn(archive);
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        KanbanBoardSnapshot snapshot = board.snapshot();
+
+        assertEquals(CardStorage.OFF_HEAP, snapshot.getColumns().get(3).getStorage());
+        assertSame(snapshot, board.snapshot());
+
+        archive.addCard(board.getColumn(0).getCards().get(0));
+
+        assertNotSame(snapshot, board.snapshot());
+    }
+
+    @Test
+    public void testToJson() {
+        assertTrue(board.toJson().similar(board.snapshot().toJson()));
+    }
+
+    @Test
+    public void testListSnapshot() {
+        KanbanBoardList list = new KanbanBoardList();
+        list.addBoard(board);
+
+        KanbanBoardListSnapshot snapshot = list.snapshot();
+
+        assertEquals(1, snapshot.size());
+        assertSame(board.snapshot(), snapshot.getBoard(0));
+        assertTrue(list.toJson().similar(snapshot.toJson()));
+    }
+}
@@ -7,7 +7,9 @@ import model.exceptions.NegativeStoryPointsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public class KanbanBoardTest {
@@ -359,6 +361,37 @@ public class KanbanBoardTest {
         assertFalse(column1.getCards().contains(card2));
     }
 
+    @Test
+    public void testMoveCardEncodesTags() {
+        Card taggedCard = makeCardOrFail("Card 5", "Description 5", "Person 5", CardType.TASK, new HashSet<>() {{
+            add("tag1");
+            add("tag2");
+        }}, 5);
+
+        board.moveCard(taggedCard, board.getColumn(0));
+
+        assertTrue(taggedCard.getTags() instanceof TagSet);
+        assertEquals(board.getTagDictionary(), ((TagSet) taggedCard.getTags()).getDictionary());
+        assertEquals(2, board.getTagDictionary().size());
+        assertTrue(taggedCard.getTags().contains("tag1"));
+        assertTrue(taggedCard.getTags().contains("tag2"));
+    }
+
+    @Test
+    public void testAddAndRemoveColumnSetsBoard() {
+        try {
+            board.addColumn(column1);
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(board, column1.getBoard());
+
+        board.removeColumn(column1);
+
+        assertNull(column1.getBoard());
+    }
+
     @Test
     public void testGetTotalStoryPoints() {
         try {
@@ -380,6 +413,29 @@ public class KanbanBoardTest {
         assertEquals(10, board.getTotalStoryPoints());
     }
 
+    @Test
+    public void testGetColumnarStoreRebuiltOnChange() {
+        board.moveCard(card1, board.getColumn(0));
+
+        ColumnarCardStore store = board.getColumnarStore();
+
+        // Nothing changed so the store is reused
+        assertSame(store, board.getColumnarStore());
+
+        try {
+            card1.setStoryPoints(10);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertNotSame(store, board.getColumnarStore());
+        assertEquals(10, board.getTotalStoryPoints());
+
+        board.getColumn(0).removeCard(card1);
+
+        assertEquals(0, board.getTotalStoryPoints());
+    }
+
     @Test
     public void testGetCompletedStoryPoints() {
         // No cards
@@ -425,6 +481,82 @@ public class KanbanBoardTest {
         assertEquals(3, board.getCardCount(false));
     }
 
+    @Test
+    public void testMoveCardConcurrently() {
+        List<Card> cards = List.of(card1, card2, card3, card4);
+
+        for (Card card : cards) {
+            board.moveCard(card, board.getColumn(0));
+        }
+
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            int offset = i;
+
+            threads.add(new Thread(() -> {
+                for (int move = 0; move < 500; move++) {
+                    Card card = cards.get((move + offset) % cards.size());
+                    board.moveCard(card, board.getColumn((move * 7 + offset) % board.getColumnCount()));
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            fail("The moving threads should not have been interrupted");
+        }
+
+        assertEquals(4, board.getCardCount(true));
+        assertEquals(10, board.getTotalStoryPoints());
+
+        for (Card card : cards) {
+            assertTrue(card.getContainingColumn().getCards().contains(card));
+        }
+    }
+
+    @Test
+    public void testEditColumnNameIfCurrent() {
+        Column column = board.getColumn(0);
+        long version = column.getVersion();
+
+        // Cards moving in and out of the column are not a conflict for a rename
+        board.moveCard(card1, column);
+        board.moveCard(card1, board.getColumn(1));
+
+        try {
+            assertEquals(UpdateResult.APPLIED, board.editColumnNameIfCurrent(column, version, "Renamed"));
+            assertEquals(UpdateResult.CONFLICT, board.editColumnNameIfCurrent(column, version, "Renamed again"));
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals("Renamed", column.getName());
+    }
+
+    @Test
+    public void testMoveCardIfCurrent() {
+        board.moveCard(card1, board.getColumn(0));
+
+        long version = card1.getVersion();
+
+        card1.setTitle("Changed elsewhere");
+
+        assertEquals(UpdateResult.CONFLICT, board.moveCardIfCurrent(card1, version, board.getColumn(1)));
+        assertSame(board.getColumn(0), card1.getContainingColumn());
+
+        assertEquals(UpdateResult.APPLIED, board.moveCardIfCurrent(card1, card1.getVersion(), board.getColumn(1)));
+        assertSame(board.getColumn(1), card1.getContainingColumn());
+        assertFalse(board.getColumn(0).getCards().contains(card1));
+    }
+
     private Card makeCardOrFail(String title,
                                 String description,
                                 String assignee,
@@ -439,4 +571,25 @@ public class KanbanBoardTest {
 
         return null;
     }
+
+    @Test
+    public void testGetEstimatedHeapBytes() {
+        board.moveCard(card1, board.getColumn(0));
+        board.moveCard(card2, board.getColumn(1));
+
+        long estimate = board.getEstimatedHeapBytes();
+        long columnsEstimate = 0;
+
+        for (Column column : board.getColumns()) {
+            columnsEstimate += column.getEstimatedHeapBytes();
+        }
+
+        assertTrue(estimate > columnsEstimate);
+
+        // The estimate is reused until a card or column changes
+        assertEquals(estimate, board.getEstimatedHeapBytes());
+
+        card1.setDescription("A much longer description than the one this card had before");
+        assertTrue(board.getEstimatedHeapBytes() > estimate);
+    }
 }
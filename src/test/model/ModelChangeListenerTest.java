@@ -0,0 +1,214 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.exceptions.ColumnNotInBoardException;
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+public class ModelChangeListenerTest {
+    private KanbanBoard board;
+    private Column column1;
+    private Column column2;
+    private Card card;
+
+    private RecordingListener boardListener;
+    private RecordingListener columnListener;
+    private RecordingListener cardListener;
+
+    @BeforeEach
+    public void setup() {
+        board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+        column1 = new Column("Column 1");
+        column2 = new Column("Column 2");
+
+        try {
+            board.addColumn(column1);
+            board.addColumn(column2);
+            card = new Card("Card", "Description", "Assignee", CardType.TASK, new HashSet<>(), 1);
+        } catch (DuplicateColumnException | NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        boardListener = new RecordingListener();
+        columnListener = new RecordingListener();
+        cardListener = new RecordingListener();
+
+        board.addListener(boardListener);
+        column1.addListener(columnListener);
+        card.addListener(cardListener);
+    }
+
+    @Test
+    public void testCardInsertedAndRemoved() {
+        column1.addCard(makeCardOrFail("Other card"));
+        column1.addCard(card);
+        column1.removeCard(card);
+
+        List<String> expected = List.of("inserted Column 1 Other card 0",
+                                        "inserted Column 1 Card 1",
+                                        "removed Column 1 Card 1");
+
+        assertEquals(expected, columnListener.events);
+        assertEquals(expected, boardListener.events);
+        assertTrue(cardListener.events.isEmpty());
+    }
+
+    @Test
+    public void testMoveCard() {
+        board.moveCard(card, column1);
+        board.moveCard(card, column2);
+
+        assertEquals(List.of("inserted Column 1 Card 0", "removed Column 1 Card 0"), columnListener.events);
+        assertEquals(List.of("inserted Column 1 Card 0", "removed Column 1 Card 0", "inserted Column 2 Card 0"),
+                     boardListener.events);
+    }
+
+    @Test
+    public void testCardChanged() {
+        card.setTitle("Not in a column");
+        column1.addCard(card);
+        card.setTitle("In a column");
+
+        assertEquals(List.of("changed Not in a column", "changed In a column"), cardListener.events);
+        assertEquals(List.of("inserted Column 1 Not in a column 0", "changed In a column"), columnListener.events);
+
+        card.removeListener(cardListener);
+        card.setDescription("New description");
+
+        assertEquals(2, cardListener.events.size());
+        assertEquals(3, boardListener.events.size());
+    }
+
+    @Test
+    public void testColumnAddedRenamedAndRemoved() {
+        Column column3 = new Column("Column 3");
+
+        try {
+            board.addColumn(column3);
+            board.editColumnName(column1, "Renamed");
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        board.removeColumn(column1);
+
+        assertEquals(List.of("renamed Renamed"), columnListener.events);
+        assertEquals(List.of("added Column 3 2", "renamed Renamed", "removed column Renamed 0"),
+                     boardListener.events);
+
+        // The removed column no longer reports to the board
+        column1.addCard(card);
+
+        assertEquals(3, boardListener.events.size());
+    }
+
+    @Test
+    public void testBatchReplacesCards() {
+        CardBatch batch = new CardBatch();
+        batch.add(card, column1);
+        batch.add(makeCardOrFail("Other card"), column1);
+
+        try {
+            board.applyBatch(batch);
+        } catch (ColumnNotInBoardException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(List.of("replaced Column 1"), columnListener.events);
+        assertEquals(List.of("replaced Column 1"), boardListener.events);
+    }
+
+    @Test
+    public void testEventsDeliveredWithoutLocks() {
+        List<Boolean> locksHeld = new ArrayList<>();
+
+        board.addListener(new ModelChangeListener() {
+            @Override
+            public void cardInserted(Column column, Card insertedCard, int index) {
+                locksHeld.add(column1.getLock().isHeldByCurrentThread() || column2.getLock().isHeldByCurrentThread());
+
+                // Listeners may change the model themselves
+                if (column == column2) {
+                    insertedCard.setTitle("Moved");
+                }
+            }
+        });
+
+        board.moveCard(card, column1);
+        board.moveCard(card, column2);
+
+        assertEquals(List.of(false, false), locksHeld);
+        assertEquals("Moved", card.getTitle());
+        assertEquals(List.of("inserted Column 1 Card 0", "removed Column 1 Card 0", "inserted Column 2 Card 0",
+                             "changed Moved"),
+                     boardListener.events);
+    }
+
+    @Test
+    public void testRemoveListener() {
+        board.removeListener(boardListener);
+        column1.removeListener(columnListener);
+
+        column1.addCard(card);
+
+        assertTrue(boardListener.events.isEmpty());
+        assertTrue(columnListener.events.isEmpty());
+    }
+
+    private Card makeCardOrFail(String title) {
+        try {
+            return new Card(title, "Description", "Assignee", CardType.TASK, new HashSet<>(), 1);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        return null;
+    }
+
+    // Records a short description of every event it receives
+    private static class RecordingListener implements ModelChangeListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void cardInserted(Column column, Card card, int index) {
+            events.add("inserted " + column.getName() + " " + card.getTitle() + " " + index);
+        }
+
+        @Override
+        public void cardRemoved(Column column, Card card, int index) {
+            events.add("removed " + column.getName() + " " + card.getTitle() + " " + index);
+        }
+
+        @Override
+        public void cardChanged(Card card) {
+            events.add("changed " + card.getTitle());
+        }
+
+        @Override
+        public void cardsReplaced(Column column) {
+            events.add("replaced " + column.getName());
+        }
+
+        @Override
+        public void columnAdded(KanbanBoard board, Column column, int index) {
+            events.add("added " + column.getName() + " " + index);
+        }
+
+        @Override
+        public void columnRemoved(KanbanBoard board, Column column, int index) {
+            events.add("removed column " + column.getName() + " " + index);
+        }
+
+        @Override
+        public void columnRenamed(Column column) {
+            events.add("renamed " + column.getName());
+        }
+    }
+}
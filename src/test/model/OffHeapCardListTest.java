@@ -0,0 +1,260 @@
+package model;
+
+import model.exceptions.ColumnNotInBoardException;
+import model.exceptions.DuplicateColumnException;
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapCardListTest {
+    private KanbanBoard board;
+    private Column column;
+    private Card card1;
+    private Card card2;
+
+    @BeforeEach
+    public void setup() {
+        board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+        column = new Column("Archive", CardStorage.OFF_HEAP);
+
+        try {
+            board.addColumn(column);
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        card1 = makeCardOrFail("Card 1", "Jane Doe", Set.of("tag1", "tag2"), 1);
+        card2 = makeCardOrFail("Card 2", "John Doe", Set.of(), 2);
+
+        column.addCard(card1);
+        column.addCard(card2);
+    }
+
+    @Test
+    public void testConstructor() {
+        Column column = new Column("Archive", CardStorage.OFF_HEAP);
+
+        assertEquals(CardStorage.OFF_HEAP, column.getStorage());
+        assertTrue(column.getCards() instanceof OffHeapCardList);
+        assertTrue(column.getCards().isEmpty());
+    }
+
+    @Test
+    public void testGetSameCardWhileReachable() {
+        assertEquals(2, column.getCards().size());
+        assertSame(card1, column.getCards().get(0));
+        assertSame(card2, column.getCards().get(1));
+        assertEquals(0, column.getCards().indexOf(card1));
+        assertEquals(1, column.getCards().indexOf(card2));
+    }
+
+    @Test
+    public void testMaterializedCardMatchesOriginal() {
+        OffHeapCardList cards = (OffHeapCardList) column.getCards();
+
+        // Nothing holds on to the new card, so once it is collected the record has to be decoded
+        column.addCard(makeCardOrFail("Card 3", "Jane Doe", Set.of("tag2", "tag3"), 3));
+        waitUntilMaterializedCount(cards, 2);
+
+        Card decoded = cards.get(2);
+
+        assertEquals("Card 3", decoded.getTitle());
+        assertEquals("Description", decoded.getDescription());
+        assertSame(board.getStringPool().getAssignee("Jane Doe"), decoded.getAssigneeHandle());
+        assertEquals(CardType.TASK, decoded.getType());
+        assertEquals(Set.of("tag2", "tag3"), decoded.getTags());
+        assertEquals(3, decoded.getStoryPoints());
+        assertEquals(column, decoded.getContainingColumn());
+    }
+
+    @Test
+    public void testMaterializingKeepsVersion() {
+        OffHeapCardList cards = (OffHeapCardList) column.getCards();
+
+        column.addCard(makeCardOrFail("Card 3", "Jane Doe", Set.of(), 3));
+        waitUntilMaterializedCount(cards, 2);
+
+        // Being materialized is not a change to the card
+        assertEquals(0, cards.get(2).getVersion());
+    }
+
+    @Test
+    public void testStatisticsAndSnapshotsDoNotMaterialize() {
+        OffHeapCardList cards = (OffHeapCardList) column.getCards();
+
+        column.addCard(makeCardOrFail("Card 3", "Jane Doe", Set.of("tag2", "tag3"), 3));
+        waitUntilMaterializedCount(cards, 2);
+
+        assertEquals(6, board.getTotalStoryPoints());
+        assertEquals(3, board.getCardCount(true));
+        assertEquals(1, board.getColumnarStore().getCardCountWithTag("tag3"));
+        assertTrue(column.toJson().similar(column.snapshot().toJson()));
+
+        CardSnapshot snapshot = board.snapshot().getColumns().get(0).getCards().get(2);
+
+        assertEquals("Card 3", snapshot.getTitle());
+        assertSame(board.getStringPool().getAssignee("Jane Doe"), snapshot.getAssigneeHandle());
+        assertEquals(Set.of("tag2", "tag3"), snapshot.getTags());
+        assertEquals(3, snapshot.getStoryPoints());
+        assertEquals(2, cards.getMaterializedCount());
+
+        // The live card is only materialized once it is asked for
+        Card card = snapshot.getCard();
+
+        assertEquals(3, cards.getMaterializedCount());
+        assertSame(card, cards.get(2));
+        assertSame(column, card.getContainingColumn());
+    }
+
+    @Test
+    public void testSnapshotOfRemovedCard() {
+        OffHeapCardList cards = (OffHeapCardList) column.getCards();
+
+        column.addCard(makeCardOrFail("Card 3", "Jane Doe", Set.of(), 3));
+        waitUntilMaterializedCount(cards, 2);
+
+        CardSnapshot snapshot = column.snapshot().getCards().get(2);
+
+        cards.remove(2);
+        column.addCard(makeCardOrFail("Card 4", "Jane Doe", Set.of(), 4));
+
+        // The slot of the removed card has been reused, but the snapshot does not give its new card
+        assertNull(snapshot.getCard());
+        assertEquals("Card 3", snapshot.getTitle());
+    }
+
+    @Test
+    public void testRemoveCard() {
+        column.removeCard(card1);
+
+        assertEquals(1, column.getCards().size());
+        assertFalse(column.getCards().contains(card1));
+        assertSame(card2, column.getCards().get(0));
+        assertNull(card1.getContainingColumn());
+
+        // Removing a card not in the column does nothing
+        column.removeCard(card1);
+
+        assertEquals(1, column.getCards().size());
+    }
+
+    @Test
+    public void testCardChangesAreStored() {
+        try {
+            card2.setStoryPoints(20);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(21, column.getTotalStoryPoints());
+        assertEquals(21, board.getTotalStoryPoints());
+    }
+
+    @Test
+    public void testCompaction() {
+        OffHeapCardList cards = (OffHeapCardList) column.getCards();
+        String largeDescription = "x".repeat(64 * 1024);
+
+        for (int i = 0; i < 40; i++) {
+            Card card = makeCardOrFail("Large card " + i, "Jane Doe", Set.of(), 1);
+            card.setDescription(largeDescription);
+            column.addCard(card);
+            column.removeCard(card);
+        }
+
+        assertEquals(2, cards.size());
+        assertTrue(cards.getReservedBytes() < 2L * 1024 * 1024);
+        assertTrue(cards.getLiveBytes() < 1024);
+        assertSame(card1, cards.get(0));
+        assertEquals(3, column.getTotalStoryPoints());
+    }
+
+    @Test
+    public void testClear() {
+        OffHeapCardList cards = (OffHeapCardList) column.getCards();
+
+        cards.clear();
+
+        assertTrue(cards.isEmpty());
+        assertEquals(0, cards.getLiveBytes());
+        assertEquals(0, cards.getMaterializedCount());
+    }
+
+    @Test
+    public void testBatchesFiltersAndBindingDoNotMaterialize() {
+        Column archive = new Column("Large archive", CardStorage.OFF_HEAP);
+        OffHeapCardList cards = (OffHeapCardList) archive.getCards();
+
+        for (int i = 0; i < 1000; i++) {
+            Card card = makeCardOrFail("Archived " + i, "Jane Doe", Set.of(i == 500 ? "rare" : "common"), 1);
+            card.setType(i == 500 ? CardType.ISSUE : CardType.TASK);
+            archive.addCard(card);
+        }
+
+        waitUntilMaterializedCount(cards, 0);
+
+        try {
+            board.addColumn(archive);
+        } catch (DuplicateColumnException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(0, cards.getMaterializedCount());
+
+        List<Card> issues = archive.getCardsOfType(CardType.ISSUE);
+
+        assertEquals(1, issues.size());
+        assertEquals("Archived 500", issues.get(0).getTitle());
+        assertEquals(1, cards.getMaterializedCount());
+
+        List<Card> rareCards = archive.getCardsWithTags(TagFilter.anyOf(Set.of("rare")));
+
+        assertEquals(issues, rareCards);
+        assertEquals(1, cards.getMaterializedCount());
+
+        CardBatch batch = new CardBatch();
+        batch.move(issues.get(0), column);
+
+        try {
+            board.applyBatch(batch);
+        } catch (ColumnNotInBoardException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(0, cards.getMaterializedCount());
+        assertEquals(999, cards.size());
+        assertSame(column, issues.get(0).getContainingColumn());
+        assertEquals(999, archive.getTotalStoryPoints());
+    }
+
+    private void waitUntilMaterializedCount(OffHeapCardList cards, int count) {
+        // Collected references are enqueued by another thread, so give it some time
+        for (int i = 0; i < 200 && cards.getMaterializedCount() > count; i++) {
+            System.gc();
+
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                fail("The test should not have been interrupted");
+            }
+        }
+
+        assertEquals(count, cards.getMaterializedCount());
+    }
+
+    private Card makeCardOrFail(String title, String assignee, Set<String> tags, int storyPoints) {
+        try {
+            return new Card(title, "Description", assignee, CardType.TASK, new HashSet<>(tags), storyPoints);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringPoolTest {
+    private StringPool pool;
+
+    @BeforeEach
+    public void setup() {
+        pool = new StringPool();
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals(0, pool.size());
+        assertEquals(0, pool.getAssigneeCount());
+    }
+
+    @Test
+    public void testCanonicalize() {
+        String first = new String("tag1");
+        String second = new String("tag1");
+
+        assertSame(first, pool.canonicalize(first));
+        assertSame(first, pool.canonicalize(second));
+        assertEquals("tag2", pool.canonicalize("tag2"));
+
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void testGetAssignee() {
+        Assignee jane = pool.getAssignee(new String("Jane Doe"));
+
+        assertEquals("Jane Doe", jane.getName());
+        assertSame(jane, pool.getAssignee(new String("Jane Doe")));
+        assertNotSame(jane, pool.getAssignee("John Doe"));
+
+        // The assignee names are pooled as well
+        assertSame(jane.getName(), pool.canonicalize(new String("Jane Doe")));
+        assertEquals(2, pool.getAssigneeCount());
+    }
+}
@@ -0,0 +1,90 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagDictionaryTest {
+    private TagDictionary dictionary;
+
+    @BeforeEach
+    public void setup() {
+        dictionary = new TagDictionary();
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals(0, dictionary.size());
+        assertEquals(TagDictionary.NO_ID, dictionary.getId("tag1"));
+    }
+
+    @Test
+    public void testGetOrAssignId() {
+        assertEquals(0, dictionary.getOrAssignId("tag1"));
+        assertEquals(1, dictionary.getOrAssignId("tag2"));
+
+        // Existing tag keeps its id
+        assertEquals(0, dictionary.getOrAssignId("tag1"));
+
+        assertEquals(2, dictionary.size());
+        assertEquals("tag1", dictionary.getTag(0));
+        assertEquals("tag2", dictionary.getTag(1));
+    }
+
+    @Test
+    public void testGetId() {
+        dictionary.getOrAssignId("tag1");
+
+        assertEquals(0, dictionary.getId("tag1"));
+        assertEquals(TagDictionary.NO_ID, dictionary.getId("tag2"));
+
+        // Looking up a tag should not add it
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void testGetIdWhileAssigning() {
+        Thread assigner = new Thread(() -> {
+            for (int i = 0; i < 10000; i++) {
+                dictionary.getOrAssignId("tag" + i);
+            }
+        });
+
+        assigner.start();
+
+        // Every id found while tags are being assigned is already usable
+        for (int i = 0; i < 10000; i++) {
+            int id = dictionary.getId("tag" + i);
+
+            if (id != TagDictionary.NO_ID) {
+                assertEquals("tag" + i, dictionary.getTag(id));
+            }
+        }
+
+        try {
+            assigner.join();
+        } catch (InterruptedException e) {
+            fail("The test should not have been interrupted");
+        }
+
+        assertEquals(9999, dictionary.getId("tag9999"));
+        assertEquals(TagDictionary.NO_ID, dictionary.getId(null));
+    }
+
+    @Test
+    public void testEncode() {
+        dictionary.getOrAssignId("tag1");
+
+        BitSet bits = dictionary.encode(List.of("tag2", "tag3"));
+
+        assertEquals(3, dictionary.size());
+        assertFalse(bits.get(0));
+        assertTrue(bits.get(1));
+        assertTrue(bits.get(2));
+        assertEquals(2, bits.cardinality());
+    }
+}
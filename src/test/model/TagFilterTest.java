@@ -0,0 +1,85 @@
+package model;
+
+import model.exceptions.NegativeStoryPointsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagFilterTest {
+    private Card encodedCard;
+    private Card plainCard;
+
+    @BeforeEach
+    public void setup() {
+        TagDictionary dictionary = new TagDictionary();
+
+        try {
+            encodedCard = new Card("Card 1", "", "", CardType.TASK,
+                                   new TagSet(dictionary, List.of("tag1", "tag2")), 1);
+            plainCard = new Card("Card 2", "", "", CardType.TASK,
+                                 new HashSet<>(List.of("tag1", "tag2")), 1);
+        } catch (NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+
+    @Test
+    public void testAllOf() {
+        assertMatchesBoth(true, TagFilter.allOf(Set.of("tag1")));
+        assertMatchesBoth(true, TagFilter.allOf(Set.of("tag1", "tag2")));
+        assertMatchesBoth(false, TagFilter.allOf(Set.of("tag1", "tag3")));
+
+        // No tags to match means every card matches
+        assertMatchesBoth(true, TagFilter.allOf(Set.of()));
+    }
+
+    @Test
+    public void testAnyOf() {
+        assertMatchesBoth(true, TagFilter.anyOf(Set.of("tag1")));
+        assertMatchesBoth(true, TagFilter.anyOf(Set.of("tag2", "tag3")));
+        assertMatchesBoth(false, TagFilter.anyOf(Set.of("tag3", "tag4")));
+
+        // No tags to match means no card matches
+        assertMatchesBoth(false, TagFilter.anyOf(Set.of()));
+    }
+
+    @Test
+    public void testMatchesAcrossDictionaries() {
+        TagFilter filter = TagFilter.allOf(Set.of("tag1"));
+
+        assertTrue(filter.matches(encodedCard));
+
+        // A card using another dictionary may assign different ids to the same tags
+        TagDictionary otherDictionary = new TagDictionary();
+        otherDictionary.getOrAssignId("tag2");
+        encodedCard.setTags(new TagSet(otherDictionary, List.of("tag1")));
+
+        assertTrue(filter.matches(encodedCard));
+    }
+
+    @Test
+    public void testMatchesAfterTagAddedToDictionary() {
+        TagFilter allOf = TagFilter.allOf(Set.of("tag1", "tag3"));
+        TagFilter anyOf = TagFilter.anyOf(Set.of("tag3"));
+
+        assertFalse(allOf.matches(encodedCard));
+        assertFalse(anyOf.matches(encodedCard));
+
+        // The filters were first used while tag3 had no id in the dictionary
+        TagDictionary dictionary = ((TagSet) encodedCard.getTags()).getDictionary();
+        encodedCard.setTags(new TagSet(dictionary, List.of("tag1", "tag2", "tag3")));
+
+        assertTrue(allOf.matches(encodedCard));
+        assertTrue(anyOf.matches(encodedCard));
+    }
+
+    private void assertMatchesBoth(boolean expected, TagFilter filter) {
+        assertEquals(expected, filter.matches(encodedCard));
+        assertEquals(expected, filter.matches(plainCard));
+    }
+}
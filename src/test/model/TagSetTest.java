@@ -0,0 +1,100 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagSetTest {
+    private TagDictionary dictionary;
+    private TagSet tags;
+
+    @BeforeEach
+    public void setup() {
+        dictionary = new TagDictionary();
+        dictionary.getOrAssignId("unused_tag");
+
+        tags = new TagSet(dictionary, List.of("tag1", "tag2"));
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals(2, tags.size());
+        assertEquals(dictionary, tags.getDictionary());
+        assertEquals(3, dictionary.size());
+    }
+
+    @Test
+    public void testContains() {
+        assertTrue(tags.contains("tag1"));
+        assertTrue(tags.contains("tag2"));
+        assertFalse(tags.contains("unused_tag"));
+        assertFalse(tags.contains("unknown_tag"));
+        assertFalse(tags.contains(1));
+    }
+
+    @Test
+    public void testAdd() {
+        assertTrue(tags.add("tag3"));
+        assertFalse(tags.add("tag3"));
+        assertTrue(tags.add("unused_tag"));
+
+        assertEquals(4, tags.size());
+        assertTrue(tags.contains("tag3"));
+        assertTrue(tags.contains("unused_tag"));
+    }
+
+    @Test
+    public void testRemove() {
+        assertTrue(tags.remove("tag1"));
+        assertFalse(tags.remove("tag1"));
+        assertFalse(tags.remove("unknown_tag"));
+
+        assertEquals(1, tags.size());
+        assertFalse(tags.contains("tag1"));
+    }
+
+    @Test
+    public void testIterator() {
+        Set<String> iterated = new HashSet<>();
+
+        for (String tag : tags) {
+            iterated.add(tag);
+        }
+
+        assertEquals(Set.of("tag1", "tag2"), iterated);
+
+        Iterator<String> iterator = tags.iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(1, tags.size());
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(Set.of("tag1", "tag2"), tags);
+        assertEquals(tags, new HashSet<>(List.of("tag1", "tag2")));
+        assertNotEquals(Set.of("tag1"), tags);
+    }
+
+    @Test
+    public void testContainsIds() {
+        BitSet tag1 = new BitSet();
+        tag1.set(dictionary.getId("tag1"));
+
+        BitSet tag1AndUnused = (BitSet) tag1.clone();
+        tag1AndUnused.set(dictionary.getId("unused_tag"));
+
+        assertTrue(tags.containsAllIds(tag1));
+        assertFalse(tags.containsAllIds(tag1AndUnused));
+        assertTrue(tags.containsAnyIds(tag1AndUnused));
+        assertFalse(tags.containsAnyIds(new BitSet()));
+    }
+}
@@ -34,6 +34,7 @@ public class JsonTest {
 
     protected void assertColumnEqual(Column column1, Column column2) {
         assertEquals(column1.getName(), column2.getName());
+        assertEquals(column1.getStorage(), column2.getStorage());
 
         assertEquals(column1.getCards().size(), column2.getCards().size());
 
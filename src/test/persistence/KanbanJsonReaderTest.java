@@ -4,8 +4,12 @@ import model.*;
 import model.exceptions.*;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -102,6 +106,10 @@ public class KanbanJsonReaderTest extends JsonTest {
 
             assertKanbanBoardEqual(board1, readBoard1);
             assertKanbanBoardEqual(board2, readBoard2);
+
+            Card readCard = readBoard2.getColumn(0).getCards().get(1);
+
+            assertSame(readBoards.getStringPool().getAssignee("Jane Doe"), readCard.getAssigneeHandle());
         } catch (IOException | CorruptedSaveDataException e) {
             fail("An exception should not have been thrown");
         }
@@ -138,4 +146,86 @@ public class KanbanJsonReaderTest extends JsonTest {
             // This exception should have been thrown
         }
     }
+
+    @Test
+    public void testReadBoardsReportsProgress() {
+        final String TEST_FILE = "./data/tests/read/testReadBoards.json";
+
+        KanbanJsonReader reader = new KanbanJsonReader(TEST_FILE);
+        List<String> boardsRead = new ArrayList<>();
+        long[] lastBytesRead = {0, 0};
+
+        try {
+            reader.read(new ReadProgressListener() {
+                @Override
+                public void bytesRead(long bytesRead, long totalBytes) {
+                    assertTrue(bytesRead >= lastBytesRead[0]);
+                    lastBytesRead[0] = bytesRead;
+                    lastBytesRead[1] = totalBytes;
+                }
+
+                @Override
+                public void boardRead(KanbanBoard board, int boardCount, int cardCount) {
+                    boardsRead.add(board.getName() + " " + boardCount + " " + cardCount);
+                }
+            });
+        } catch (IOException | CorruptedSaveDataException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(new File(TEST_FILE).length(), lastBytesRead[0]);
+        assertEquals(lastBytesRead[0], lastBytesRead[1]);
+        assertEquals(2, boardsRead.size());
+        assertTrue(boardsRead.get(0).startsWith("Kanban Board 1 1 "));
+        assertTrue(boardsRead.get(1).startsWith("Kanban Board 2 2 "));
+    }
+
+    @Test
+    public void testReadBoardsInterruptedException() {
+        final String TEST_FILE = "./data/tests/read/testReadBoards.json";
+
+        KanbanJsonReader reader = new KanbanJsonReader(TEST_FILE);
+
+        Thread.currentThread().interrupt();
+
+        try {
+            reader.read();
+            fail("An exception should have been thrown");
+        } catch (InterruptedIOException e) {
+            // This exception should have been thrown
+        } catch (IOException | CorruptedSaveDataException e) {
+            fail("Wrong exception thrown");
+        } finally {
+            // clear the interrupt so it does not affect other tests
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testReadBoardsInterruptedWhileDecoding() {
+        final String TEST_FILE = "./data/tests/read/testReadBoards.json";
+
+        KanbanJsonReader reader = new KanbanJsonReader(TEST_FILE);
+        List<String> boardsRead = new ArrayList<>();
+
+        try {
+            reader.read(new ReadProgressListener() {
+                @Override
+                public void boardRead(KanbanBoard board, int boardCount, int cardCount) {
+                    boardsRead.add(board.getName());
+                    Thread.currentThread().interrupt();
+                }
+            });
+            fail("An exception should have been thrown");
+        } catch (InterruptedIOException e) {
+            // This exception should have been thrown
+        } catch (IOException | CorruptedSaveDataException e) {
+            fail("Wrong exception thrown");
+        } finally {
+            // clear the interrupt so it does not affect other tests
+            Thread.interrupted();
+        }
+
+        assertEquals(1, boardsRead.size());
+    }
 }
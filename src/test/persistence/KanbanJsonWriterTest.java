@@ -6,7 +6,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -111,4 +113,85 @@ public class KanbanJsonWriterTest extends JsonTest {
         assertKanbanBoardEqual(board1, readBoard1);
         assertKanbanBoardEqual(board2, readBoard2);
     }
+
+    @Test
+    public void testWriteBoardsSnapshotNoException() {
+        final String TEST_FILE = "./data/tests/write/testWriteBoardsSnapshot.json";
+
+        KanbanJsonWriter writer = new KanbanJsonWriter(TEST_FILE);
+        KanbanBoard board = new KanbanBoard("Kanban Board", "Kanban board description", "Done");
+
+        try {
+            board.addDefaultColumns();
+            Card card = new Card("My card", "My card description", "John Doe", CardType.TASK, new HashSet<>(), 3);
+            board.moveCard(card, board.getColumn(0));
+        } catch (DuplicateColumnException | NegativeStoryPointsException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        boards.addBoard(board);
+        KanbanBoardListSnapshot snapshot = boards.snapshot();
+
+        // Edits after taking the snapshot are not saved
+        board.getColumn(0).getCards().get(0).setTitle("Edited card");
+
+        try {
+            writer.open();
+        } catch (IOException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        writer.writeBoards(snapshot);
+        writer.close();
+
+        KanbanJsonReader reader = new KanbanJsonReader(TEST_FILE);
+        KanbanBoardList readBoards = null;
+
+        try {
+            readBoards = reader.read();
+        } catch (IOException | CorruptedSaveDataException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        assertEquals(1, readBoards.size());
+        assertEquals("My card", readBoards.getBoard(0).getColumn(0).getCards().get(0).getTitle());
+    }
+
+    @Test
+    public void testWriteBoardsSnapshotReportsProgress() {
+        final String TEST_FILE = "./data/tests/write/testWriteBoardsSnapshotProgress.json";
+
+        KanbanJsonWriter writer = new KanbanJsonWriter(TEST_FILE);
+
+        boards.addBoard(new KanbanBoard("Kanban Board 1", "Kanban board description 1", "Done"));
+        boards.addBoard(new KanbanBoard("Kanban Board 2", "Kanban board description 2", "Done"));
+
+        List<String> progress = new ArrayList<>();
+
+        try {
+            writer.open();
+        } catch (IOException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        writer.writeBoards(boards.snapshot(), new WriteProgressListener() {
+            @Override
+            public void boardWritten(int boardsWritten, int totalBoards) {
+                progress.add(boardsWritten + "/" + totalBoards);
+            }
+        });
+
+        assertFalse(writer.hasError());
+        writer.close();
+
+        assertEquals(List.of("1/2", "2/2"), progress);
+
+        KanbanJsonReader reader = new KanbanJsonReader(TEST_FILE);
+
+        try {
+            assertEquals(2, reader.read().size());
+        } catch (IOException | CorruptedSaveDataException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package tools;
+
+import model.Card;
+import model.Column;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+import model.exceptions.CorruptedSaveDataException;
+import org.junit.jupiter.api.Test;
+import persistence.KanbanJsonReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorkspaceGeneratorTest {
+
+    @Test
+    public void testConstructorExpectIllegalArgumentException() {
+        try {
+            new WorkspaceGenerator(1, 0, 10, 1);
+            fail("An exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+
+        try {
+            new WorkspaceGenerator(1, 3, 10, WorkspaceGenerator.TAG_VOCABULARY_SIZE + 1);
+            fail("An exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+    }
+
+    @Test
+    public void testGenerateBoard() {
+        KanbanBoard board = new WorkspaceGenerator(1, 4, 500, 3).generateBoard();
+
+        assertEquals("Board 0", board.getName());
+        assertEquals(4, board.getColumnCount());
+        assertEquals(500, board.getCardCount(true));
+        assertSame(board.getColumn(3), board.getCompletedColumn());
+
+        for (Column column : board.getColumns()) {
+            for (Card card : column.getCards()) {
+                assertEquals(3, card.getTags().size());
+                assertTrue(card.getStoryPoints() >= 0);
+            }
+        }
+
+        // Earlier columns are given more cards
+        assertTrue(board.getColumn(0).getCards().size() > board.getColumn(3).getCards().size());
+    }
+
+    @Test
+    public void testGenerateBoardsIsDeterministic() {
+        KanbanBoardList boards1 = new WorkspaceGenerator(7, 3, 50, 2).generateBoards(2);
+        KanbanBoardList boards2 = new WorkspaceGenerator(7, 3, 50, 2).generateBoards(2);
+        KanbanBoardList boards3 = new WorkspaceGenerator(8, 3, 50, 2).generateBoards(2);
+
+        assertEquals(2, boards1.size());
+        assertBoardsEqual(boards1.getBoard(0), boards2.getBoard(0));
+        assertBoardsEqual(boards1.getBoard(1), boards2.getBoard(1));
+
+        assertNotEquals(boards1.getBoard(0).getColumn(0).getCards().get(0).getTitle(),
+                        boards3.getBoard(0).getColumn(0).getCards().get(0).getTitle());
+    }
+
+    @Test
+    public void testWriteBoardsMatchesGeneratedBoards() {
+        final String TEST_FILE = "./data/tests/write/testWriteGeneratedBoards.json";
+
+        KanbanBoardList generated = new WorkspaceGenerator(3, 3, 20, 2).generateBoards(2);
+
+        try {
+            new WorkspaceGenerator(3, 3, 20, 2).writeBoards(Paths.get(TEST_FILE), 2);
+
+            KanbanBoardList read = new KanbanJsonReader(TEST_FILE).read();
+
+            assertEquals(2, read.size());
+            assertBoardsEqual(generated.getBoard(0), read.getBoard(0));
+            assertBoardsEqual(generated.getBoard(1), read.getBoard(1));
+        } catch (IOException | CorruptedSaveDataException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+
+    @Test
+    public void testWriteBoardsOfSize() {
+        final String TEST_FILE = "./data/tests/write/testWriteGeneratedBoardsOfSize.json";
+        final long TARGET_BYTES = 16 * 1024;
+
+        try {
+            Path file = Paths.get(TEST_FILE);
+
+            new WorkspaceGenerator(5, 4, 10, 2).writeBoardsOfSize(file, TARGET_BYTES);
+
+            assertTrue(Files.size(file) >= TARGET_BYTES);
+            assertTrue(new KanbanJsonReader(TEST_FILE).read().size() > 1);
+        } catch (IOException | CorruptedSaveDataException e) {
+            fail("An exception should not have been thrown");
+        }
+    }
+
+    private void assertBoardsEqual(KanbanBoard expected, KanbanBoard actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getCompletedColumnName(), actual.getCompletedColumnName());
+        assertEquals(expected.getColumnCount(), actual.getColumnCount());
+
+        for (int i = 0; i < expected.getColumnCount(); i++) {
+            Column expectedColumn = expected.getColumn(i);
+            Column actualColumn = actual.getColumn(i);
+
+            assertEquals(expectedColumn.getName(), actualColumn.getName());
+            assertEquals(expectedColumn.getCards().size(), actualColumn.getCards().size());
+
+            for (int j = 0; j < expectedColumn.getCards().size(); j++) {
+                assertCardsEqual(expectedColumn.getCards().get(j), actualColumn.getCards().get(j));
+            }
+        }
+    }
+
+    private void assertCardsEqual(Card expected, Card actual) {
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getAssignee(), actual.getAssignee());
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getTags(), actual.getTags());
+        assertEquals(expected.getStoryPoints(), actual.getStoryPoints());
+    }
+}
@@ -0,0 +1,78 @@
+package tools;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZipfDistributionTest {
+
+    @Test
+    public void testConstructor() {
+        ZipfDistribution distribution = new ZipfDistribution(3, 1);
+
+        assertEquals(3, distribution.getSize());
+
+        // Probabilities are proportional to 1, 1/2 and 1/3
+        assertEquals(6.0 / 11, distribution.getProbability(0), 1e-9);
+        assertEquals(3.0 / 11, distribution.getProbability(1), 1e-9);
+        assertEquals(2.0 / 11, distribution.getProbability(2), 1e-9);
+    }
+
+    @Test
+    public void testConstructorExpectIllegalArgumentException() {
+        try {
+            new ZipfDistribution(0, 1);
+            fail("An exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+
+        try {
+            new ZipfDistribution(10, -1);
+            fail("An exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+    }
+
+    @Test
+    public void testUniformWithZeroExponent() {
+        ZipfDistribution distribution = new ZipfDistribution(4, 0);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0.25, distribution.getProbability(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testSample() {
+        ZipfDistribution distribution = new ZipfDistribution(10, 1);
+        Random random = new Random(1);
+        int[] counts = new int[10];
+
+        for (int i = 0; i < 100000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(distribution.getProbability(i), counts[i] / 100000.0, 0.01);
+        }
+
+        // Lower ranks are chosen more often
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[9]);
+    }
+
+    @Test
+    public void testSampleIsDeterministic() {
+        ZipfDistribution distribution = new ZipfDistribution(100, 1.1);
+        Random random1 = new Random(7);
+        Random random2 = new Random(7);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(distribution.sample(random1), distribution.sample(random2));
+        }
+    }
+}
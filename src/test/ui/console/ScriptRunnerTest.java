@@ -0,0 +1,211 @@
+package ui.console;
+
+import metrics.MetricsRegistry;
+import model.Card;
+import model.CardType;
+import model.Column;
+import model.KanbanBoard;
+import model.KanbanBoardList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScriptRunnerTest {
+    private KanbanBoardList boards;
+    private StringWriter output;
+    private ScriptRunner runner;
+
+    @BeforeEach
+    public void setup() {
+        boards = new KanbanBoardList();
+        output = new StringWriter();
+        runner = new ScriptRunner(boards, new PrintWriter(output));
+    }
+
+    @Test
+    public void testSplitWords() {
+        try {
+            assertEquals(List.of("card", "add", "Backlog", "Say \"hi\"", "tags=a,b", ""),
+                         ScriptRunner.splitWords("card  add \"Backlog\" \"Say \\\"hi\\\"\" tags=a,b \"\""));
+        } catch (ScriptException e) {
+            fail("An exception should not have been thrown");
+        }
+
+        try {
+            ScriptRunner.splitWords("card add \"Backlog");
+            fail("An exception should have been thrown");
+        } catch (ScriptException e) {
+            // pass
+        }
+    }
+
+    @Test
+    public void testCreateBoardAndAddCards() {
+        run("# A comment",
+            "",
+            "board create Project \"A project\"",
+            "column add Review",
+            "card add \"Backlog\" Login description=\"Fix it\" assignee=Jane type=issue points=3 tags=bug,auth",
+            "card add \"In Progress\" Report");
+
+        assertEquals(1, boards.size());
+        assertEquals(4, runner.getCommandCount());
+        assertFalse(runner.isSaveRequested());
+
+        KanbanBoard board = boards.getBoards().get(0);
+        assertEquals("Project", board.getName());
+        assertEquals("A project", board.getDescription());
+        assertEquals("Done", board.getCompletedColumnName());
+        assertEquals("Review", board.getColumn(board.getColumns().size() - 1).getName());
+
+        Card login = getCard(board, "Backlog", 0);
+        assertEquals("Fix it", login.getDescription());
+        assertEquals("Jane", login.getAssignee());
+        assertEquals(CardType.ISSUE, login.getType());
+        assertEquals(3, login.getStoryPoints());
+        assertEquals(Set.of("bug", "auth"), login.getTags());
+
+        assertEquals("Report", getCard(board, "In Progress", 0).getTitle());
+    }
+
+    @Test
+    public void testMoveAndEditCards() {
+        run("board create Project",
+            "card add \"Backlog\" Login",
+            "card move Login Done",
+            "card edit Login title=\"Login page\" points=5 tags=design type=\"user story\"",
+            "card edit \"Login page\" assignee=John");
+
+        KanbanBoard board = boards.getBoards().get(0);
+        Card login = getCard(board, "Done", 0);
+
+        assertTrue(getColumn(board, "Backlog").getCards().isEmpty());
+        assertEquals("Login page", login.getTitle());
+        assertEquals("John", login.getAssignee());
+        assertEquals(CardType.USER_STORY, login.getType());
+        assertEquals(5, login.getStoryPoints());
+        assertEquals(Set.of("design"), login.getTags());
+        assertEquals(5, board.getCompletedStoryPoints());
+    }
+
+    @Test
+    public void testQueryAndStats() {
+        run("board create Project",
+            "card add \"Backlog\" \"Login fails\" points=3",
+            "card add Done \"Login page\" points=5",
+            "card add Done Report",
+            "query login",
+            "stats",
+            "save");
+
+        String[] lines = output.toString().split("\\R");
+
+        assertEquals("Backlog\tLogin fails", lines[0]);
+        assertEquals("Done\tLogin page", lines[1]);
+        assertEquals("2 matching cards", lines[2]);
+        assertTrue(lines[3].startsWith("Project: 3 cards (1 in progress, 2 completed), 8 story points (5 completed)"));
+        assertTrue(runner.isSaveRequested());
+    }
+
+    @Test
+    public void testMetrics() {
+        MetricsRegistry.getInstance().counter("script.test").add(3);
+
+        run("metrics");
+
+        assertTrue(output.toString().contains("script.test"));
+        assertTrue(output.toString().matches("(?s).*counter +script\\.test +3\\R.*"));
+    }
+
+    @Test
+    public void testExistingBoards() {
+        KanbanBoard board = new KanbanBoard("Existing", "", "Done");
+        Column column = new Column("Backlog");
+
+        try {
+            board.addColumn(column);
+            board.addColumn(new Column("Done"));
+            board.moveCard(new Card("Login", "", "", CardType.TASK, Set.of(), 1), column);
+        } catch (Exception e) {
+            fail("An exception should not have been thrown");
+        }
+
+        boards.addBoard(board);
+        runner = new ScriptRunner(boards, new PrintWriter(output));
+
+        run("card move Login Done");
+
+        assertEquals("Login", getCard(board, "Done", 0).getTitle());
+    }
+
+    @Test
+    public void testErrors() {
+        assertError("Line 1: There is no current board, create one with 'board create <name>'",
+                    "column add Review");
+        assertError("Line 2: Unknown command 'remove'",
+                    "board create Project",
+                    "remove Login");
+        assertError("Line 1: There is no board named 'Missing'",
+                    "board use Missing");
+        assertError("Line 1: There is no column named 'Missing'",
+                    "card add Missing Login");
+        assertError("Line 1: There is no card titled 'Missing'",
+                    "card move Missing Done");
+        assertError("Line 1: Story points cannot be negative",
+                    "card add \"Backlog\" Login points=-1");
+        assertError("Line 2: Unknown card option 'colour'",
+                    "card add \"Backlog\" Login",
+                    "card edit Login colour=red");
+        assertError("Line 2: There is already a board named 'Project'",
+                    "board use Project",
+                    "board create Project");
+
+        // Cards added before the failing line are kept
+        assertEquals(1, boards.getBoards().get(0).getCardCount(true));
+    }
+
+    // EFFECTS: runs the lines as a script, failing the test if the script fails
+    private void run(String... lines) {
+        try {
+            runner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+        } catch (IOException | ScriptException e) {
+            fail("An exception should not have been thrown: " + e.getMessage());
+        }
+    }
+
+    // EFFECTS: runs the lines as a script, failing the test unless the script fails with the message
+    private void assertError(String message, String... lines) {
+        try {
+            runner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+            fail("An exception should have been thrown");
+        } catch (IOException e) {
+            fail("An IOException should not have been thrown");
+        } catch (ScriptException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+    private Column getColumn(KanbanBoard board, String name) {
+        for (Column column : board.getColumns()) {
+            if (column.getName().equals(name)) {
+                return column;
+            }
+        }
+
+        fail("There should be a column named " + name);
+        return null;
+    }
+
+    private Card getCard(KanbanBoard board, String columnName, int index) {
+        return getColumn(board, columnName).getCards().get(index);
+    }
+}